@@ -0,0 +1,142 @@
+package org.example.greduatebe.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 한 건당 로깅 비용 벤치마크
+ * - legacy: 변경 전 방식 (StompHeaderAccessor.wrap + SEND 프레임당 INFO 5줄 + 컨트롤러/서비스 INFO 4줄)
+ * - verbose: 프레임당 INFO 한 줄(payload 포함) + 요약 한 줄
+ * - production: 샘플링된 프레임 로그 + 요약 한 줄
+ * 출력은 버리는 스트림으로 보내 포맷/인코딩/appender 비용만 측정하며, appender는 동기/비동기를 비교합니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class StompFrameLoggingBenchmark {
+
+    private static final Logger LEGACY_LOG = LoggerFactory.getLogger("bench.legacy");
+    private static final Logger EVENT_SUMMARY = LoggerFactory.getLogger("mission.event.summary");
+
+    private static final String PAYLOAD = """
+            {"eventType":"page_view","timestamp":"2025-01-15T10:30:00.123","sessionId":"550e8400-e29b-41d4-a716-446655440000",\
+            "attemptId":"attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f",\
+            "data":{"page":"/portfolio/create","referrer":"/home","duration":5234,"scrollDepth":75,"isMissionRelevant":true}}""";
+
+    @Param({"legacy", "verbose", "production"})
+    public String mode;
+
+    @Param({"sync", "async"})
+    public String appender;
+
+    private WebSocketChannelInterceptor interceptor;
+    private Message<byte[]> sendFrame;
+    private Appender<ILoggingEvent> benchAppender;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSS} %5level [%thread] %logger{40} : %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(sink);
+            async.start();
+            benchAppender = async;
+        } else {
+            benchAppender = sink;
+        }
+
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(benchAppender);
+        root.setLevel(Level.INFO);
+
+        String telemetryMode = "production".equals(mode) ? "production" : "verbose";
+        interceptor = new WebSocketChannelInterceptor(new TelemetryLogging(telemetryMode, 0.01));
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/app/mission/event");
+        accessor.setSessionId("bench-session");
+        accessor.setLeaveMutable(true);
+        sendFrame = MessageBuilder.createMessage(PAYLOAD.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    @TearDown
+    public void tearDown() {
+        benchAppender.stop();
+    }
+
+    @Benchmark
+    public Object perEventLogging() {
+        if ("legacy".equals(mode)) {
+            return legacyPerEvent(sendFrame);
+        }
+
+        Message<?> result = interceptor.preSend(sendFrame, null);
+        EVENT_SUMMARY.info("result=ack eventType={} attemptId={} eventId={} latencyMs={}",
+                "page_view", "attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f", "event_0123456789abcdef0123456789abcdef", 12L);
+        return result;
+    }
+
+    /**
+     * 변경 전 로깅 경로 재현
+     */
+    private Object legacyPerEvent(Message<?> message) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        LEGACY_LOG.info("📨 [STOMP] SEND frame received - MESSAGE FROM CLIENT");
+        LEGACY_LOG.info("   - Destination: {}", accessor.getDestination());
+        LEGACY_LOG.info("   - Session: {}", accessor.getSessionId());
+        LEGACY_LOG.info("   - Message Payload Type: {}", message.getPayload().getClass().getName());
+        LEGACY_LOG.info("   - Message Payload: {}", message.getPayload());
+
+        LEGACY_LOG.info("📥 [WebSocket] Message received - eventType: {}, attemptId: {}, sessionId: {}",
+                "page_view", "attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f", "550e8400-e29b-41d4-a716-446655440000");
+        LEGACY_LOG.info("Processing event - eventType: {}, attemptId: {}, sessionId: {}",
+                "page_view", "attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f", "550e8400-e29b-41d4-a716-446655440000");
+        LEGACY_LOG.info("✅ [WebSocket] Event processed successfully - eventId: {}, processingTime: {}ms",
+                "event_0123456789abcdef0123456789abcdef", 12L);
+        LEGACY_LOG.info("📤 [WebSocket] ACK sent to client - destination: {}, eventId: {}",
+                "/topic/mission/attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f/ack", "event_0123456789abcdef0123456789abcdef");
+        return accessor;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.greduatebe.dto.request;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 프레임 본문 → WebSocketMessage 역직렬화 벤치마크
+ * MappingJackson2MessageConverter와 동일하게 byte[]에서 바로 읽습니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WebSocketMessageDeserializationBenchmark {
+
+    private static final String PAGE_VIEW = """
+            {"eventType":"page_view","timestamp":"2025-01-15T10:30:00.123","sessionId":"550e8400-e29b-41d4-a716-446655440000",
+             "attemptId":"attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f",
+             "data":{"page":"/portfolio/create","referrer":"/home","duration":5234,"scrollDepth":75,"isMissionRelevant":true}}
+            """;
+
+    private static final String PORTFOLIO_STEP = """
+            {"eventType":"portfolio_creation_step","timestamp":"2025-01-15T10:31:12.456","sessionId":"550e8400-e29b-41d4-a716-446655440000",
+             "attemptId":"attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f",
+             "data":{"step":3,"stepName":"종목 선택","timeOnStep":42.7,"selectedStocks":["005930","000660","035420"],
+                     "totalAmount":1000000,"page":"/portfolio/create/step3"}}
+            """;
+
+    @Param({"page_view", "portfolio_creation_step"})
+    public String payload;
+
+    private byte[] body;
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() {
+        body = ("page_view".equals(payload) ? PAGE_VIEW : PORTFOLIO_STEP).getBytes(StandardCharsets.UTF_8);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        reader = objectMapper.readerFor(WebSocketMessage.class);
+    }
+
+    @Benchmark
+    public WebSocketMessage objectMapper() throws Exception {
+        return objectMapper.readValue(body, WebSocketMessage.class);
+    }
+
+    @Benchmark
+    public WebSocketMessage objectReader() throws Exception {
+        return reader.readValue(body);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.greduatebe.dto.request;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 본문 인코딩 비교 벤치마크 (JSON vs CBOR vs Smile)
+ * - decode: 프레임 본문 → WebSocketMessage (BinaryJacksonMessageConverter와 같은 ObjectMapper.copyWith 구성)
+ * - encode: WebSocketMessage → 프레임 본문
+ * 각 인코딩의 메시지 크기(bytes-on-wire)는 Setup에서 출력됩니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WebSocketMessageEncodingBenchmark {
+
+    private static final String PAGE_VIEW = """
+            {"eventType":"page_view","timestamp":"2025-01-15T10:30:00.123","sessionId":"550e8400-e29b-41d4-a716-446655440000",
+             "attemptId":"attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f","clientEventId":"c-000123",
+             "data":{"page":"/portfolio/create","referrer":"/home","duration":5234,"scrollDepth":75,"isMissionRelevant":true}}
+            """;
+
+    private static final String PORTFOLIO_STEP = """
+            {"eventType":"portfolio_creation_step","timestamp":"2025-01-15T10:31:12.456","sessionId":"550e8400-e29b-41d4-a716-446655440000",
+             "attemptId":"attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f","clientEventId":"c-000124",
+             "data":{"step":3,"stepName":"종목 선택","timeOnStep":42.7,"selectedStocks":["005930","000660","035420"],
+                     "totalAmount":1000000,"page":"/portfolio/create/step3"}}
+            """;
+
+    @Param({"json", "cbor", "smile"})
+    public String encoding;
+
+    @Param({"page_view", "portfolio_creation_step"})
+    public String payload;
+
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private WebSocketMessage message;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper jsonMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper = switch (encoding) {
+            case "cbor" -> jsonMapper.copyWith(new CBORFactory());
+            case "smile" -> jsonMapper.copyWith(new SmileFactory());
+            default -> jsonMapper;
+        };
+        reader = mapper.readerFor(WebSocketMessage.class);
+
+        String json = "page_view".equals(payload) ? PAGE_VIEW : PORTFOLIO_STEP;
+        message = jsonMapper.readValue(json.getBytes(StandardCharsets.UTF_8), WebSocketMessage.class);
+        body = mapper.writeValueAsBytes(message);
+        System.out.printf("%n[bytes-on-wire] encoding=%s payload=%s bytes=%d (json=%d)%n",
+                encoding, payload, body.length, jsonMapper.writeValueAsBytes(message).length);
+    }
+
+    @Benchmark
+    public WebSocketMessage decode() throws Exception {
+        return reader.readValue(body);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(message);
+    }
+}
@@ -0,0 +1,269 @@
+package org.example.greduatebe.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP 부하 생성기
+ * N개의 클라이언트가 각각 미션을 시작하고 /ws에 STOMP로 연결한 뒤
+ * /app/mission/event로 이벤트를 보내고 /topic/mission/{attemptId}/ack로 ACK를 받습니다.
+ * 처리량(ACK/s)과 ACK 지연 p50/p99를 출력합니다.
+ *
+ * 사용법: ./gradlew loadTest -PloadArgs="url=http://localhost:8080 clients=100 events=200 interval-ms=0"
+ * - clients=100,500,1000 처럼 여러 연결 수를 주면 차례대로 실행하고 마지막에 CSV 요약을 출력합니다
+ * - label=vt / label=platform 으로 VIRTUAL_THREADS_ENABLED on/off 실행 결과를 구분해 비교합니다
+ * - ACK에는 요청 상관관계 ID가 없으므로, 시도별 이벤트가 순서대로 처리된다는 점을 이용해 전송 순서(FIFO)로 매칭합니다
+ */
+public class StompLoadGenerator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        String baseUrl = options.getOrDefault("url", "http://localhost:8080");
+        String label = options.getOrDefault("label", "default");
+        int[] clientCounts = Arrays.stream(options.getOrDefault("clients", "50").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int eventsPerClient = Integer.parseInt(options.getOrDefault("events", "100"));
+        long intervalMs = Long.parseLong(options.getOrDefault("interval-ms", "0"));
+        long timeoutSeconds = Long.parseLong(options.getOrDefault("timeout-s", "120"));
+
+        String wsUrl = baseUrl.replaceFirst("^http", "ws") + "/ws";
+        System.out.printf("Load test [%s] - url: %s, clients: %s, events/client: %d, interval: %dms%n",
+                label, wsUrl, Arrays.toString(clientCounts), eventsPerClient, intervalMs);
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("stomp-heartbeat-");
+        scheduler.initialize();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(OBJECT_MAPPER);
+        stompClient.setMessageConverter(converter);
+        stompClient.setTaskScheduler(scheduler);
+
+        List<RoundResult> results = new ArrayList<>(clientCounts.length);
+        for (int clients : clientCounts) {
+            results.add(runRound(httpClient, stompClient, baseUrl, wsUrl, clients, eventsPerClient, intervalMs, timeoutSeconds));
+        }
+
+        // 연결 수별 요약 (가상 스레드 on/off 실행 결과를 label로 구분해 비교)
+        System.out.println("=============================================");
+        System.out.println("label,clients,sent,acked,errors,completed,throughput_acks_s,p50_ms,p99_ms");
+        for (RoundResult result : results) {
+            System.out.printf("%s,%d,%d,%d,%d,%s,%.1f,%.2f,%.2f%n", label, result.clients(), result.sent(),
+                    result.acked(), result.errors(), result.completed(), result.throughput(), result.p50Ms(), result.p99Ms());
+        }
+
+        stompClient.stop();
+        scheduler.shutdown();
+        System.exit(results.stream().allMatch(RoundResult::completed) ? 0 : 1);
+    }
+
+    private static RoundResult runRound(HttpClient httpClient, WebSocketStompClient stompClient, String baseUrl,
+                                        String wsUrl, int clients, int eventsPerClient, long intervalMs,
+                                        long timeoutSeconds) throws Exception {
+        long expected = (long) clients * eventsPerClient;
+        CountDownLatch done = new CountDownLatch((int) expected);
+        AtomicLong acked = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        List<LoadClient> loadClients = new ArrayList<>(clients);
+
+        // 1. 미션 시작 + STOMP 연결/구독
+        for (int i = 0; i < clients; i++) {
+            String sessionId = UUID.randomUUID().toString();
+            String attemptId = startMission(httpClient, baseUrl, sessionId);
+            LoadClient client = new LoadClient(sessionId, attemptId, eventsPerClient);
+
+            StompSession session = stompClient.connectAsync(wsUrl, new StompSessionHandlerAdapter() {
+            }).get(10, TimeUnit.SECONDS);
+            session.subscribe("/topic/mission/" + attemptId + "/ack", client.handler(done, acked));
+            session.subscribe("/topic/mission/" + attemptId + "/error", client.handler(done, errors));
+            client.session = session;
+            loadClients.add(client);
+        }
+        // 구독이 브로커에 등록될 시간을 확보
+        Thread.sleep(500);
+
+        // 2. 전송
+        long startNanos = System.nanoTime();
+        List<Thread> senders = new ArrayList<>(clients);
+        for (LoadClient client : loadClients) {
+            Thread sender = new Thread(() -> client.sendAll(intervalMs), "load-" + client.attemptId);
+            sender.start();
+            senders.add(sender);
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        boolean completed = done.await(timeoutSeconds, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        // 3. 결과
+        long[] latencies = loadClients.stream()
+                .flatMapToLong(client -> client.latenciesMicros.stream().mapToLong(Long::longValue))
+                .sorted()
+                .toArray();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        RoundResult result = new RoundResult(clients, expected, acked.get(), errors.get(), completed,
+                acked.get() / seconds, percentile(latencies, 0.50), percentile(latencies, 0.99));
+
+        System.out.println("---------------------------------------------");
+        System.out.printf("clients: %d, sent: %d, acked: %d, errors: %d, completed: %s%n",
+                clients, expected, acked.get(), errors.get(), completed);
+        System.out.printf("elapsed: %.2fs, throughput: %.1f acks/s%n", seconds, result.throughput());
+        System.out.printf("ack latency p50: %.2fms, p90: %.2fms, p99: %.2fms, max: %.2fms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.90),
+                percentile(latencies, 0.99), percentile(latencies, 1.0));
+
+        for (LoadClient client : loadClients) {
+            client.session.disconnect();
+        }
+        return result;
+    }
+
+    private static String startMission(HttpClient httpClient, String baseUrl, String sessionId) throws Exception {
+        Map<String, Object> body = new HashMap<>();
+        body.put("sessionId", sessionId);
+        body.put("missionType", "PORTFOLIO");
+        body.put("timestamp", LocalDateTime.now());
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/missions/start"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Failed to start mission: " + response.statusCode() + " " + response.body());
+        }
+
+        JsonNode json = OBJECT_MAPPER.readTree(response.body());
+        return json.path("data").path("attemptId").asText();
+    }
+
+    private static double percentile(long[] sortedMicros, double quantile) {
+        if (sortedMicros.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sortedMicros.length) - 1;
+        return sortedMicros[Math.max(0, Math.min(index, sortedMicros.length - 1))] / 1000.0;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        Arrays.stream(args)
+                .filter(arg -> arg.contains("="))
+                .forEach(arg -> options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1)));
+        return options;
+    }
+
+    /**
+     * 연결 수 하나에 대한 실행 결과
+     */
+    private record RoundResult(int clients, long sent, long acked, long errors, boolean completed,
+                               double throughput, double p50Ms, double p99Ms) {
+    }
+
+    /**
+     * 부하 생성 클라이언트 한 개 (미션 시도 하나)
+     */
+    private static final class LoadClient {
+
+        private final String sessionId;
+        private final String attemptId;
+        private final int events;
+        private final ConcurrentLinkedQueue<Long> inFlight = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Long> latenciesMicros = new ConcurrentLinkedQueue<>();
+        private volatile StompSession session;
+
+        LoadClient(String sessionId, String attemptId, int events) {
+            this.sessionId = sessionId;
+            this.attemptId = attemptId;
+            this.events = events;
+        }
+
+        void sendAll(long intervalMs) {
+            for (int i = 0; i < events; i++) {
+                Map<String, Object> data = new HashMap<>();
+                data.put("page", "/portfolio/create");
+                data.put("duration", 1000 + i);
+                data.put("scrollDepth", i % 100);
+                data.put("isMissionRelevant", true);
+
+                Map<String, Object> message = new HashMap<>();
+                message.put("eventType", "page_view");
+                message.put("timestamp", LocalDateTime.now());
+                message.put("sessionId", sessionId);
+                message.put("attemptId", attemptId);
+                message.put("data", data);
+
+                inFlight.add(System.nanoTime());
+                session.send("/app/mission/event", message);
+
+                if (intervalMs > 0) {
+                    try {
+                        Thread.sleep(intervalMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        StompFrameHandler handler(CountDownLatch done, AtomicLong counter) {
+            return new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Map.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    Long sentAt = inFlight.poll();
+                    if (sentAt != null) {
+                        latenciesMicros.add((System.nanoTime() - sentAt) / 1000);
+                    }
+                    counter.incrementAndGet();
+                    done.countDown();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.greduatebe.service;
+
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.MissionType;
+import org.example.greduatebe.repository.MissionEventBatchRepository;
+import org.example.greduatebe.repository.MissionEventReadRepository;
+import org.example.greduatebe.repository.MissionEventRepository;
+import org.example.greduatebe.service.MissionAttemptRegistry.AttemptInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * EventService 이벤트 처리 경로 벤치마크
+ * Repository/레지스트리는 stub으로 대체하여 DB를 제외한 CPU 비용(검증, 엔티티 생성, ID 생성, 후처리 분기)만 측정합니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EventServiceBenchmark {
+
+    private static final String ATTEMPT_ID = "attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f";
+
+    @Param({"1", "200"})
+    public int batchSize;
+
+    private EventService eventService;
+    private WebSocketMessage message;
+    private List<ReceivedMessage> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MissionAttemptRegistry attemptRegistry = mock(MissionAttemptRegistry.class);
+        AttemptInfo attempt = new AttemptInfo(ATTEMPT_ID, MissionType.PORTFOLIO, LocalDateTime.now(),
+                MissionStatus.IN_PROGRESS);
+        when(attemptRegistry.get(anyString())).thenReturn(attempt);
+        when(attemptRegistry.find(anyString())).thenReturn(Optional.of(attempt));
+        when(attemptRegistry.findAll(anyCollection())).thenReturn(Map.of(ATTEMPT_ID, attempt));
+
+        MissionEventBatchRepository batchRepository = mock(MissionEventBatchRepository.class);
+        when(batchRepository.insertAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        eventService = new EventService(
+                mock(MissionEventRepository.class),
+                batchRepository,
+                mock(MissionEventReadRepository.class),
+                attemptRegistry,
+                mock(StepTimeStatistics.class),
+                mock(EventDedupWindow.class),
+                mock(MissionFinalizer.class),
+                new EventFieldExtractor(),
+                mock(AttemptDetailCache.class));
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("page", "/portfolio/create");
+        data.put("referrer", "/home");
+        data.put("duration", 5234);
+        data.put("scrollDepth", 75);
+        data.put("isMissionRelevant", true);
+
+        message = WebSocketMessage.builder()
+                .eventType("page_view")
+                .timestamp(LocalDateTime.now())
+                .sessionId("550e8400-e29b-41d4-a716-446655440000")
+                .attemptId(ATTEMPT_ID)
+                .data(data)
+                .build();
+
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(ReceivedMessage.now(message));
+        }
+    }
+
+    @Benchmark
+    public MissionEvent processEvent() {
+        return eventService.processEvent(message);
+    }
+
+    @Benchmark
+    public List<EventIngestionResult> processEventBatch() {
+        return eventService.processEventBatch(batch);
+    }
+}
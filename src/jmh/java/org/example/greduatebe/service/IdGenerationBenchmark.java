@@ -0,0 +1,52 @@
+package org.example.greduatebe.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 생성 벤치마크
+ * UUID.randomUUID()는 SecureRandom을 사용하므로 동시 호출 시 경합 여부를 함께 확인합니다 (@Threads)
+ * 클라이언트 이벤트 ID 기반 eventId(name-based UUID, MD5)와도 비교합니다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IdGenerationBenchmark {
+
+    private EventService eventService;
+
+    @Setup
+    public void setUp() {
+        eventService = new EventService(null, null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public String eventId() {
+        return eventService.generateEventId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String eventIdContended() {
+        return eventService.generateEventId();
+    }
+
+    @Benchmark
+    public String clientScopedEventId() {
+        return eventService.clientScopedEventId("attempt_9f2c4b7e1a3d4c5b8e6f7a8b9c0d1e2f", "c-000123");
+    }
+
+    @Benchmark
+    public UUID randomUuidOnly() {
+        return UUID.randomUUID();
+    }
+}
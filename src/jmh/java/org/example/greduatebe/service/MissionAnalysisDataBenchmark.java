@@ -0,0 +1,103 @@
+package org.example.greduatebe.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.greduatebe.service.EventDataSummarizer.EventDataSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상세 페이지 타임라인의 이벤트 데이터 처리 벤치마크
+ * 이벤트 한 건마다 실행되는 data 해석 비용을 비교합니다
+ * - mapParseAndPreview: 기존 방식 (jsonb 텍스트 → Map, instanceof로 필드 추출, 전체 항목으로 미리보기 생성)
+ * - streamingSummary: EventDataSummarizer (JsonParser 한 번 통과, Map 없음, 제한을 넘은 미리보기는 건너뜀)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MissionAnalysisDataBenchmark {
+
+    private static final String PAGE_VIEW_DATA =
+            "{\"page\": \"/portfolio/create\", \"referrer\": \"/home\", \"duration\": 5234, "
+                    + "\"scrollDepth\": 75, \"isMissionRelevant\": true}";
+
+    private static final String PORTFOLIO_STEP_DATA =
+            "{\"step\": 3, \"page\": \"/portfolio/create/step3\", \"stepName\": \"종목 선택\", \"timeOnStep\": 42.7, "
+                    + "\"totalAmount\": 1000000, \"selectedStocks\": [\"005930\", \"000660\", \"035420\", \"051910\", "
+                    + "\"006400\", \"207940\"], \"allocations\": {\"005930\": 30, \"000660\": 20, \"035420\": 20, "
+                    + "\"051910\": 10, \"006400\": 10, \"207940\": 10}}";
+
+    @Param({"page_view", "portfolio_creation_step"})
+    public String payload;
+
+    private ObjectMapper objectMapper;
+    private EventDataSummarizer summarizer;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        summarizer = new EventDataSummarizer(objectMapper);
+        json = "page_view".equals(payload) ? PAGE_VIEW_DATA : PORTFOLIO_STEP_DATA;
+
+        String expected = mapParseAndPreview().preview();
+        String actual = streamingSummary().preview();
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Preview mismatch: " + expected + " <> " + actual);
+        }
+    }
+
+    @Benchmark
+    public EventDataSummary mapParseAndPreview() {
+        Map<String, Object> data = parse(json);
+        Object duration = data.get("duration");
+        Object scrollDepth = data.get("scrollDepth");
+        Object isMissionRelevant = data.get("isMissionRelevant");
+        return new EventDataSummary(
+                (String) data.get("page"),
+                (String) data.get("referrer"),
+                duration instanceof Number number ? number.longValue() : null,
+                scrollDepth instanceof Number number ? number.intValue() : null,
+                isMissionRelevant instanceof Boolean relevant ? relevant : null,
+                preview(data));
+    }
+
+    @Benchmark
+    public EventDataSummary streamingSummary() {
+        return summarizer.summarize("event_bench", json);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parse(String text) {
+        try {
+            return objectMapper.readValue(text, Map.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String preview(Map<String, Object> data) {
+        List<String> preview = new ArrayList<>();
+        data.forEach((key, value) -> {
+            if (!"page".equals(key) && value != null) {
+                preview.add(key + ": " + value);
+            }
+        });
+        if (preview.isEmpty()) {
+            return null;
+        }
+        String result = String.join(", ", preview);
+        return result.length() > 100 ? result.substring(0, 100) + "..." : result;
+    }
+}
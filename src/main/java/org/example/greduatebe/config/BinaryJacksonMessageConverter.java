@@ -0,0 +1,33 @@
+package org.example.greduatebe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+
+/**
+ * CBOR/Smile STOMP 메시지 Converter
+ * 애플리케이션 ObjectMapper의 설정(JavaTimeModule 등)을 그대로 복사해 바이너리 JsonFactory로 읽고 씁니다
+ * content-type이 해당 인코딩일 때만 동작하므로, content-type이 없거나 JSON인 프레임은 기존 JSON Converter가 처리합니다
+ */
+public class BinaryJacksonMessageConverter extends MappingJackson2MessageConverter {
+
+    private final StompPayloadEncoding encoding;
+
+    public BinaryJacksonMessageConverter(ObjectMapper objectMapper, StompPayloadEncoding encoding) {
+        super(encoding.getContentType(), encoding.getOutboundContentType());
+        if (!encoding.isBinary()) {
+            throw new IllegalArgumentException("Binary encoding required: " + encoding);
+        }
+        this.encoding = encoding;
+        setObjectMapper(objectMapper.copyWith(encoding.newFactory()));
+        setStrictContentTypeMatch(true);
+    }
+
+    /**
+     * 타입/서브타입뿐 아니라 octet-stream의 format 파라미터까지 비교 (CBOR와 Smile 구분)
+     */
+    @Override
+    protected boolean supportsMimeType(MessageHeaders headers) {
+        return StompPayloadEncoding.from(getMimeType(headers)) == encoding;
+    }
+}
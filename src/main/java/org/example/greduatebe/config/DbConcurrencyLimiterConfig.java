@@ -0,0 +1,153 @@
+package org.example.greduatebe.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DB 동시성 제한 설정 Configuration
+ * 가상 스레드에서는 요청마다 스레드가 생기므로 커넥션을 기다리는 스레드가 무제한으로 쌓일 수 있습니다.
+ * DataSource를 감싸 Hikari 풀 크기만큼의 permit을 가진 Semaphore로 동시 커넥션 사용을 제한하고,
+ * acquire-timeout 안에 permit을 얻지 못하면 바로 실패시켜 대기열이 길어지지 않도록 합니다.
+ * db.limiter.enabled (기본: spring.threads.virtual.enabled)로 활성화합니다
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.limiter.enabled", havingValue = "true")
+@Slf4j
+public class DbConcurrencyLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor dbConcurrencyLimiterPostProcessor(Environment environment,
+                                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof LimitedDataSource) {
+                    return bean;
+                }
+
+                int permits = environment.getProperty("db.limiter.permits", Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                long acquireTimeoutMs = environment.getProperty("db.limiter.acquire-timeout-ms", Long.class, 5000L);
+
+                LimitedDataSource limited = new LimitedDataSource(dataSource, permits, acquireTimeoutMs);
+                meterRegistry.ifAvailable(registry -> limited.registerMetrics(registry, beanName));
+
+                log.info("DB concurrency limiter enabled - dataSource: {}, permits: {}, acquireTimeoutMs: {}",
+                        beanName, permits, acquireTimeoutMs);
+                return limited;
+            }
+        };
+    }
+
+    /**
+     * Semaphore로 동시 커넥션 수를 제한하는 DataSource
+     * 커넥션을 close하면 permit을 반환합니다
+     */
+    static final class LimitedDataSource extends DelegatingDataSource {
+
+        private final Semaphore permits;
+        private final int maxPermits;
+        private final long acquireTimeoutMs;
+
+        LimitedDataSource(DataSource target, int permits, long acquireTimeoutMs) {
+            super(target);
+            this.permits = new Semaphore(permits, true);
+            this.maxPermits = permits;
+            this.acquireTimeoutMs = acquireTimeoutMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            try {
+                return limited(super.getConnection());
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            try {
+                return limited(super.getConnection(username, password));
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        void registerMetrics(MeterRegistry registry, String name) {
+            Gauge.builder("db.limiter.permits.available", permits, Semaphore::availablePermits)
+                    .description("Available DB concurrency permits")
+                    .tag("name", name)
+                    .register(registry);
+            Gauge.builder("db.limiter.waiting", permits, Semaphore::getQueueLength)
+                    .description("Threads waiting for a DB concurrency permit")
+                    .tag("name", name)
+                    .register(registry);
+            Gauge.builder("db.limiter.permits.max", () -> maxPermits)
+                    .tag("name", name)
+                    .register(registry);
+        }
+
+        private void acquire() throws SQLException {
+            try {
+                if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException(
+                            "DB concurrency limit reached, no permit within " + acquireTimeoutMs + "ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted while waiting for a DB permit", e);
+            }
+        }
+
+        private Connection limited(Connection connection) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                        if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                            if (((Class<?>) args[0]).isInstance(proxy)) {
+                                return "unwrap".equals(method.getName()) ? proxy : true;
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.greduatebe.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정 Configuration
+ * - @Timed 어노테이션 지원 (대시보드 분석 쿼리 타이머)
+ * - 클라이언트가 보내는 eventType 태그의 카디널리티 제한
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * eventType 태그 최대 개수 (초과 시 해당 메트릭 등록 거부)
+     */
+    private static final int MAX_EVENT_TYPE_TAGS = 100;
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterFilter eventTypeCardinalityFilter() {
+        return MeterFilter.maximumAllowableTags("mission.event", "eventType", MAX_EVENT_TYPE_TAGS, MeterFilter.deny());
+    }
+}
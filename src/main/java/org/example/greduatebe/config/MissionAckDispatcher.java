@@ -0,0 +1,200 @@
+package org.example.greduatebe.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미션 ACK/에러 직접 전송 Dispatcher
+ * /topic/mission/{attemptId}/ack, /error 구독을 destination → (sessionId → subscriptionId) 맵으로 관리하고,
+ * ACK를 SimpleBroker를 거치지 않고 구독한 세션의 clientOutboundChannel로 바로 보냅니다.
+ * 시도마다 destination이 달라 SimpleBroker의 구독 매칭(캐시 미스 시 전체 구독 순회)이 동시 시도 수에 비례해
+ * 느려지는 것을 피하고, 전송 비용을 구독자 수에만 비례하도록 합니다.
+ * 구독 프레임은 기존대로 SimpleBroker에도 등록되므로 클라이언트 변경은 필요 없습니다.
+ */
+@Component
+@Slf4j
+public class MissionAckDispatcher {
+
+    private static final String MISSION_TOPIC_PREFIX = "/topic/mission/";
+
+    private final MessageChannel clientOutboundChannel;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Executor clientOutboundExecutor;
+    private final MeterRegistry meterRegistry;
+
+    /** destination → (sessionId → subscriptionId) */
+    private final Map<String, Map<String, String>> subscribers = new ConcurrentHashMap<>();
+    /** sessionId → (subscriptionId → destination), 구독 해제/연결 해제 시 정리용 */
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+
+    private Counter deliveredCounter;
+    private Counter undeliveredCounter;
+
+    public MissionAckDispatcher(@Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                                SimpMessagingTemplate messagingTemplate,
+                                @Qualifier("clientOutboundChannelExecutor") Executor clientOutboundExecutor,
+                                MeterRegistry meterRegistry) {
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.messagingTemplate = messagingTemplate;
+        this.clientOutboundExecutor = clientOutboundExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        deliveredCounter = Counter.builder("mission.ack.delivered")
+                .description("ACK/error frames delivered directly to subscribed sessions")
+                .register(meterRegistry);
+        undeliveredCounter = Counter.builder("mission.ack.undelivered")
+                .description("ACK/error messages dropped because no session was subscribed")
+                .register(meterRegistry);
+        Gauge.builder("mission.ack.subscriptions", subscriptionCount, AtomicInteger::get)
+                .description("Active /topic/mission/** subscriptions tracked for direct delivery")
+                .register(meterRegistry);
+        if (clientOutboundExecutor instanceof ThreadPoolTaskExecutor executor) {
+            Gauge.builder("stomp.outbound.queue.depth", executor,
+                            e -> e.getThreadPoolExecutor().getQueue().size())
+                    .description("Frames waiting in the clientOutboundChannel executor queue")
+                    .register(meterRegistry);
+            Gauge.builder("stomp.outbound.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                    .description("clientOutboundChannel threads currently writing frames")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 구독한 세션에 메시지 직접 전송
+     * @param destination /topic/mission/{attemptId}/ack 등 구독 destination
+     * @param payload 전송할 객체 (요청 인코딩의 Converter로 변환)
+     * @param encoding 메시지 인코딩
+     * @return 전송한 세션 수
+     */
+    public int send(String destination, Object payload, StompPayloadEncoding encoding) {
+        Map<String, String> sessions = subscribers.get(destination);
+        if (sessions == null || sessions.isEmpty()) {
+            undeliveredCounter.increment();
+            log.debug("⚠️ [WebSocket] No subscriber for destination, message dropped - destination: {}", destination);
+            return 0;
+        }
+
+        MessageConverter converter = messagingTemplate.getMessageConverter();
+        int delivered = 0;
+        for (Map.Entry<String, String> entry : sessions.entrySet()) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId(entry.getKey());
+            accessor.setSubscriptionId(entry.getValue());
+            accessor.setDestination(destination);
+            if (encoding.isBinary()) {
+                accessor.setContentType(encoding.getOutboundContentType());
+            }
+            accessor.setLeaveMutable(true);
+
+            Message<?> message = converter.toMessage(payload, accessor.getMessageHeaders());
+            if (message == null) {
+                log.error("❌ [WebSocket] No converter for payload - destination: {}, encoding: {}, type: {}",
+                        destination, encoding, payload.getClass().getSimpleName());
+                return delivered;
+            }
+            MessageHeaderAccessor messageAccessor = MessageHeaderAccessor.getAccessor(message, MessageHeaderAccessor.class);
+            if (messageAccessor != null) {
+                messageAccessor.setImmutable();
+            }
+            if (clientOutboundChannel.send(message)) {
+                delivered++;
+            }
+        }
+        deliveredCounter.increment(delivered);
+        return delivered;
+    }
+
+    /**
+     * /topic/mission/** 구독 등록
+     */
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (destination == null || !destination.startsWith(MISSION_TOPIC_PREFIX)
+                || sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        subscribers.compute(destination, (key, sessions) -> {
+            Map<String, String> updated = sessions != null ? sessions : new ConcurrentHashMap<>();
+            updated.put(sessionId, subscriptionId);
+            return updated;
+        });
+        String previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous == null) {
+            subscriptionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 구독 해제 시 정리
+     */
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        String destination = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (destination != null) {
+            removeSubscriber(destination, sessionId);
+            subscriptionCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 연결 해제 시 세션의 모든 구독 정리
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        for (String destination : subscriptions.values()) {
+            removeSubscriber(destination, event.getSessionId());
+        }
+        subscriptionCount.addAndGet(-subscriptions.size());
+    }
+
+    private void removeSubscriber(String destination, String sessionId) {
+        subscribers.computeIfPresent(destination, (key, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.greduatebe.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 Configuration
+ * 레지스트리 정리 등 주기 작업(@Scheduled)을 활성화합니다
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
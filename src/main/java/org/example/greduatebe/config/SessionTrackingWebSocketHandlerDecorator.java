@@ -0,0 +1,70 @@
+package org.example.greduatebe.config;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.nio.ByteBuffer;
+
+/**
+ * WebSocket 세션 추적 Decorator
+ * STOMP 처리 전에 연결/수신/종료를 StompSessionRegistry에 기록합니다
+ * STOMP 세션 ID는 WebSocket 세션 ID와 같습니다
+ */
+public class SessionTrackingWebSocketHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private final StompSessionRegistry sessionRegistry;
+
+    public SessionTrackingWebSocketHandlerDecorator(WebSocketHandler delegate, StompSessionRegistry sessionRegistry) {
+        super(delegate);
+        this.sessionRegistry = sessionRegistry;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        sessionRegistry.register(session);
+        super.afterConnectionEstablished(session);
+    }
+
+    @Override
+    public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+        sessionRegistry.recordReceived(session.getId(), message.getPayloadLength(), isHeartbeat(message));
+        super.handleMessage(session, message);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        try {
+            super.afterConnectionClosed(session, closeStatus);
+        } finally {
+            sessionRegistry.unregister(session.getId());
+        }
+    }
+
+    /**
+     * STOMP heartbeat는 개행(EOL)만 있는 텍스트 프레임
+     */
+    private boolean isHeartbeat(WebSocketMessage<?> message) {
+        if (message.getPayloadLength() > 2) {
+            return false;
+        }
+        if (message instanceof TextMessage text) {
+            String payload = text.getPayload();
+            return payload.equals("\n") || payload.equals("\r\n");
+        }
+        if (message instanceof BinaryMessage binary) {
+            ByteBuffer payload = binary.getPayload();
+            int start = payload.position();
+            return switch (payload.remaining()) {
+                case 1 -> payload.get(start) == '\n';
+                case 2 -> payload.get(start) == '\r' && payload.get(start + 1) == '\n';
+                default -> false;
+            };
+        }
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.greduatebe.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+
+/**
+ * STOMP 메시지 본문 인코딩
+ * 클라이언트는 SEND 프레임의 content-type으로 인코딩을 고르고, 서버는 같은 인코딩으로 ACK/에러를 보냅니다
+ * - JSON: application/json (content-type이 없을 때의 기본값)
+ * - CBOR: application/cbor 또는 application/octet-stream;format=cbor
+ * - SMILE: application/x-jackson-smile 또는 application/octet-stream;format=smile
+ * 바이너리 인코딩의 서버 응답은 application/octet-stream;format=... 으로 보냅니다.
+ * Spring은 content-type이 octet-stream인 프레임만 바이너리 WebSocket 메시지로 보내고,
+ * 그 외에는 텍스트 메시지(UTF-8)로 보내 바이너리 본문이 깨지기 때문입니다 (SockJS는 바이너리 미지원).
+ */
+public enum StompPayloadEncoding {
+
+    JSON(MimeTypeUtils.APPLICATION_JSON, MimeTypeUtils.APPLICATION_JSON),
+    CBOR(new MimeType("application", "cbor"), binaryWireType("cbor")),
+    SMILE(new MimeType("application", "x-jackson-smile"), binaryWireType("smile"));
+
+    private static final String FORMAT_PARAMETER = "format";
+
+    private final MimeType contentType;
+    private final MimeType outboundContentType;
+
+    StompPayloadEncoding(MimeType contentType, MimeType outboundContentType) {
+        this.contentType = contentType;
+        this.outboundContentType = outboundContentType;
+    }
+
+    /**
+     * 클라이언트가 SEND 프레임에 지정하는 content-type
+     */
+    public MimeType getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 서버가 보내는 MESSAGE 프레임의 content-type
+     */
+    public MimeType getOutboundContentType() {
+        return outboundContentType;
+    }
+
+    public boolean isBinary() {
+        return this != JSON;
+    }
+
+    /**
+     * 바이너리 인코딩용 JsonFactory (JSON은 null)
+     */
+    JsonFactory newFactory() {
+        return switch (this) {
+            case CBOR -> new CBORFactory();
+            case SMILE -> new SmileFactory();
+            case JSON -> null;
+        };
+    }
+
+    /**
+     * content-type으로 인코딩 결정 (없거나 알 수 없으면 JSON)
+     */
+    public static StompPayloadEncoding from(MimeType mimeType) {
+        if (mimeType == null) {
+            return JSON;
+        }
+        for (StompPayloadEncoding encoding : values()) {
+            if (encoding.contentType.equalsTypeAndSubtype(mimeType)) {
+                return encoding;
+            }
+            if (encoding.isBinary() && encoding.outboundContentType.equalsTypeAndSubtype(mimeType)
+                    && encoding.outboundContentType.getParameter(FORMAT_PARAMETER)
+                    .equalsIgnoreCase(String.valueOf(mimeType.getParameter(FORMAT_PARAMETER)))) {
+                return encoding;
+            }
+        }
+        return JSON;
+    }
+
+    private static MimeType binaryWireType(String format) {
+        return new MimeType(MimeTypeUtils.APPLICATION_OCTET_STREAM, Map.of(FORMAT_PARAMETER, format));
+    }
+}
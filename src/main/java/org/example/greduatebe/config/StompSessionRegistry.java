@@ -0,0 +1,254 @@
+package org.example.greduatebe.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * STOMP 세션 레지스트리 (노드 로컬, 메모리)
+ * STOMP 세션 ID(= WebSocket 세션 ID)별로 연결 시각, 수신 바이트/이벤트 수, 마지막 활동 시각,
+ * 세션이 보낸 이벤트와 /topic/mission/{attemptId}/** 구독으로 알게 된 미션 시도를 기록합니다.
+ * - 연결/수신/종료: SessionTrackingWebSocketHandlerDecorator
+ * - 이벤트/시도: WebSocketController, 구독: WebSocketEventListener
+ * idle-timeout-ms 동안 heartbeat 외의 프레임이 없는 세션은 주기적으로 찾아 서버에서 먼저 닫습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompSessionRegistry {
+
+    /** 서버가 idle 세션을 닫을 때 사용하는 close status (4000번대: 애플리케이션 정의) */
+    private static final CloseStatus IDLE_CLOSE_STATUS = new CloseStatus(4000, "Idle timeout");
+
+    private static final String MISSION_TOPIC_PREFIX = "/topic/mission/";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${websocket.session.idle-timeout-ms:1800000}")
+    private long idleTimeoutMs;
+
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder eventsReceived = new LongAdder();
+
+    private Counter idleClosedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("stomp.sessions.active", sessions, Map::size)
+                .description("Open STOMP sessions on this node")
+                .register(meterRegistry);
+        Gauge.builder("stomp.sessions.attempts", this, registry -> registry.countLiveAttempts())
+                .description("Distinct mission attempts with an open STOMP session on this node")
+                .register(meterRegistry);
+        Gauge.builder("stomp.sessions.subscriptions", this, registry -> registry.countSubscriptions())
+                .description("Active STOMP subscriptions on this node")
+                .register(meterRegistry);
+        FunctionCounter.builder("stomp.inbound.bytes", bytesReceived, LongAdder::sum)
+                .description("WebSocket payload bytes received from clients")
+                .register(meterRegistry);
+        FunctionCounter.builder("stomp.inbound.events", eventsReceived, LongAdder::sum)
+                .description("Mission events received over STOMP")
+                .register(meterRegistry);
+        idleClosedCounter = Counter.builder("stomp.sessions.idle.closed")
+                .description("STOMP sessions closed by the server after idle-timeout-ms")
+                .register(meterRegistry);
+    }
+
+    /**
+     * WebSocket 연결 등록
+     */
+    public void register(WebSocketSession session) {
+        sessions.put(session.getId(), new TrackedSession(session));
+    }
+
+    /**
+     * WebSocket 연결 해제
+     */
+    public void unregister(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * 수신 메시지 기록
+     * @param heartbeat STOMP heartbeat(개행만 있는 프레임)이면 true - 바이트는 세지만 활동으로 보지 않음
+     */
+    public void recordReceived(String sessionId, int bytes, boolean heartbeat) {
+        bytesReceived.add(bytes);
+        TrackedSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        session.bytesReceived.add(bytes);
+        if (!heartbeat) {
+            session.lastActivityMillis.set(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 수신 이벤트 기록
+     */
+    public void recordEvents(String sessionId, String attemptId, int count) {
+        eventsReceived.add(count);
+        TrackedSession session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session == null) {
+            return;
+        }
+        session.eventsReceived.add(count);
+        if (attemptId != null && !attemptId.isEmpty()) {
+            session.attemptIds.add(attemptId);
+        }
+    }
+
+    /**
+     * 구독 기록 (/topic/mission/{attemptId}/... 구독이면 시도도 함께 기록)
+     */
+    public void recordSubscribe(String sessionId, String destination) {
+        TrackedSession session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session == null) {
+            return;
+        }
+        session.subscriptions.incrementAndGet();
+        if (destination != null && destination.startsWith(MISSION_TOPIC_PREFIX)) {
+            int end = destination.indexOf('/', MISSION_TOPIC_PREFIX.length());
+            session.attemptIds.add(end > 0
+                    ? destination.substring(MISSION_TOPIC_PREFIX.length(), end)
+                    : destination.substring(MISSION_TOPIC_PREFIX.length()));
+        }
+    }
+
+    /**
+     * 구독 해제 기록
+     */
+    public void recordUnsubscribe(String sessionId) {
+        TrackedSession session = sessionId != null ? sessions.get(sessionId) : null;
+        if (session != null) {
+            session.subscriptions.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+
+    /**
+     * 현재 세션 목록 (연결 시각 순)
+     */
+    public List<SessionSnapshot> getSessions() {
+        long now = System.currentTimeMillis();
+        return sessions.values().stream()
+                .map(session -> session.snapshot(now))
+                .sorted(Comparator.comparing(SessionSnapshot::connectedAt))
+                .toList();
+    }
+
+    /**
+     * idle 세션 정리
+     * idle-timeout-ms 동안 heartbeat 외의 프레임이 없는 세션을 닫습니다 (종료 처리는 decorator의 afterConnectionClosed)
+     */
+    @Scheduled(initialDelayString = "${websocket.session.idle-check-interval-ms:60000}",
+            fixedDelayString = "${websocket.session.idle-check-interval-ms:60000}")
+    public void closeIdleSessions() {
+        if (idleTimeoutMs <= 0) {
+            return;
+        }
+
+        long cutoff = System.currentTimeMillis() - idleTimeoutMs;
+        for (TrackedSession session : sessions.values()) {
+            if (session.lastActivityMillis.get() >= cutoff) {
+                continue;
+            }
+            try {
+                session.webSocketSession.close(IDLE_CLOSE_STATUS);
+                idleClosedCounter.increment();
+                log.info("⚠️ [WebSocket] Closed idle session - sessionId: {}, idleMs: {}, attempts: {}",
+                        session.webSocketSession.getId(),
+                        System.currentTimeMillis() - session.lastActivityMillis.get(), session.attemptIds);
+            } catch (IOException | RuntimeException e) {
+                log.warn("⚠️ [WebSocket] Failed to close idle session - sessionId: {}, error: {}",
+                        session.webSocketSession.getId(), e.getMessage());
+                sessions.remove(session.webSocketSession.getId());
+            }
+        }
+    }
+
+    private long countLiveAttempts() {
+        Set<String> attemptIds = new HashSet<>();
+        for (TrackedSession session : sessions.values()) {
+            attemptIds.addAll(session.attemptIds);
+        }
+        return attemptIds.size();
+    }
+
+    private long countSubscriptions() {
+        long count = 0;
+        for (TrackedSession session : sessions.values()) {
+            count += session.subscriptions.get();
+        }
+        return count;
+    }
+
+    /**
+     * 세션별 추적 상태
+     */
+    private static final class TrackedSession {
+
+        private final WebSocketSession webSocketSession;
+        private final Instant connectedAt = Instant.now();
+        private final AtomicLong lastActivityMillis = new AtomicLong(System.currentTimeMillis());
+        private final LongAdder bytesReceived = new LongAdder();
+        private final LongAdder eventsReceived = new LongAdder();
+        private final AtomicInteger subscriptions = new AtomicInteger();
+        private final Set<String> attemptIds = ConcurrentHashMap.newKeySet();
+
+        TrackedSession(WebSocketSession webSocketSession) {
+            this.webSocketSession = webSocketSession;
+        }
+
+        SessionSnapshot snapshot(long now) {
+            return new SessionSnapshot(
+                    webSocketSession.getId(),
+                    connectedAt,
+                    Instant.ofEpochMilli(lastActivityMillis.get()),
+                    now - lastActivityMillis.get(),
+                    bytesReceived.sum(),
+                    eventsReceived.sum(),
+                    subscriptions.get(),
+                    List.copyOf(attemptIds));
+        }
+    }
+
+    /**
+     * 세션 상태 스냅샷
+     * @param sessionId STOMP 세션 ID
+     * @param connectedAt 연결 시각
+     * @param lastActivityAt 마지막 프레임(heartbeat 제외) 수신 시각
+     * @param idleMs 마지막 활동 이후 경과 시간 (ms)
+     * @param bytesReceived 수신 바이트 수
+     * @param eventsReceived 수신 이벤트 수
+     * @param subscriptions 구독 수
+     * @param attemptIds 세션이 이벤트를 보냈거나 구독한 미션 시도 ID
+     */
+    public record SessionSnapshot(String sessionId, Instant connectedAt, Instant lastActivityAt, long idleMs,
+                                  long bytesReceived, long eventsReceived, int subscriptions,
+                                  Collection<String> attemptIds) {
+    }
+}
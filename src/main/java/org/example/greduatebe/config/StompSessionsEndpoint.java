@@ -0,0 +1,45 @@
+package org.example.greduatebe.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.config.StompSessionRegistry.SessionSnapshot;
+import org.example.greduatebe.dto.response.StompSessionsResponse;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 이 노드의 STOMP 세션 현황 Actuator 엔드포인트
+ * GET /actuator/stompsessions
+ * 응답에 세션 ID와 미션 시도 ID가 들어 있으므로 공개 API(/api/**)가 아닌 Actuator로 제공하며, 기본값은 꺼져 있습니다.
+ * 필요할 때만 management.endpoint.stompsessions.access=read-only로 켜고 exposure include에 추가합니다
+ * (관리 포트/내부망에서만 노출).
+ */
+@Component
+@Endpoint(id = "stompsessions", defaultAccess = Access.NONE)
+@RequiredArgsConstructor
+@Slf4j
+public class StompSessionsEndpoint {
+
+    private final StompSessionRegistry sessionRegistry;
+
+    @ReadOperation
+    public StompSessionsResponse sessions() {
+        List<SessionSnapshot> sessions = sessionRegistry.getSessions();
+
+        log.info("GET /actuator/stompsessions - activeSessions: {}", sessions.size());
+
+        return StompSessionsResponse.builder()
+                .activeSessions(sessions.size())
+                .liveAttempts((int) sessions.stream()
+                        .flatMap(session -> session.attemptIds().stream())
+                        .distinct()
+                        .count())
+                .subscriptions(sessions.stream().mapToInt(SessionSnapshot::subscriptions).sum())
+                .sessions(sessions)
+                .build();
+    }
+}
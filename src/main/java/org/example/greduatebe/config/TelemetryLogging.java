@@ -0,0 +1,52 @@
+package org.example.greduatebe.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로깅 모드 설정
+ * - verbose: 모든 STOMP 프레임을 INFO로 기록 (개발용, 기본값)
+ * - production: CONNECT/DISCONNECT만 항상 기록하고 SUBSCRIBE/SEND 등은 frame-sample-rate 비율로 샘플링,
+ *   payload는 DEBUG에서만 기록
+ * 비동기 appender는 logback-spring.xml에서 prod/telemetry 프로파일에 적용됩니다
+ */
+@Component
+@Slf4j
+public class TelemetryLogging {
+
+    /**
+     * 로깅 모드
+     */
+    public enum Mode {
+        VERBOSE,
+        PRODUCTION
+    }
+
+    private final Mode mode;
+    private final double frameSampleRate;
+
+    public TelemetryLogging(@Value("${telemetry.logging.mode:verbose}") String mode,
+                            @Value("${telemetry.logging.frame-sample-rate:0.01}") double frameSampleRate) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.frameSampleRate = frameSampleRate;
+        log.info("Telemetry logging mode: {}, frameSampleRate: {}", this.mode, frameSampleRate);
+    }
+
+    public boolean isVerbose() {
+        return mode == Mode.VERBOSE;
+    }
+
+    /**
+     * 고빈도 프레임(SEND, SUBSCRIBE 등)을 이번에 기록할지 여부
+     */
+    public boolean shouldLogFrame() {
+        if (mode == Mode.VERBOSE) {
+            return true;
+        }
+        return frameSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < frameSampleRate;
+    }
+}
@@ -3,6 +3,8 @@ package org.example.greduatebe.config;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -16,6 +18,12 @@ public class WebMvcConfig implements WebMvcConfigurer {
     @Value("${cors.allowed-origins:*}")
     private String allowedOrigins;
 
+    @Value("${export.async-timeout-ms:1800000}")
+    private long exportAsyncTimeout;
+
+    @Value("${export.max-concurrent:2}")
+    private int exportMaxConcurrent;
+
     /**
      * CORS 설정
      * 프론트엔드 애플리케이션에서 API 호출을 허용하기 위한 설정
@@ -33,4 +41,23 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600); // preflight 요청 캐시 시간 (초)
     }
+
+    /**
+     * 비동기 응답 설정 (StreamingResponseBody export)
+     * 대량 export는 수 분 이상 걸릴 수 있으므로 타임아웃을 늘리고,
+     * 동시에 실행되는 export 수를 제한하여 DB 커넥션과 메모리를 보호합니다
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportMaxConcurrent);
+        executor.setMaxPoolSize(exportMaxConcurrent);
+        executor.setQueueCapacity(exportMaxConcurrent * 2);
+        executor.setThreadNamePrefix("export-");
+        executor.setDaemon(true);
+        executor.initialize();
+
+        configurer.setTaskExecutor(executor);
+        configurer.setDefaultTimeout(exportAsyncTimeout);
+    }
 }
@@ -1,57 +1,61 @@
 package org.example.greduatebe.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * WebSocket 채널 Interceptor
- * STOMP 프레임 레벨에서 모든 메시지를 로깅합니다
+ * STOMP 프레임 레벨에서 메시지를 로깅합니다 (프레임당 한 줄, production 모드에서는 샘플링)
+ * 바이너리(CBOR/Smile) 본문은 문자열로 바꾸지 않고 인코딩과 크기만 기록합니다
+ * 헤더는 새로 감싸지 않고 메시지에 붙어 있는 accessor를 재사용합니다
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class WebSocketChannelInterceptor implements ChannelInterceptor {
 
+    private final TelemetryLogging telemetryLogging;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompHeaderAccessor accessor = accessor(message);
         StompCommand command = accessor.getCommand();
 
         if (command != null) {
             switch (command) {
                 case CONNECT:
-                    log.info("📨 [STOMP] CONNECT frame received");
-                    log.debug("   - Session: {}", accessor.getSessionId());
-                    log.debug("   - User: {}", accessor.getUser());
+                    log.info("📨 [STOMP] CONNECT - session: {}", accessor.getSessionId());
                     break;
 
                 case SUBSCRIBE:
-                    log.info("📨 [STOMP] SUBSCRIBE frame received");
-                    log.info("   - Destination: {}", accessor.getDestination());
-                    log.info("   - Subscription ID: {}", accessor.getSubscriptionId());
-                    log.info("   - Session: {}", accessor.getSessionId());
+                    if (telemetryLogging.shouldLogFrame()) {
+                        log.info("📨 [STOMP] SUBSCRIBE - destination: {}, subscriptionId: {}, session: {}",
+                                accessor.getDestination(), accessor.getSubscriptionId(), accessor.getSessionId());
+                    }
                     break;
 
                 case SEND:
-                    log.info("📨 [STOMP] SEND frame received - MESSAGE FROM CLIENT");
-                    log.info("   - Destination: {}", accessor.getDestination());
-                    log.info("   - Session: {}", accessor.getSessionId());
-                    log.info("   - Message Payload Type: {}", message.getPayload().getClass().getName());
-                    log.info("   - Message Payload: {}", message.getPayload());
+                    logSend(message, accessor);
                     break;
 
                 case DISCONNECT:
-                    log.info("📨 [STOMP] DISCONNECT frame received");
-                    log.info("   - Session: {}", accessor.getSessionId());
+                    log.info("📨 [STOMP] DISCONNECT - session: {}", accessor.getSessionId());
                     break;
 
                 case UNSUBSCRIBE:
-                    log.info("📨 [STOMP] UNSUBSCRIBE frame received");
-                    log.info("   - Subscription ID: {}", accessor.getSubscriptionId());
+                    if (telemetryLogging.shouldLogFrame()) {
+                        log.info("📨 [STOMP] UNSUBSCRIBE - subscriptionId: {}, session: {}",
+                                accessor.getSubscriptionId(), accessor.getSessionId());
+                    }
                     break;
 
                 default:
@@ -65,21 +69,70 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
 
     @Override
     public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-        StompCommand command = accessor.getCommand();
+        if (!log.isDebugEnabled()) {
+            return;
+        }
 
-        if (command != null && command == StompCommand.MESSAGE) {
-            log.debug("📤 [STOMP] MESSAGE frame sent to client");
-            log.debug("   - Destination: {}", accessor.getDestination());
+        StompHeaderAccessor accessor = accessor(message);
+        if (accessor.getCommand() == StompCommand.MESSAGE) {
+            log.debug("📤 [STOMP] MESSAGE frame sent to client - destination: {}", accessor.getDestination());
         }
     }
 
     @Override
     public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
         if (ex != null) {
-            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            StompHeaderAccessor accessor = accessor(message);
             log.error("❌ [STOMP] Error sending message - command: {}, error: {}",
                     accessor.getCommand(), ex.getMessage(), ex);
         }
     }
+
+    /**
+     * SEND 프레임 로깅
+     * verbose 모드는 payload까지 INFO, production 모드는 샘플링된 요약만 INFO이고 payload는 DEBUG에서만 기록
+     */
+    private void logSend(Message<?> message, StompHeaderAccessor accessor) {
+        boolean verbose = telemetryLogging.isVerbose();
+        if (verbose) {
+            log.info("📨 [STOMP] SEND - destination: {}, session: {}, payload: {}",
+                    accessor.getDestination(), accessor.getSessionId(), payloadAsString(message.getPayload(), accessor));
+            return;
+        }
+
+        if (telemetryLogging.shouldLogFrame()) {
+            log.info("📨 [STOMP] SEND (sampled) - destination: {}, session: {}, payloadBytes: {}",
+                    accessor.getDestination(), accessor.getSessionId(), payloadSize(message.getPayload()));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("📨 [STOMP] SEND payload - session: {}, payload: {}",
+                    accessor.getSessionId(), payloadAsString(message.getPayload(), accessor));
+        }
+    }
+
+    /**
+     * 메시지에 붙어 있는 StompHeaderAccessor 재사용 (없을 때만 새로 감쌈)
+     */
+    private StompHeaderAccessor accessor(Message<?> message) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        return accessor != null ? accessor : StompHeaderAccessor.wrap(message);
+    }
+
+    /**
+     * 로그용 payload 문자열 (CBOR/Smile 등 바이너리 본문은 인코딩과 크기만 기록)
+     */
+    private Object payloadAsString(Object payload, StompHeaderAccessor accessor) {
+        if (!(payload instanceof byte[] bytes)) {
+            return payload;
+        }
+        StompPayloadEncoding encoding = StompPayloadEncoding.from(accessor.getContentType());
+        if (encoding.isBinary()) {
+            return "(" + encoding + ", " + bytes.length + " bytes)";
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int payloadSize(Object payload) {
+        return payload instanceof byte[] bytes ? bytes.length : -1;
+    }
 }
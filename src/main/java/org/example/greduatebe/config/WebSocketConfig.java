@@ -1,13 +1,24 @@
 package org.example.greduatebe.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.List;
 
 /**
  * WebSocket 설정 Configuration
@@ -20,6 +31,36 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketHandshakeInterceptor handshakeInterceptor;
     private final WebSocketChannelInterceptor channelInterceptor;
+    private final ObjectMapper objectMapper;
+    private final StompSessionRegistry sessionRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${websocket.transport.message-size-limit:262144}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.heartbeat.server-ms:10000}")
+    private long serverHeartbeatMs;
+
+    @Value("${websocket.heartbeat.client-ms:10000}")
+    private long clientHeartbeatMs;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    /**
+     * heartbeat 전송/검사용 스케줄러 (WebSocket 설정이 만드는 messageBrokerTaskScheduler를 지연 주입)
+     */
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
 
     /**
      * STOMP 엔드포인트 등록
@@ -45,25 +86,66 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
      * Message Broker 설정
      * - /topic: 메시지 브로커가 구독자에게 메시지를 전달하는 prefix
      * - /app: 클라이언트가 메시지를 보낼 때 사용하는 prefix
+     * 미션 ACK/에러는 브로커를 거치지 않고 MissionAckDispatcher가 구독 세션에 직접 보냅니다
+     * heartbeat: 서버는 server-ms마다 heartbeat를 보내고, 클라이언트에게 client-ms마다 보내도록 요청합니다
+     * (클라이언트 heartbeat가 끊기면 연결을 닫아 죽은 세션의 outbound 버퍼가 쌓이지 않도록 함)
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         log.info("Configuring message broker");
 
         // 메시지 브로커가 /topic으로 시작하는 메시지를 구독자에게 전달
-        registry.enableSimpleBroker("/topic");
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{serverHeartbeatMs, clientHeartbeatMs})
+                .setTaskScheduler(messageBrokerTaskScheduler);
 
         // 클라이언트가 /app으로 시작하는 메시지를 서버로 전송
         registry.setApplicationDestinationPrefixes("/app");
+
+        // inbound 채널이 멀티 스레드여도 같은 세션의 메시지는 수신 순서대로 처리 (시도별 순서는 수집 lane이 유지)
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    /**
+     * WebSocket 전송 제한 설정
+     * - message-size-limit: 수신 메시지 최대 크기 (배치 프레임을 고려해 기본 64KB보다 크게)
+     * - send-buffer-size-limit, send-time-limit-ms: 느린 클라이언트에게 보낼 프레임이 버퍼 크기나 전송 시간 제한을
+     *   넘으면 해당 세션을 닫아, 한 세션 때문에 outbound 스레드와 메모리가 묶이지 않도록 합니다
+     * 세션 연결/수신/종료는 SessionTrackingWebSocketHandlerDecorator가 StompSessionRegistry에 기록합니다
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        log.info("Configuring WebSocket transport - messageSizeLimit: {}, sendBufferSizeLimit: {}, sendTimeLimitMs: {}",
+                messageSizeLimit, sendBufferSizeLimit, sendTimeLimitMs);
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .addDecoratorFactory(handler -> new SessionTrackingWebSocketHandlerDecorator(handler, sessionRegistry));
     }
 
     /**
      * 클라이언트로부터 들어오는 메시지 채널 설정
      * ChannelInterceptor를 등록하여 모든 STOMP 메시지를 로깅합니다
+     * spring.threads.virtual.enabled=true이면 @MessageMapping 처리를 가상 스레드에서 실행합니다
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        log.info("Configuring client inbound channel with interceptor");
+        log.info("Configuring client inbound channel with interceptor - virtualThreads: {}", virtualThreadsEnabled);
         registration.interceptors(channelInterceptor);
+
+        if (virtualThreadsEnabled) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-inbound-"));
+        }
+    }
+
+    /**
+     * 메시지 Converter 설정
+     * content-type이 CBOR/Smile인 프레임을 위한 바이너리 Converter를 추가합니다 (기본 JSON Converter는 유지)
+     */
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.add(0, new BinaryJacksonMessageConverter(objectMapper, StompPayloadEncoding.CBOR));
+        messageConverters.add(1, new BinaryJacksonMessageConverter(objectMapper, StompPayloadEncoding.SMILE));
+        return true;
     }
 }
@@ -1,5 +1,6 @@
 package org.example.greduatebe.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
@@ -11,14 +12,17 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * WebSocket 연결/해제 이벤트 리스너
- * 연결, 구독, 해제 이벤트를 로깅합니다
+ * 연결, 구독, 해제 이벤트를 로깅하고, 구독 정보를 StompSessionRegistry에 기록합니다
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class WebSocketEventListener {
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
 
+    private final StompSessionRegistry sessionRegistry;
+
     /**
      * WebSocket 연결 시작 이벤트 (핸드셰이크 전)
      */
@@ -56,6 +60,7 @@ public class WebSocketEventListener {
         String subscriptionId = headerAccessor.getSubscriptionId();
         String time = LocalDateTime.now().format(TIME_FORMATTER);
 
+        sessionRegistry.recordSubscribe(sessionId, destination);
         log.info("📡 [{}] [WebSocket] Client subscribed - sessionId: {}, destination: {}, subscriptionId: {}",
                 time, sessionId, destination, subscriptionId);
     }
@@ -70,6 +75,7 @@ public class WebSocketEventListener {
         String subscriptionId = headerAccessor.getSubscriptionId();
         String time = LocalDateTime.now().format(TIME_FORMATTER);
 
+        sessionRegistry.recordUnsubscribe(sessionId);
         log.info("📴 [{}] [WebSocket] Client unsubscribed - sessionId: {}, subscriptionId: {}",
                 time, sessionId, subscriptionId);
     }
@@ -1,5 +1,6 @@
 package org.example.greduatebe.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
@@ -11,12 +12,15 @@ import java.util.Map;
 
 /**
  * WebSocket 핸드셰이크 Interceptor
- * 연결 시도 단계부터 상세하게 로깅합니다
+ * 연결 시도 단계부터 로깅합니다 (verbose 모드는 INFO 한 줄, 헤더 전체는 DEBUG에서만)
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
 
+    private final TelemetryLogging telemetryLogging;
+
     @Override
     public boolean beforeHandshake(
             ServerHttpRequest request,
@@ -24,16 +28,13 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
             WebSocketHandler wsHandler,
             Map<String, Object> attributes) throws Exception {
 
-        String uri = request.getURI().toString();
-        String remoteAddress = request.getRemoteAddress() != null ?
-                request.getRemoteAddress().toString() : "unknown";
-        String origin = request.getHeaders().getOrigin();
-
-        log.info("🔵 [WebSocket] Handshake request received");
-        log.info("   - URI: {}", uri);
-        log.info("   - Remote Address: {}", remoteAddress);
-        log.info("   - Origin: {}", origin);
-        log.info("   - Headers: {}", request.getHeaders());
+        if (telemetryLogging.isVerbose()) {
+            log.info("🔵 [WebSocket] Handshake request - uri: {}, remoteAddress: {}, origin: {}",
+                    request.getURI(), request.getRemoteAddress(), request.getHeaders().getOrigin());
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("🔵 [WebSocket] Handshake headers - uri: {}, headers: {}", request.getURI(), request.getHeaders());
+        }
 
         // 핸드셰이크 허용
         return true;
@@ -49,8 +50,7 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
         if (exception != null) {
             log.error("❌ [WebSocket] Handshake failed - error: {}", exception.getMessage(), exception);
         } else {
-            log.info("✅ [WebSocket] Handshake completed successfully");
-            log.info("   - URI: {}", request.getURI());
+            log.debug("✅ [WebSocket] Handshake completed successfully - uri: {}", request.getURI());
         }
     }
 }
@@ -3,11 +3,15 @@ package org.example.greduatebe.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.greduatebe.dto.response.ApiResponse;
+import org.example.greduatebe.dto.response.dashboard.DailyEventCountDto;
 import org.example.greduatebe.entity.MissionType;
 import org.example.greduatebe.service.AnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -35,4 +39,21 @@ public class AnalyticsController {
 
         return ResponseEntity.ok(ApiResponse.success(analytics));
     }
+
+    /**
+     * 일별 이벤트 이력 조회 (rollup)
+     * GET /api/analytics/events/daily?from=2025-01-01&to=2025-01-31&missionType=PORTFOLIO
+     */
+    @GetMapping("/events/daily")
+    public ResponseEntity<ApiResponse<List<DailyEventCountDto>>> getDailyEventHistory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) MissionType missionType) {
+
+        log.info("GET /api/analytics/events/daily - from: {}, to: {}, missionType: {}", from, to, missionType);
+
+        List<DailyEventCountDto> history = analyticsService.getDailyEventHistory(from, to, missionType);
+
+        return ResponseEntity.ok(ApiResponse.success(history));
+    }
 }
@@ -3,6 +3,7 @@ package org.example.greduatebe.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.greduatebe.dto.response.dashboard.*;
+import org.example.greduatebe.service.AttemptDetailCache;
 import org.example.greduatebe.service.MissionAnalysisService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -25,6 +26,7 @@ import java.util.List;
 public class DashboardController {
 
     private final MissionAnalysisService analysisService;
+    private final AttemptDetailCache attemptDetailCache;
 
     /**
      * 메인 대시보드 페이지
@@ -88,7 +90,7 @@ public class DashboardController {
 
         try {
             // 미션 시도 상세 조회
-            AttemptDetailDto attemptDetail = analysisService.getAttemptDetail(attemptId);
+            AttemptDetailDto attemptDetail = attemptDetailCache.get(attemptId);
 
             if (attemptDetail == null) {
                 log.warn("⚠️ [Dashboard] Attempt not found - attemptId: {}", attemptId);
@@ -0,0 +1,79 @@
+package org.example.greduatebe.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.entity.MissionType;
+import org.example.greduatebe.service.EventExportService;
+import org.example.greduatebe.service.EventExportService.ExportFormat;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 데이터 export REST API Controller
+ * 연구용 오프라인 분석을 위해 원본 이벤트를 스트리밍으로 내려줍니다
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EventExportService eventExportService;
+
+    /**
+     * 미션 이벤트 export
+     * GET /api/export/events?format=ndjson|csv&gzip=true&missionType=&eventType=&from=&to=
+     */
+    @GetMapping("/events")
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @RequestParam(required = false) MissionType missionType,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        log.info("GET /api/export/events - format: {}, gzip: {}, missionType: {}, eventType: {}, from: {}, to: {}",
+                format, gzip, missionType, eventType, from, to);
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        eventExportService.validate(from, to);
+
+        String filename = "mission_events_"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"))
+                + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = gzip
+                    ? new GZIPOutputStream(outputStream, BUFFER_SIZE)
+                    : new BufferedOutputStream(outputStream, BUFFER_SIZE);
+            try (out) {
+                eventExportService.export(missionType, eventType, from, to, exportFormat, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(gzip
+                        ? MediaType.parseMediaType("application/gzip")
+                        : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -5,26 +5,30 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.greduatebe.dto.request.MissionStartRequest;
 import org.example.greduatebe.dto.response.ApiResponse;
+import org.example.greduatebe.dto.response.CursorPageResponse;
+import org.example.greduatebe.dto.response.EventBatchResponse;
 import org.example.greduatebe.dto.response.MissionDetailResponse;
 import org.example.greduatebe.dto.response.MissionStartResponse;
 import org.example.greduatebe.entity.MissionAttempt;
-import org.example.greduatebe.entity.MissionEvent;
 import org.example.greduatebe.entity.MissionStatus;
 import org.example.greduatebe.entity.MissionType;
 import org.example.greduatebe.entity.Review;
+import org.example.greduatebe.repository.MissionEventReadRepository.StoredEvent;
+import org.example.greduatebe.service.EventBatchIngestionService;
 import org.example.greduatebe.service.EventService;
 import org.example.greduatebe.service.MissionService;
 import org.example.greduatebe.service.ReviewService;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +43,7 @@ public class MissionController {
     private final MissionService missionService;
     private final EventService eventService;
     private final ReviewService reviewService;
+    private final EventBatchIngestionService batchIngestionService;
 
     /**
      * 미션 시작
@@ -69,7 +74,7 @@ public class MissionController {
         log.info("GET /api/missions/{} - Retrieving mission detail", attemptId);
 
         MissionAttempt missionAttempt = missionService.getMissionAttempt(attemptId);
-        List<MissionEvent> events = eventService.getEventsByAttemptId(attemptId);
+        List<StoredEvent> events = eventService.getEventsByAttemptId(attemptId);
         Long eventCount = eventService.getEventCountByAttemptId(attemptId);
         Review review = reviewService.getReview(attemptId).orElse(null);
 
@@ -86,10 +91,10 @@ public class MissionController {
                 .eventCount(eventCount)
                 .events(events.stream().map(event ->
                         MissionDetailResponse.EventInfo.builder()
-                                .eventId(event.getEventId())
-                                .eventType(event.getEventType())
-                                .timestamp(event.getTimestamp())
-                                .data(event.getData())
+                                .eventId(event.eventId())
+                                .eventType(event.eventType())
+                                .timestamp(event.timestamp())
+                                .data(event.data())
                                 .build()
                 ).collect(Collectors.toList()))
                 .review(review != null ? MissionDetailResponse.ReviewInfo.builder()
@@ -106,51 +111,47 @@ public class MissionController {
     }
 
     /**
-     * 미션 시도 목록 조회 (페이징, 필터링)
+     * 미션 시도 목록 조회 (필터링, 커서 페이징)
      * GET /api/missions
+     * 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<MissionDetailResponse>>> listMissions(
+    public ResponseEntity<ApiResponse<CursorPageResponse<MissionDetailResponse>>> listMissions(
             @RequestParam(required = false) MissionType missionType,
             @RequestParam(required = false) MissionStatus status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
 
-        log.info("GET /api/missions - page: {}, size: {}, missionType: {}, status: {}",
-                page, size, missionType, status);
-
-        Pageable pageable = PageRequest.of(page, size);
-        Page<MissionAttempt> missionPage = missionService.listMissionAttempts(
-                missionType, status, startDate, endDate, pageable);
-
-        // Page<MissionAttempt>를 Page<MissionDetailResponse>로 변환
-        Page<MissionDetailResponse> responsePage = missionPage.map(attempt -> {
-            Long eventCount = eventService.getEventCountByAttemptId(attempt.getAttemptId());
-            Review review = reviewService.getReview(attempt.getAttemptId()).orElse(null);
-
-            return MissionDetailResponse.builder()
-                    .attemptId(attempt.getAttemptId())
-                    .sessionId(attempt.getSessionId())
-                    .missionType(attempt.getMissionType())
-                    .missionName(attempt.getMissionName())
-                    .startTime(attempt.getStartTime())
-                    .endTime(attempt.getEndTime())
-                    .totalDuration(attempt.getTotalDuration())
-                    .status(attempt.getStatus())
-                    .eventCount(eventCount)
-                    .review(review != null ? MissionDetailResponse.ReviewInfo.builder()
-                            .reviewId(review.getReviewId())
-                            .rating(review.getRating())
-                            .ratingText(review.getRatingText())
-                            .feedback(review.getFeedback())
-                            .hasFeedback(review.getHasFeedback())
-                            .submittedAt(review.getSubmittedAt())
-                            .build() : null)
-                    .build();
-        });
-
-        return ResponseEntity.ok(ApiResponse.success(responsePage));
+        log.info("GET /api/missions - cursor: {}, size: {}, missionType: {}, status: {}",
+                cursor, size, missionType, status);
+
+        CursorPageResponse<MissionDetailResponse> response = missionService.listMissionAttempts(
+                missionType, status, startDate, endDate, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 이벤트 일괄 전송 (STOMP 연결이 불안정할 때의 HTTP 폴백)
+     * POST /api/missions/{attemptId}/events:batch
+     * 본문은 JSON 배열 또는 NDJSON, Content-Encoding: gzip 지원
+     * 응답에는 요청 순서대로 이벤트별 결과가 담기며, TIMEOUT인 이벤트는
+     * 같은 clientEventId로 다시 보내면 중복 없이 재시도됩니다
+     * 수집 큐가 가득 차면 배치 전체를 503(EVENT_QUEUE_FULL)으로 거절하므로 같은 배치를 그대로 다시 보냅니다
+     */
+    @PostMapping(value = "/{attemptId}/events:batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public CompletableFuture<ResponseEntity<ApiResponse<EventBatchResponse>>> ingestEventBatch(
+            @PathVariable String attemptId,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) {
+
+        log.info("POST /api/missions/{}/events:batch - contentEncoding: {}", attemptId, contentEncoding);
+
+        boolean gzip = "gzip".equalsIgnoreCase(contentEncoding);
+        return batchIngestionService.ingest(attemptId, body, gzip)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response)));
     }
 }
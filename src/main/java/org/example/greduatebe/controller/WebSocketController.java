@@ -1,17 +1,42 @@
 package org.example.greduatebe.controller;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.config.MissionAckDispatcher;
+import org.example.greduatebe.config.StompPayloadEncoding;
+import org.example.greduatebe.config.StompSessionRegistry;
+import org.example.greduatebe.dto.request.WebSocketEventBatch;
 import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.dto.response.EventBatchAck;
 import org.example.greduatebe.entity.MissionEvent;
-import org.example.greduatebe.service.EventService;
+import org.example.greduatebe.exception.EventQueueFullException;
+import org.example.greduatebe.exception.InvalidEventException;
+import org.example.greduatebe.exception.MissionNotFoundException;
+import org.example.greduatebe.service.EventIngestionPipeline;
+import org.example.greduatebe.service.EventIngestionResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.MimeType;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebSocket 메시지 핸들러 Controller
@@ -21,65 +46,283 @@ import java.util.Map;
 @Slf4j
 public class WebSocketController {
 
-    private final EventService eventService;
-    private final SimpMessagingTemplate messagingTemplate;
+    /**
+     * 이벤트당 한 줄 요약 로그 (key=value 형식, 별도 logger로 레벨/라우팅 조정 가능)
+     */
+    private static final Logger EVENT_SUMMARY = LoggerFactory.getLogger("mission.event.summary");
+
+    /**
+     * 다시 보내도 결과가 바뀌지 않는 에러 코드 (highWatermark 계산 시 처리 완료로 간주)
+     */
+    private static final Set<String> FINAL_ERROR_CODES = Set.of("INVALID_EVENT", "MISSION_NOT_FOUND");
+
+    private final EventIngestionPipeline ingestionPipeline;
+    private final MissionAckDispatcher ackDispatcher;
+    private final StompSessionRegistry sessionRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mission.stomp-batch.max-events:200}")
+    private int maxBatchEvents;
+
+    private Timer ackLatencyTimer;
+    private Timer errorLatencyTimer;
+    private Timer batchAckLatencyTimer;
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    void registerMetrics() {
+        ackLatencyTimer = endToEndTimer("ack");
+        errorLatencyTimer = endToEndTimer("error");
+        batchAckLatencyTimer = endToEndTimer("batch_ack");
+        batchSizeSummary = DistributionSummary.builder("mission.stomp.batch.size")
+                .description("Number of events per STOMP batch frame")
+                .register(meterRegistry);
+    }
 
     /**
      * 미션 이벤트 수신 핸들러
      * 클라이언트가 /app/mission/event로 메시지를 보내면 이 메서드가 호출됩니다
+     * 이벤트는 수집 파이프라인에 등록되고, 배치가 커밋된 후 ACK가 전송됩니다
+     * ACK/에러는 SEND 프레임과 같은 인코딩(JSON, CBOR, Smile)으로 보냅니다
      *
      * @param message WebSocket 메시지
-     * @return ACK 응답
+     * @param contentType SEND 프레임의 content-type (없으면 JSON)
+     * @param stompSessionId STOMP 세션 ID
      */
     @MessageMapping("/mission/event")
-    public void handleMissionEvent(WebSocketMessage message) {
-        long startTime = System.currentTimeMillis();
+    public void handleMissionEvent(WebSocketMessage message,
+                                   @Header(name = MessageHeaders.CONTENT_TYPE, required = false) MimeType contentType,
+                                   @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false) String stompSessionId) {
+        long startNanos = System.nanoTime();
+        StompPayloadEncoding encoding = StompPayloadEncoding.from(contentType);
+        sessionRegistry.recordEvents(stompSessionId, message.getAttemptId(), 1);
 
-        log.info("📥 [WebSocket] Message received - eventType: {}, attemptId: {}, sessionId: {}",
-                message.getEventType(), message.getAttemptId(), message.getSessionId());
-        log.debug("Message data: {}", message.getData());
+        if (log.isDebugEnabled()) {
+            log.debug("📥 [WebSocket] Message received - eventType: {}, attemptId: {}, sessionId: {}, data: {}",
+                    message.getEventType(), message.getAttemptId(), message.getSessionId(), message.getData());
+        }
 
         try {
-            // 이벤트 처리
-            MissionEvent savedEvent = eventService.processEvent(message);
-            long processingTime = System.currentTimeMillis() - startTime;
-
-            log.info("✅ [WebSocket] Event processed successfully - eventId: {}, processingTime: {}ms",
-                    savedEvent.getEventId(), processingTime);
-
-            // ACK 응답 생성
-            Map<String, Object> ackResponse = new HashMap<>();
-            ackResponse.put("status", "success");
-            ackResponse.put("eventId", savedEvent.getEventId());
-            ackResponse.put("eventType", savedEvent.getEventType());
-            ackResponse.put("attemptId", savedEvent.getAttemptId());
-            ackResponse.put("timestamp", LocalDateTime.now());
-            ackResponse.put("processingTime", savedEvent.getProcessingTime());
-
-            // 클라이언트에게 ACK 응답 전송 (개별 세션)
-            String ackDestination = "/topic/mission/" + message.getAttemptId() + "/ack";
-            messagingTemplate.convertAndSend(ackDestination, ackResponse);
-            log.info("📤 [WebSocket] ACK sent to client - destination: {}, eventId: {}",
-                    ackDestination, savedEvent.getEventId());
+            // 수집 파이프라인에 등록 (큐가 가득 차면 EventQueueFullException)
+            ingestionPipeline.submit(message).whenComplete((result, error) -> {
+                if (error != null) {
+                    sendError(message, EventIngestionResult.unwrap(error), encoding);
+                    errorLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    return;
+                }
+
+                MissionEvent savedEvent = result.getEvent();
+                long processingTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                sendAck(message, savedEvent, processingTime, result.isDuplicate(), encoding);
+                ackLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+                EVENT_SUMMARY.info("result={} eventType={} attemptId={} eventId={} latencyMs={}",
+                        result.isDuplicate() ? "duplicate" : "ack", savedEvent.getEventType(),
+                        savedEvent.getAttemptId(), savedEvent.getEventId(), processingTime);
+            });
 
         } catch (Exception e) {
+            sendError(message, e, encoding);
+            errorLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 미션 이벤트 배치 수신 핸들러
+     * 클라이언트가 /app/mission/events로 한 시도의 이벤트 여러 개를 한 프레임에 보내면 이 메서드가 호출됩니다
+     * 이벤트는 순서대로 수집 파이프라인에 등록되고, 모두 처리되면 ACK 한 개(EventBatchAck)를 전송합니다
+     * 프레임, JSON 변환, 브로커 전달 비용을 이벤트마다가 아니라 배치마다 한 번만 씁니다
+     *
+     * @param batch WebSocket 이벤트 배치
+     * @param contentType SEND 프레임의 content-type (없으면 JSON)
+     * @param stompSessionId STOMP 세션 ID
+     */
+    @MessageMapping("/mission/events")
+    public void handleMissionEventBatch(WebSocketEventBatch batch,
+                                        @Header(name = MessageHeaders.CONTENT_TYPE, required = false) MimeType contentType,
+                                        @Header(name = SimpMessageHeaderAccessor.SESSION_ID_HEADER, required = false) String stompSessionId) {
+        long startNanos = System.nanoTime();
+        StompPayloadEncoding encoding = StompPayloadEncoding.from(contentType);
+        List<WebSocketMessage> events = batch.getEvents() != null ? batch.getEvents() : List.of();
+        sessionRegistry.recordEvents(stompSessionId, batch.getAttemptId(), events.size());
+
+        // lane 용량보다 큰 배치는 큐가 비어 있어도 한 번에 등록할 수 없음
+        int limit = Math.min(maxBatchEvents, ingestionPipeline.getMaxBatchEvents());
+        WebSocketMessage batchMessage = WebSocketMessage.builder().attemptId(batch.getAttemptId()).build();
+        // highWatermark를 계산할 수 있도록 baseSeq 필수
+        if (batch.getAttemptId() == null || batch.getAttemptId().isEmpty()
+                || batch.getBaseSeq() == null || batch.getBaseSeq() < 0
+                || events.isEmpty() || events.size() > limit) {
+            sendError(batchMessage, new InvalidEventException(
+                    "Event batch requires attemptId, baseSeq >= 0 and 1.." + limit + " events"), encoding);
+            errorLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        batchSizeSummary.record(events.size());
+        log.debug("📥 [WebSocket] Batch received - attemptId: {}, events: {}, baseSeq: {}",
+                batch.getAttemptId(), events.size(), batch.getBaseSeq());
+
+        // 배치의 attemptId/sessionId를 기본값으로 사용, 다른 시도의 이벤트는 등록하지 않음
+        List<WebSocketMessage> submittable = new ArrayList<>(events.size());
+        for (WebSocketMessage event : events) {
+            if (event.getAttemptId() == null || event.getAttemptId().isEmpty()) {
+                event.setAttemptId(batch.getAttemptId());
+            }
+            if (event.getSessionId() == null || event.getSessionId().isEmpty()) {
+                event.setSessionId(batch.getSessionId());
+            }
+            if (batch.getAttemptId().equals(event.getAttemptId())) {
+                submittable.add(event);
+            }
+        }
+
+        // 큐에 배치 전체가 들어갈 자리가 없으면 한 건도 등록되지 않으므로 에러 한 번으로 배치 전체 재전송을 요청
+        List<CompletableFuture<EventIngestionResult>> submitted;
+        try {
+            submitted = ingestionPipeline.submitAll(submittable);
+        } catch (EventQueueFullException e) {
+            sendError(batchMessage, e, encoding);
+            errorLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+        List<CompletableFuture<EventIngestionResult>> futures = new ArrayList<>(events.size());
+        int next = 0;
+        for (WebSocketMessage event : events) {
+            futures.add(batch.getAttemptId().equals(event.getAttemptId())
+                    ? submitted.get(next++)
+                    : CompletableFuture.failedFuture(new InvalidEventException(
+                            "attemptId does not match the batch: " + event.getAttemptId())));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).whenComplete((done, ignored) -> {
+            long processingTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            sendBatchAck(batch, futures, processingTime, encoding);
+            batchAckLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    /**
+     * 클라이언트에게 ACK 응답 전송
+     * processingTime은 수신부터 커밋 완료까지의 시간(ms)입니다
+     * 이미 저장된 이벤트의 재전송이면 status=duplicate로 기존 eventId를 돌려주어 클라이언트가 재시도를 멈추게 합니다
+     */
+    private void sendAck(WebSocketMessage message, MissionEvent savedEvent, long processingTime, boolean duplicate,
+                         StompPayloadEncoding encoding) {
+        // ACK 응답 생성
+        Map<String, Object> ackResponse = new HashMap<>();
+        ackResponse.put("status", duplicate ? "duplicate" : "success");
+        ackResponse.put("eventId", savedEvent.getEventId());
+        if (message.getClientEventId() != null) {
+            ackResponse.put("clientEventId", message.getClientEventId());
+        }
+        ackResponse.put("eventType", savedEvent.getEventType());
+        ackResponse.put("attemptId", savedEvent.getAttemptId());
+        ackResponse.put("timestamp", LocalDateTime.now());
+        ackResponse.put("processingTime", processingTime);
+
+        // 클라이언트에게 ACK 응답 전송 (구독한 세션에 직접 전송)
+        String ackDestination = "/topic/mission/" + message.getAttemptId() + "/ack";
+        ackDispatcher.send(ackDestination, ackResponse, encoding);
+        log.debug("📤 [WebSocket] ACK sent to client - destination: {}, eventId: {}",
+                ackDestination, savedEvent.getEventId());
+    }
+
+    /**
+     * 클라이언트에게 배치 ACK 전송 (status=batch로 단건 ACK와 구분)
+     * highWatermark는 baseSeq부터 재전송이 필요 없는 이벤트(저장/중복/최종 실패)가 이어지는 마지막 시퀀스 번호이며,
+     * 첫 이벤트부터 재전송이 필요하면 null입니다
+     */
+    private void sendBatchAck(WebSocketEventBatch batch, List<CompletableFuture<EventIngestionResult>> futures,
+                              long processingTime, StompPayloadEncoding encoding) {
+        String[] eventIds = new String[futures.size()];
+        List<EventBatchAck.EventError> errors = new ArrayList<>();
+        int duplicates = 0;
+        int resolvedPrefix = -1;
+        boolean contiguous = true;
+
+        for (int i = 0; i < futures.size(); i++) {
+            boolean resolved;
+            try {
+                EventIngestionResult result = futures.get(i).join();
+                eventIds[i] = result.getEvent().getEventId();
+                duplicates += result.isDuplicate() ? 1 : 0;
+                resolved = true;
+            } catch (RuntimeException e) {
+                Throwable cause = EventIngestionResult.unwrap(e);
+                String code = EventIngestionResult.errorCode(cause);
+                errors.add(EventBatchAck.EventError.builder()
+                        .index(i)
+                        .code(code)
+                        .error(cause.getMessage())
+                        .build());
+                resolved = FINAL_ERROR_CODES.contains(code);
+            }
+            contiguous &= resolved;
+            if (contiguous) {
+                resolvedPrefix = i;
+            }
+        }
+
+        EventBatchAck ack = EventBatchAck.builder()
+                .status("batch")
+                .attemptId(batch.getAttemptId())
+                .acceptedEventIds(Arrays.asList(eventIds))
+                .duplicates(duplicates)
+                .highWatermark(resolvedPrefix >= 0 ? batch.getBaseSeq() + resolvedPrefix : null)
+                .errors(errors.isEmpty() ? null : errors)
+                .processingTime(processingTime)
+                .build();
+
+        String ackDestination = "/topic/mission/" + batch.getAttemptId() + "/ack";
+        ackDispatcher.send(ackDestination, ack, encoding);
+
+        EVENT_SUMMARY.info("result=batch_ack attemptId={} events={} accepted={} duplicates={} errors={} latencyMs={}",
+                batch.getAttemptId(), futures.size(), futures.size() - errors.size() - duplicates, duplicates,
+                errors.size(), processingTime);
+        if (!errors.isEmpty()) {
+            log.warn("⚠️ [WebSocket] Batch partially failed - attemptId: {}, errors: {}, highWatermark: {}",
+                    batch.getAttemptId(), errors.size(), ack.getHighWatermark());
+        }
+    }
+
+    /**
+     * 클라이언트에게 에러 응답 전송
+     */
+    private void sendError(WebSocketMessage message, Throwable e, StompPayloadEncoding encoding) {
+        // 클라이언트 입력/backpressure로 예상되는 오류는 stack trace 없이 WARN
+        if (e instanceof InvalidEventException || e instanceof MissionNotFoundException
+                || e instanceof EventQueueFullException) {
+            log.warn("⚠️ [WebSocket] Rejected message - eventType: {}, attemptId: {}, error: {}",
+                    message.getEventType(), message.getAttemptId(), e.getMessage());
+        } else {
             log.error("❌ [WebSocket] Error processing message - eventType: {}, attemptId: {}, error: {}",
                     message.getEventType(), message.getAttemptId(), e.getMessage(), e);
+        }
+        EVENT_SUMMARY.info("result=error eventType={} attemptId={} error={}",
+                message.getEventType(), message.getAttemptId(), e.getClass().getSimpleName());
 
-            // 에러 응답 생성
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("status", "error");
-            errorResponse.put("eventType", message.getEventType());
-            errorResponse.put("attemptId", message.getAttemptId());
-            errorResponse.put("error", e.getMessage());
-            errorResponse.put("timestamp", LocalDateTime.now());
+        // 에러 응답 생성
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("status", "error");
+        errorResponse.put("eventType", message.getEventType());
+        errorResponse.put("attemptId", message.getAttemptId());
+        errorResponse.put("error", e.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
 
-            // 클라이언트에게 에러 응답 전송
-            String errorDestination = "/topic/mission/" + message.getAttemptId() + "/error";
-            messagingTemplate.convertAndSend(errorDestination, errorResponse);
+        // 클라이언트에게 에러 응답 전송
+        String errorDestination = "/topic/mission/" + message.getAttemptId() + "/error";
+        ackDispatcher.send(errorDestination, errorResponse, encoding);
 
-            log.error("📤 [WebSocket] Error response sent to client - destination: {}, attemptId: {}",
-                    errorDestination, message.getAttemptId());
-        }
+        log.debug("📤 [WebSocket] Error response sent to client - destination: {}, attemptId: {}",
+                errorDestination, message.getAttemptId());
+    }
+
+    private Timer endToEndTimer(String result) {
+        return Timer.builder("mission.event.e2e")
+                .description("Time from STOMP receive until the ACK or error frame is sent")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
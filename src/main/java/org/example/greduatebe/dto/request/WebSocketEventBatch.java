@@ -0,0 +1,28 @@
+package org.example.greduatebe.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * WebSocket 이벤트 배치 DTO (/app/mission/events)
+ * 한 미션 시도의 이벤트 여러 개를 한 프레임으로 보냅니다.
+ * 이벤트에 attemptId/sessionId가 없으면 배치의 값을 사용합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebSocketEventBatch {
+
+    private String attemptId;
+
+    private String sessionId;
+
+    private Long baseSeq;  // Required - 첫 이벤트의 클라이언트 시퀀스 번호 (시도별 누적, 0 이상)
+
+    private List<WebSocketMessage> events;
+}
@@ -2,6 +2,7 @@ package org.example.greduatebe.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,5 +30,8 @@ public class WebSocketMessage {
 
     private String attemptId;
 
+    @Size(max = 100, message = "clientEventId는 100자 이하여야 합니다")
+    private String clientEventId;  // Optional - 클라이언트가 생성한 이벤트 ID (재전송 중복 제거용)
+
     private Map<String, Object> data;  // Optional - 없으면 빈 Map 사용
 }
@@ -0,0 +1,42 @@
+package org.example.greduatebe.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * WebSocket 이벤트 배치 ACK DTO
+ * acceptedEventIds는 배치의 이벤트 순서와 같으며, 저장되지 않은 이벤트 자리는 null입니다 (중복이면 기존 eventId)
+ * highWatermark는 재전송이 필요 없는 가장 긴 앞부분의 마지막 클라이언트 시퀀스 번호로,
+ * 클라이언트는 이 번호까지의 이벤트를 버퍼에서 지우고 이후 이벤트만 다시 보내면 됩니다
+ * 첫 이벤트부터 재전송이 필요하면 highWatermark는 없으며(null), 배치 전체를 다시 보내면 됩니다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventBatchAck {
+
+    private String status;
+    private String attemptId;
+    private List<String> acceptedEventIds;
+    private int duplicates;
+    private Long highWatermark;
+    private List<EventError> errors;
+    private long processingTime;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EventError {
+        private int index;
+        private String code;
+        private String error;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.greduatebe.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 이벤트 일괄 수집 응답 DTO
+ * results는 요청 순서와 같으며, status가 success/duplicate인 이벤트는 저장이 확정된 것입니다
+ * error인 이벤트는 code에 따라 재전송 여부를 판단합니다 (TIMEOUT은 재전송 가능)
+ * 수집 큐가 가득 차면 이 응답 대신 배치 전체가 503(EVENT_QUEUE_FULL)으로 거절됩니다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventBatchResponse {
+
+    private String attemptId;
+    private int received;
+    private int accepted;
+    private int duplicates;
+    private int failed;
+    private List<EventResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class EventResult {
+        private int index;
+        private String status;
+        private String eventId;
+        private String clientEventId;
+        private String eventType;
+        private String code;
+        private String error;
+    }
+}
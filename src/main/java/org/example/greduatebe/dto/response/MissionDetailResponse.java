@@ -1,5 +1,6 @@
 package org.example.greduatebe.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,7 +11,6 @@ import org.example.greduatebe.entity.MissionType;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 미션 상세 정보 응답 DTO
@@ -41,7 +41,9 @@ public class MissionDetailResponse {
         private String eventId;
         private String eventType;
         private LocalDateTime timestamp;
-        private Map<String, Object> data;
+        // 저장된 JSON 텍스트를 그대로 응답에 포함 (Map 역직렬화 없음)
+        @JsonRawValue
+        private String data;
     }
 
     @Data
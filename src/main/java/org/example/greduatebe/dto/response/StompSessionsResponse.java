@@ -0,0 +1,24 @@
+package org.example.greduatebe.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.greduatebe.config.StompSessionRegistry.SessionSnapshot;
+
+import java.util.List;
+
+/**
+ * STOMP 세션 현황 응답 DTO (이 노드 기준)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StompSessionsResponse {
+
+    private int activeSessions;
+    private int liveAttempts;
+    private int subscriptions;
+    private List<SessionSnapshot> sessions;
+}
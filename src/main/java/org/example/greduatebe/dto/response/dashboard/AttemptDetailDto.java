@@ -1,5 +1,6 @@
 package org.example.greduatebe.dto.response.dashboard;
 
+import com.fasterxml.jackson.annotation.JsonRawValue;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,7 +11,6 @@ import org.example.greduatebe.entity.MissionType;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 미션 시도 상세 DTO
@@ -125,9 +125,10 @@ public class AttemptDetailDto {
         private String dataPreview;
 
         /**
-         * 원본 데이터
+         * 원본 데이터 (저장된 JSON 텍스트를 그대로 응답에 포함)
          */
-        private Map<String, Object> data;
+        @JsonRawValue
+        private String data;
 
         /**
          * 미션과 관련된 페이지 여부 (page_view 이벤트의 경우)
@@ -0,0 +1,44 @@
+package org.example.greduatebe.dto.response.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.greduatebe.entity.MissionType;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 이벤트 건수 DTO (mission_event_daily_rollups)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyEventCountDto {
+
+    /**
+     * 날짜 (이벤트 timestamp 기준)
+     */
+    private LocalDate day;
+
+    /**
+     * 미션 타입
+     */
+    private MissionType missionType;
+
+    /**
+     * 이벤트 타입
+     */
+    private String eventType;
+
+    /**
+     * 이벤트 건수
+     */
+    private Long eventCount;
+
+    /**
+     * 이벤트를 보낸 시도 수
+     */
+    private Long attemptCount;
+}
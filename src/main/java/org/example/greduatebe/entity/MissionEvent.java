@@ -6,6 +6,7 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.Type;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -51,6 +52,24 @@ public class MissionEvent {
     @Column(name = "processing_time")
     private Long processingTime;
 
+    // data에서 추출한 타입 컬럼 (EventFieldExtractor, 해당 eventType이 아니거나 값이 없으면 null)
+    // portfolio_creation_step
+    @Column(name = "step")
+    private Integer step;
+
+    @Column(name = "time_on_step")
+    private BigDecimal timeOnStep;
+
+    // page_view
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "scroll_depth")
+    private Integer scrollDepth;
+
+    @Column(name = "is_mission_relevant")
+    private Boolean isMissionRelevant;
+
     // 연관관계
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "attempt_id", referencedColumnName = "attempt_id", insertable = false, updatable = false)
@@ -0,0 +1,15 @@
+package org.example.greduatebe.exception;
+
+/**
+ * 이벤트 수집 큐가 가득 차서 이벤트를 받을 수 없을 때 발생하는 예외
+ */
+public class EventQueueFullException extends RuntimeException {
+
+    public EventQueueFullException(String message) {
+        super(message);
+    }
+
+    public EventQueueFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
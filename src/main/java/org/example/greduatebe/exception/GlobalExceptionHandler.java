@@ -54,6 +54,18 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("INVALID_REQUEST", e.getMessage()));
     }
 
+    /**
+     * EventQueueFullException 처리 (이벤트 수집 큐 포화)
+     */
+    @ExceptionHandler(EventQueueFullException.class)
+    public ResponseEntity<ApiResponse<Void>> handleEventQueueFullException(EventQueueFullException e) {
+        log.warn("EventQueueFullException: {}", e.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("EVENT_QUEUE_FULL", e.getMessage()));
+    }
+
     /**
      * Validation 예외 처리 (Bean Validation)
      */
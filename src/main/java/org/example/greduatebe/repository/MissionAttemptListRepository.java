@@ -0,0 +1,148 @@
+package org.example.greduatebe.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.dto.response.MissionDetailResponse;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.MissionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미션 시도 목록 조회 Repository
+ * 필터, 이벤트 수, 리뷰 요약을 한 번의 쿼리로 조회하고
+ * (start_time, id) 기준 keyset 페이징으로 깊은 페이지도 일정한 비용으로 조회합니다.
+ * 내부 서브쿼리에서 필터/정렬/LIMIT을 먼저 적용하므로 이벤트 수와 리뷰는 페이지 크기만큼만 조회합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class MissionAttemptListRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT
+                ma.id, ma.attempt_id, ma.session_id, ma.mission_type, ma.mission_name,
+                ma.start_time, ma.end_time, ma.total_duration, ma.status,
+                ec.event_count,
+                r.review_id, r.rating, r.rating_text, r.feedback, r.has_feedback, r.submitted_at
+            FROM (
+                SELECT id, attempt_id, session_id, mission_type, mission_name,
+                       start_time, end_time, total_duration, status
+                FROM mission_attempts
+                %s
+                ORDER BY start_time DESC, id DESC
+                LIMIT ?
+            ) ma
+            CROSS JOIN LATERAL (
+                SELECT COUNT(*) as event_count
+                FROM mission_events me
+                WHERE me.attempt_id = ma.attempt_id
+            ) ec
+            LEFT JOIN LATERAL (
+                SELECT review_id, rating, rating_text, feedback, has_feedback, submitted_at
+                FROM reviews
+                WHERE reviews.attempt_id = ma.attempt_id
+                ORDER BY submitted_at DESC
+                LIMIT 1
+            ) r ON true
+            ORDER BY ma.start_time DESC, ma.id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 미션 시도 목록 조회
+     * @param missionType 미션 타입 (선택)
+     * @param status 상태 (선택)
+     * @param startDate 시작 시간 하한, 포함 (선택)
+     * @param endDate 시작 시간 상한, 포함 (선택)
+     * @param after 이전 페이지 마지막 항목의 키 (첫 페이지면 null)
+     * @param limit 최대 조회 수
+     * @return 목록 항목 (start_time, id 내림차순)
+     */
+    public List<ListRow> findPage(MissionType missionType, MissionStatus status,
+                                  LocalDateTime startDate, LocalDateTime endDate,
+                                  Cursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        if (missionType != null) {
+            conditions.add("mission_type = ?");
+            params.add(missionType.name());
+        }
+        if (status != null) {
+            conditions.add("status = ?");
+            params.add(status.name());
+        }
+        if (startDate != null) {
+            conditions.add("start_time >= ?");
+            params.add(Timestamp.valueOf(startDate));
+        }
+        if (endDate != null) {
+            conditions.add("start_time <= ?");
+            params.add(Timestamp.valueOf(endDate));
+        }
+        if (after != null) {
+            conditions.add("(start_time, id) < (?, ?)");
+            params.add(Timestamp.valueOf(after.startTime()));
+            params.add(after.id());
+        }
+        params.add(limit);
+
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+        String sql = SELECT_SQL.formatted(where);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> mapRow(rs), params.toArray());
+    }
+
+    private ListRow mapRow(ResultSet rs) throws SQLException {
+        String reviewId = rs.getString("review_id");
+
+        MissionDetailResponse response = MissionDetailResponse.builder()
+                .attemptId(rs.getString("attempt_id"))
+                .sessionId(rs.getString("session_id"))
+                .missionType(MissionType.valueOf(rs.getString("mission_type")))
+                .missionName(rs.getString("mission_name"))
+                .startTime(rs.getTimestamp("start_time").toLocalDateTime())
+                .endTime(rs.getTimestamp("end_time") != null ?
+                        rs.getTimestamp("end_time").toLocalDateTime() : null)
+                .totalDuration(rs.getBigDecimal("total_duration"))
+                .status(MissionStatus.valueOf(rs.getString("status")))
+                .eventCount(rs.getLong("event_count"))
+                .review(reviewId != null ? MissionDetailResponse.ReviewInfo.builder()
+                        .reviewId(reviewId)
+                        .rating(rs.getObject("rating") != null ? rs.getInt("rating") : null)
+                        .ratingText(rs.getString("rating_text"))
+                        .feedback(rs.getString("feedback"))
+                        .hasFeedback(rs.getBoolean("has_feedback"))
+                        .submittedAt(rs.getTimestamp("submitted_at") != null ?
+                                rs.getTimestamp("submitted_at").toLocalDateTime() : null)
+                        .build() : null)
+                .build();
+
+        return new ListRow(new Cursor(response.getStartTime(), rs.getLong("id")), response);
+    }
+
+    /**
+     * keyset 페이징 키
+     * @param startTime 시작 시간
+     * @param id mission_attempts.id
+     */
+    public record Cursor(LocalDateTime startTime, long id) {
+    }
+
+    /**
+     * 목록 항목과 해당 항목의 페이징 키
+     * @param cursor 페이징 키
+     * @param response 응답 항목
+     */
+    public record ListRow(Cursor cursor, MissionDetailResponse response) {
+    }
+}
@@ -6,11 +6,15 @@ import org.example.greduatebe.entity.MissionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,6 +30,31 @@ public interface MissionAttemptRepository extends JpaRepository<MissionAttempt,
      */
     Optional<MissionAttempt> findByAttemptId(String attemptId);
 
+    /**
+     * 여러 attemptId의 미션 시도를 한 번의 IN 쿼리로 조회
+     * @param attemptIds 미션 시도 ID 목록
+     * @return 존재하는 MissionAttempt 목록
+     */
+    List<MissionAttempt> findByAttemptIdIn(Collection<String> attemptIds);
+
+    /**
+     * 진행 중인 미션의 종료 상태 갱신 (엔티티 조회 없이 UPDATE)
+     * 이미 종료된 시도(늦게/중복으로 들어온 종료 이벤트, 만료 처리된 시도)는 갱신하지 않습니다
+     * @param attemptId 미션 시도 ID
+     * @param endTime 종료 시간
+     * @param totalDuration 총 소요 시간 (초)
+     * @param status 종료 상태
+     * @return 갱신된 row 수 (이미 종료된 시도면 0)
+     */
+    @Modifying
+    @Query("UPDATE MissionAttempt ma SET ma.endTime = :endTime, ma.totalDuration = :totalDuration, " +
+           "ma.status = :status, ma.updatedAt = CURRENT_TIMESTAMP WHERE ma.attemptId = :attemptId " +
+           "AND ma.status = org.example.greduatebe.entity.MissionStatus.IN_PROGRESS")
+    int updateEndStateIfInProgress(@Param("attemptId") String attemptId,
+                       @Param("endTime") LocalDateTime endTime,
+                       @Param("totalDuration") BigDecimal totalDuration,
+                       @Param("status") MissionStatus status);
+
     /**
      * 필터 조건으로 미션 시도 목록 조회 (페이징)
      * - null 파라미터 처리를 위해 동적 쿼리 대신 단순화
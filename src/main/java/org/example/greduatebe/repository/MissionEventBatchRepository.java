@@ -0,0 +1,221 @@
+package org.example.greduatebe.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.exception.InvalidEventException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MissionEvent 고속 저장 Repository
+ * MissionEvent는 IDENTITY 전략이라 Hibernate JDBC batching이 비활성화되므로,
+ * JPA를 거치지 않고 JdbcTemplate.batchUpdate로 저장합니다.
+ * id는 DB의 BIGSERIAL 기본값을 사용하고, reWriteBatchedInserts 옵션이 켜져 있으면
+ * PostgreSQL 드라이버가 배치를 multi-row INSERT로 재작성합니다.
+ * 클라이언트 이벤트 ID로 만든 eventId는 재전송 시 같은 값이 되므로, unnest 기반 INSERT ... RETURNING에서
+ * 파티션하지 않은 mission_event_client_keys에 (attempt_id, event_id)를 먼저 등록하고 등록된 이벤트만 저장합니다.
+ * (mission_events의 유니크 키는 (event_id, timestamp)라서 서버 수신 시각으로 timestamp가 채워진 재전송은 걸러지지 않음)
+ * data에서 추출한 타입 컬럼(step, time_on_step, ...)은 EventFieldExtractor가 채운 값을 그대로 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class MissionEventBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO mission_events
+                (event_id, attempt_id, session_id, event_type, timestamp, data, received_at, processing_time,
+                 step, time_on_step, duration_ms, scroll_depth, is_mission_relevant)
+            VALUES (?, ?, ?, ?, ?, ?::jsonb, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INSERT_RETURNING_SQL = """
+            WITH e AS (
+                SELECT *
+                FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::timestamp[], ?::text[], ?::timestamp[], ?::bigint[],
+                            ?::int[], ?::numeric[], ?::bigint[], ?::int[], ?::boolean[])
+                    AS e(event_id, attempt_id, session_id, event_type, ts, data, received_at, processing_time,
+                         step, time_on_step, duration_ms, scroll_depth, is_mission_relevant)
+            ), claimed AS (
+                INSERT INTO mission_event_client_keys (attempt_id, event_id)
+                SELECT attempt_id, event_id FROM e
+                ON CONFLICT DO NOTHING
+                RETURNING attempt_id, event_id
+            )
+            INSERT INTO mission_events
+                (event_id, attempt_id, session_id, event_type, timestamp, data, received_at, processing_time,
+                 step, time_on_step, duration_ms, scroll_depth, is_mission_relevant)
+            SELECT e.event_id, e.attempt_id, e.session_id, e.event_type, e.ts, e.data::jsonb, e.received_at, e.processing_time,
+                   e.step, e.time_on_step, e.duration_ms, e.scroll_depth, e.is_mission_relevant
+            FROM e
+            JOIN claimed c ON c.attempt_id = e.attempt_id AND c.event_id = e.event_id
+            ON CONFLICT DO NOTHING
+            RETURNING event_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mission.event-writer.batch-size:500}")
+    private int batchSize;
+
+    private Timer insertTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        insertTimer = Timer.builder("mission.event.db.insert")
+                .description("JDBC batch INSERT latency for mission events (excluding commit)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 한 건 저장
+     * @param event 저장할 MissionEvent
+     */
+    public void insert(MissionEvent event) {
+        insertAll(List.of(event));
+    }
+
+    /**
+     * 이벤트 목록 일괄 저장
+     * batch-size 단위로 나누어 JDBC batch로 전송합니다
+     * @param events 저장할 MissionEvent 목록
+     * @return 저장된 row 수
+     */
+    public int insertAll(List<MissionEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, events, batchSize, (ps, event) -> {
+            ps.setString(1, event.getEventId());
+            ps.setString(2, event.getAttemptId());
+            ps.setString(3, event.getSessionId());
+            ps.setString(4, event.getEventType());
+            ps.setTimestamp(5, Timestamp.valueOf(event.getTimestamp()));
+            ps.setString(6, toJson(event));
+            ps.setTimestamp(7, Timestamp.valueOf(event.getReceivedAt()));
+            ps.setObject(8, event.getProcessingTime(), Types.BIGINT);
+            ps.setObject(9, event.getStep(), Types.INTEGER);
+            ps.setObject(10, event.getTimeOnStep(), Types.NUMERIC);
+            ps.setObject(11, event.getDurationMs(), Types.BIGINT);
+            ps.setObject(12, event.getScrollDepth(), Types.INTEGER);
+            ps.setObject(13, event.getIsMissionRelevant(), Types.BOOLEAN);
+        });
+        sample.stop(insertTimer);
+
+        int inserted = 0;
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                // reWriteBatchedInserts 사용 시 드라이버는 SUCCESS_NO_INFO(-2)를 반환
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+
+        log.debug("Batch inserted mission events - count: {}", inserted);
+        return inserted;
+    }
+
+    /**
+     * 이벤트 목록을 한 문장으로 저장하고 실제로 저장된 eventId 반환
+     * mission_event_client_keys에 이미 등록된 (attemptId, eventId)(재전송된 이벤트)는 timestamp와 관계없이 건너뜁니다
+     * (같은 키를 동시에 등록하는 트랜잭션은 먼저 등록한 쪽이 커밋/롤백할 때까지 대기)
+     * @param events 저장할 MissionEvent 목록
+     * @return 새로 저장된 eventId 집합 (중복으로 건너뛴 이벤트는 포함되지 않음)
+     */
+    public Set<String> insertAllReturningInserted(List<MissionEvent> events) {
+        if (events.isEmpty()) {
+            return Set.of();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<String> inserted = jdbcTemplate.query(
+                connection -> prepareInsertReturning(connection, events),
+                (rs, rowNum) -> rs.getString(1));
+        sample.stop(insertTimer);
+
+        log.debug("Inserted mission events with conflict check - requested: {}, inserted: {}",
+                events.size(), inserted.size());
+        return new HashSet<>(inserted);
+    }
+
+    private PreparedStatement prepareInsertReturning(Connection connection, List<MissionEvent> events)
+            throws SQLException {
+        int size = events.size();
+        String[] eventIds = new String[size];
+        String[] attemptIds = new String[size];
+        String[] sessionIds = new String[size];
+        String[] eventTypes = new String[size];
+        Timestamp[] timestamps = new Timestamp[size];
+        String[] data = new String[size];
+        Timestamp[] receivedAts = new Timestamp[size];
+        Long[] processingTimes = new Long[size];
+        Integer[] steps = new Integer[size];
+        BigDecimal[] timeOnSteps = new BigDecimal[size];
+        Long[] durations = new Long[size];
+        Integer[] scrollDepths = new Integer[size];
+        Boolean[] missionRelevant = new Boolean[size];
+
+        for (int i = 0; i < size; i++) {
+            MissionEvent event = events.get(i);
+            eventIds[i] = event.getEventId();
+            attemptIds[i] = event.getAttemptId();
+            sessionIds[i] = event.getSessionId();
+            eventTypes[i] = event.getEventType();
+            timestamps[i] = Timestamp.valueOf(event.getTimestamp());
+            data[i] = toJson(event);
+            receivedAts[i] = Timestamp.valueOf(event.getReceivedAt());
+            processingTimes[i] = event.getProcessingTime();
+            steps[i] = event.getStep();
+            timeOnSteps[i] = event.getTimeOnStep();
+            durations[i] = event.getDurationMs();
+            scrollDepths[i] = event.getScrollDepth();
+            missionRelevant[i] = event.getIsMissionRelevant();
+        }
+
+        PreparedStatement ps = connection.prepareStatement(INSERT_RETURNING_SQL);
+        ps.setArray(1, connection.createArrayOf("varchar", eventIds));
+        ps.setArray(2, connection.createArrayOf("varchar", attemptIds));
+        ps.setArray(3, connection.createArrayOf("varchar", sessionIds));
+        ps.setArray(4, connection.createArrayOf("varchar", eventTypes));
+        ps.setArray(5, connection.createArrayOf("timestamp", timestamps));
+        ps.setArray(6, connection.createArrayOf("text", data));
+        ps.setArray(7, connection.createArrayOf("timestamp", receivedAts));
+        ps.setArray(8, connection.createArrayOf("int8", processingTimes));
+        ps.setArray(9, connection.createArrayOf("int4", steps));
+        ps.setArray(10, connection.createArrayOf("numeric", timeOnSteps));
+        ps.setArray(11, connection.createArrayOf("int8", durations));
+        ps.setArray(12, connection.createArrayOf("int4", scrollDepths));
+        ps.setArray(13, connection.createArrayOf("bool", missionRelevant));
+        return ps;
+    }
+
+    private String toJson(MissionEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.getData());
+        } catch (JsonProcessingException e) {
+            throw new InvalidEventException("Failed to serialize event data - eventId: " + event.getEventId(), e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package org.example.greduatebe.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.greduatebe.entity.MissionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * mission_events 파티션 관리 Repository
+ * mission_events는 timestamp 기준 일 단위 RANGE 파티션(mission_events_pYYYYMMDD)과
+ * 범위 밖 이벤트를 받는 DEFAULT 파티션(mission_events_default)으로 구성됩니다.
+ * 파티션 이름은 날짜로만 만들어지므로 DDL에 직접 넣어도 안전합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MissionEventPartitionRepository {
+
+    public static final String PARENT_TABLE = "mission_events";
+    public static final String DEFAULT_PARTITION = "mission_events_default";
+
+    private static final String PARTITION_PREFIX = "mission_events_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String IS_PARTITIONED_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('mission_events')
+            )
+            """;
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = to_regclass('mission_events')
+              AND c.relname ~ '^mission_events_p[0-9]{8}$'
+            """;
+
+    private static final String DEFAULT_HAS_ROWS_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM mission_events_default WHERE timestamp >= ? AND timestamp < ?
+            )
+            """;
+
+    private static final String DEFAULT_DAYS_SQL = """
+            SELECT DISTINCT CAST(timestamp AS DATE) FROM mission_events_default
+            """;
+
+    private static final String DELETE_CLIENT_KEYS_SQL = """
+            DELETE FROM mission_event_client_keys WHERE created_at < ?
+            """;
+
+    private static final String ROLLUP_SQL = """
+            INSERT INTO mission_event_daily_rollups (day, mission_type, event_type, event_count, attempt_count, updated_at)
+            SELECT CAST(e.timestamp AS DATE), a.mission_type, e.event_type, COUNT(*), COUNT(DISTINCT e.attempt_id), CURRENT_TIMESTAMP
+            FROM mission_events e
+            JOIN mission_attempts a ON a.attempt_id = e.attempt_id
+            WHERE e.timestamp >= ? AND e.timestamp < ?
+            GROUP BY CAST(e.timestamp AS DATE), a.mission_type, e.event_type
+            ON CONFLICT (day, mission_type, event_type) DO UPDATE
+                SET event_count = EXCLUDED.event_count,
+                    attempt_count = EXCLUDED.attempt_count,
+                    updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String ROLLED_UP_DAYS_SQL = """
+            SELECT DISTINCT day FROM mission_event_daily_rollups WHERE day >= ?
+            """;
+
+    private static final String FIND_ROLLUPS_SQL = """
+            SELECT day, mission_type, event_type, event_count, attempt_count
+            FROM mission_event_daily_rollups
+            WHERE day >= ? AND day <= ? AND (CAST(? AS VARCHAR) IS NULL OR mission_type = ?)
+            ORDER BY day, mission_type, event_type
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * mission_events가 파티션 테이블인지 확인 (기존 단일 테이블이면 false)
+     */
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class));
+    }
+
+    /**
+     * 현재 존재하는 일 단위 파티션의 날짜 목록
+     */
+    public Set<LocalDate> findPartitionDays() {
+        Set<LocalDate> days = new HashSet<>();
+        for (String name : jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class)) {
+            days.add(LocalDate.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        }
+        return days;
+    }
+
+    /**
+     * 일 단위 파티션 생성
+     * 빈 테이블에 파티션 범위와 같은 CHECK 제약을 건 뒤 ATTACH하므로 새 파티션 자체는 검사하지 않습니다.
+     * DEFAULT 파티션은 미리 만든 날짜 밖의 이벤트만 받아 작게 유지되며, 해당 범위의 행이 있을 때만
+     * DEFAULT를 잠그고 그 행을 옮깁니다 (호출 측 트랜잭션 안에서 실행)
+     * @param day 파티션 날짜
+     * @return 옮겨진 행 수
+     */
+    public int createDailyPartition(LocalDate day) {
+        String partition = partitionName(day);
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+
+        jdbcTemplate.execute("CREATE TABLE " + partition
+                + " (LIKE " + PARENT_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.execute("ALTER TABLE " + partition + " ADD CONSTRAINT " + partition + "_range"
+                + " CHECK (timestamp >= '" + from + "' AND timestamp < '" + to + "')");
+
+        int moved = 0;
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(DEFAULT_HAS_ROWS_SQL, Boolean.class, from, to))) {
+            // 옮기는 동안 DEFAULT 파티션으로의 INSERT를 막음
+            jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN EXCLUSIVE MODE");
+            moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                    + " WHERE timestamp >= ? AND timestamp < ? RETURNING *) INSERT INTO " + partition
+                    + " SELECT * FROM moved", from, to);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partition
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+        // 파티션 범위와 중복되는 제약이므로 ATTACH 후 제거
+        jdbcTemplate.execute("ALTER TABLE " + partition + " DROP CONSTRAINT " + partition + "_range");
+        return moved;
+    }
+
+    /**
+     * DEFAULT 파티션에 들어와 있는 이벤트의 날짜 목록 (미리 만든 범위 밖의 늦은/이른 이벤트)
+     */
+    public Set<LocalDate> findDefaultPartitionDays() {
+        return new HashSet<>(jdbcTemplate.query(DEFAULT_DAYS_SQL, (rs, rowNum) -> rs.getDate(1).toLocalDate()));
+    }
+
+    /**
+     * 보존 기간이 지난 클라이언트 이벤트 ID 중복 제거 키 삭제
+     * @param cutoff 이 날짜 이전에 등록된 키 삭제
+     * @return 삭제된 키 수
+     */
+    public int deleteClientEventKeysBefore(LocalDate cutoff) {
+        return jdbcTemplate.update(DELETE_CLIENT_KEYS_SQL, Timestamp.valueOf(cutoff.atStartOfDay()));
+    }
+
+    /**
+     * 일 단위 파티션 삭제
+     * @param day 파티션 날짜
+     */
+    public void dropDailyPartition(LocalDate day) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(day));
+    }
+
+    /**
+     * 하루치 이벤트를 (날짜, 미션 타입, 이벤트 타입)별로 집계해 rollup 테이블에 저장 (다시 실행하면 덮어씀)
+     * @param day 집계할 날짜
+     * @return 저장된 rollup 행 수
+     */
+    public int rollupDay(LocalDate day) {
+        return jdbcTemplate.update(ROLLUP_SQL,
+                Timestamp.valueOf(day.atStartOfDay()), Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * since 이후 rollup이 저장된 날짜 목록
+     */
+    public Set<LocalDate> findRolledUpDays(LocalDate since) {
+        return new HashSet<>(jdbcTemplate.query(ROLLED_UP_DAYS_SQL,
+                (rs, rowNum) -> rs.getDate("day").toLocalDate(), Date.valueOf(since)));
+    }
+
+    /**
+     * 일별 이벤트 rollup 조회
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @param missionType 미션 타입 (null이면 전체)
+     * @return 일별 rollup 목록
+     */
+    public List<DailyEventRollup> findRollups(LocalDate from, LocalDate to, MissionType missionType) {
+        String type = missionType != null ? missionType.name() : null;
+        return jdbcTemplate.query(FIND_ROLLUPS_SQL, (rs, rowNum) -> new DailyEventRollup(
+                        rs.getDate("day").toLocalDate(),
+                        MissionType.valueOf(rs.getString("mission_type")),
+                        rs.getString("event_type"),
+                        rs.getLong("event_count"),
+                        rs.getLong("attempt_count")),
+                Date.valueOf(from), Date.valueOf(to), type, type);
+    }
+
+    private String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * 일별 이벤트 rollup 한 행
+     */
+    public record DailyEventRollup(LocalDate day, MissionType missionType, String eventType,
+                                   long eventCount, long attemptCount) {
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.greduatebe.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MissionEvent 조회 Repository (data를 JSON 텍스트 그대로 읽음)
+ * 상세 화면처럼 data를 응답에 그대로 내보내는 경로에서 JPA JsonType의 Map 역직렬화를 거치지 않도록
+ * JdbcTemplate으로 data를 텍스트로 읽습니다. 필요한 필드는 EventDataSummarizer로 한 번에 추출합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MissionEventReadRepository {
+
+    private static final String FIND_BY_ATTEMPT_SQL = """
+            SELECT event_id, event_type, timestamp, data
+            FROM mission_events
+            WHERE attempt_id = ?
+            ORDER BY timestamp ASC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * attemptId의 이벤트를 시간순으로 조회
+     * @param attemptId 미션 시도 ID
+     * @return 이벤트 목록 (data는 JSON 텍스트)
+     */
+    public List<StoredEvent> findByAttemptId(String attemptId) {
+        return jdbcTemplate.query(FIND_BY_ATTEMPT_SQL, (rs, rowNum) -> new StoredEvent(
+                rs.getString("event_id"),
+                rs.getString("event_type"),
+                rs.getTimestamp("timestamp").toLocalDateTime(),
+                rs.getString("data")), attemptId);
+    }
+
+    /**
+     * 저장된 이벤트 (data는 jsonb를 텍스트로 읽은 값)
+     */
+    public record StoredEvent(String eventId, String eventType, LocalDateTime timestamp, String data) {
+    }
+}
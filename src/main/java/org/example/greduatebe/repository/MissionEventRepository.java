@@ -2,8 +2,11 @@ package org.example.greduatebe.repository;
 
 import org.example.greduatebe.entity.MissionEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -33,4 +36,26 @@ public interface MissionEventRepository extends JpaRepository<MissionEvent, Long
      * @return MissionEvent 목록
      */
     List<MissionEvent> findByAttemptIdAndEventTypeOrderByTimestampAsc(String attemptId, String eventType);
+
+    /**
+     * 후처리가 끝나지 않았을 수 있는 종료/평가/포기 이벤트 조회 (시작 시 MissionFinalizer 복구용)
+     * - 아직 IN_PROGRESS인 시도의 종료 이벤트 (기간 제한 없음)
+     * - since 이후의 평가 이벤트와 사유가 있는 포기 이벤트 중 리뷰가 없는 시도의 것
+     * @param since 평가/포기 이벤트 조회 시작 시각
+     * @return 이벤트 목록 (시간순)
+     */
+    @Query(value = """
+            SELECT e.* FROM mission_events e
+            JOIN mission_attempts a ON a.attempt_id = e.attempt_id
+            WHERE a.status = 'IN_PROGRESS'
+              AND e.event_type IN ('mission_completed', 'mission_quitted', 'mission_expired')
+            UNION ALL
+            SELECT e.* FROM mission_events e
+            WHERE e.timestamp >= :since
+              AND (e.event_type = 'mission_rating_submitted'
+                   OR (e.event_type = 'mission_quitted' AND COALESCE(btrim(e.data->>'reason'), '') <> ''))
+              AND NOT EXISTS (SELECT 1 FROM reviews r WHERE r.attempt_id = e.attempt_id)
+            ORDER BY timestamp
+            """, nativeQuery = true)
+    List<MissionEvent> findUnfinalizedEvents(@Param("since") LocalDateTime since);
 }
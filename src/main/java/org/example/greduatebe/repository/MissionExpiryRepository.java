@@ -0,0 +1,132 @@
+package org.example.greduatebe.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.greduatebe.entity.MissionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미션 만료 처리 Repository
+ * 진행 중인 시도를 한 번의 UPDATE ... RETURNING으로 EXPIRED 처리합니다 (total_duration은 만료 처리 시각 기준).
+ * status = 'IN_PROGRESS' 조건을 함께 걸어 이미 종료된 시도는 건드리지 않고,
+ * 종료 이벤트(mission_completed/mission_quitted)가 저장된 시도는 후처리(MissionFinalizer)가 아직 끝나지 않았어도
+ * 만료시키지 않습니다 (재시작 후 MissionFinalizer가 종료 이벤트로 복구).
+ * 종료 이벤트 확인은 timestamp >= start_time 조건을 함께 걸어 시도 시작 이전의 일 단위 파티션을 실행 시점에 제외합니다.
+ * 조회는 진행 중인 시도만 담는 partial index(idx_attempt_in_progress_start_time)를 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MissionExpiryRepository {
+
+    private static final String EXPIRE_BY_IDS_SQL = """
+            UPDATE mission_attempts
+            SET status = 'EXPIRED', end_time = ?,
+                total_duration = ROUND(CAST(EXTRACT(EPOCH FROM (CAST(? AS TIMESTAMP) - start_time)) AS NUMERIC), 3),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE attempt_id = ANY(?) AND status = 'IN_PROGRESS'
+              AND NOT EXISTS (
+                  SELECT 1 FROM mission_events e
+                  WHERE e.attempt_id = mission_attempts.attempt_id
+                    AND e.timestamp >= mission_attempts.start_time
+                    AND e.event_type IN ('mission_completed', 'mission_quitted')
+              )
+            RETURNING attempt_id, mission_type, start_time, total_duration
+            """;
+
+    private static final String EXPIRE_OVERDUE_SQL = """
+            UPDATE mission_attempts
+            SET status = 'EXPIRED', end_time = ?,
+                total_duration = ROUND(CAST(EXTRACT(EPOCH FROM (CAST(? AS TIMESTAMP) - start_time)) AS NUMERIC), 3),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE attempt_id IN (
+                -- 종료 이벤트가 있는 시도는 LIMIT 전에 제외 (후처리 대기 중인 시도가 배치를 채워 만료가 멈추지 않도록)
+                SELECT a.attempt_id FROM mission_attempts a
+                WHERE a.status = 'IN_PROGRESS' AND a.start_time < ?
+                  AND NOT EXISTS (
+                      SELECT 1 FROM mission_events e
+                      WHERE e.attempt_id = a.attempt_id
+                        AND e.timestamp >= a.start_time
+                        AND e.event_type IN ('mission_completed', 'mission_quitted')
+                  )
+                ORDER BY a.start_time
+                LIMIT ?
+            )
+            AND status = 'IN_PROGRESS'
+            RETURNING attempt_id, mission_type, start_time, total_duration
+            """;
+
+    private static final String FIND_IN_PROGRESS_SQL = """
+            SELECT attempt_id, start_time FROM mission_attempts
+            WHERE status = 'IN_PROGRESS'
+            """;
+
+    private static final RowMapper<ExpiredAttempt> EXPIRED_ROW_MAPPER = (rs, rowNum) -> new ExpiredAttempt(
+            rs.getString("attempt_id"),
+            MissionType.valueOf(rs.getString("mission_type")),
+            rs.getTimestamp("start_time").toLocalDateTime(),
+            rs.getBigDecimal("total_duration"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지정한 시도 중 아직 진행 중인 것만 만료 처리
+     * @param attemptIds 만료 기한이 지난 시도 ID 목록
+     * @param endTime 만료 처리 시각
+     * @return 실제로 만료 처리된 시도 목록
+     */
+    public List<ExpiredAttempt> expireAll(List<String> attemptIds, LocalDateTime endTime) {
+        if (attemptIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(EXPIRE_BY_IDS_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(endTime));
+            ps.setTimestamp(2, Timestamp.valueOf(endTime));
+            ps.setArray(3, connection.createArrayOf("varchar", attemptIds.toArray()));
+            return ps;
+        }, EXPIRED_ROW_MAPPER);
+    }
+
+    /**
+     * startedBefore 이전에 시작해 아직 진행 중이고 종료 이벤트가 없는 시도를 최대 limit개 만료 처리
+     * @param startedBefore 이 시각 이전에 시작한 시도가 대상
+     * @param endTime 만료 처리 시각
+     * @param limit 한 번에 처리할 최대 시도 수
+     * @return 만료 처리된 시도 목록
+     */
+    public List<ExpiredAttempt> expireOverdue(LocalDateTime startedBefore, LocalDateTime endTime, int limit) {
+        return jdbcTemplate.query(EXPIRE_OVERDUE_SQL, EXPIRED_ROW_MAPPER,
+                Timestamp.valueOf(endTime), Timestamp.valueOf(endTime), Timestamp.valueOf(startedBefore), limit);
+    }
+
+    /**
+     * 진행 중인 시도 목록 (시작 시 만료 큐 적재용)
+     * @return 진행 중인 시도의 ID와 시작 시간
+     */
+    public List<LiveAttempt> findInProgress() {
+        return jdbcTemplate.query(FIND_IN_PROGRESS_SQL, (rs, rowNum) -> new LiveAttempt(
+                rs.getString("attempt_id"),
+                rs.getTimestamp("start_time").toLocalDateTime()));
+    }
+
+    /**
+     * 만료 처리된 시도
+     * @param totalDuration 시작부터 만료 처리 시각까지의 시간 (초)
+     */
+    public record ExpiredAttempt(String attemptId, MissionType missionType, LocalDateTime startTime,
+                                 BigDecimal totalDuration) {
+    }
+
+    /**
+     * 진행 중인 시도
+     */
+    public record LiveAttempt(String attemptId, LocalDateTime startTime) {
+    }
+}
@@ -2,17 +2,19 @@ package org.example.greduatebe.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.dto.response.dashboard.DailyEventCountDto;
 import org.example.greduatebe.entity.MissionStatus;
 import org.example.greduatebe.entity.MissionType;
-import org.example.greduatebe.repository.MissionAttemptRepository;
-import org.example.greduatebe.repository.ReviewRepository;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.example.greduatebe.exception.InvalidRequestException;
+import org.example.greduatebe.repository.MissionEventPartitionRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -23,27 +25,28 @@ import java.util.Map;
 @Slf4j
 public class AnalyticsService {
 
-    private final MissionAttemptRepository missionAttemptRepository;
-    private final ReviewRepository reviewRepository;
-    private final JdbcTemplate jdbcTemplate;
+    private static final int MAX_HISTORY_DAYS = 366;
+
+    private final DashboardAggregates dashboardAggregates;
+    private final MissionEventPartitionRepository partitionRepository;
 
     /**
      * 미션 분석 데이터 조회
+     * 스트리밍 집계(DashboardAggregates)에서 조회합니다
      * @param missionType 미션 타입
      * @return 분석 데이터
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getMissionAnalytics(MissionType missionType) {
         log.info("Getting mission analytics - missionType: {}", missionType);
 
         Map<String, Object> analytics = new HashMap<>();
 
         // 전체 미션 시도 수
-        Long totalAttempts = countTotalAttempts(missionType);
+        Long totalAttempts = dashboardAggregates.countAttempts(missionType);
         analytics.put("totalAttempts", totalAttempts);
 
         // 완료된 미션 수
-        Long completedAttempts = countCompletedAttempts(missionType);
+        Long completedAttempts = dashboardAggregates.countAttempts(missionType, MissionStatus.COMPLETED);
         analytics.put("completedAttempts", completedAttempts);
 
         // 완료율 계산
@@ -51,15 +54,15 @@ public class AnalyticsService {
         analytics.put("completionRate", completionRate);
 
         // 평균 소요 시간 (초)
-        BigDecimal avgDuration = calculateAverageDuration(missionType);
+        BigDecimal avgDuration = scaleOrZero(dashboardAggregates.averageDuration(missionType, MissionStatus.COMPLETED));
         analytics.put("avgDuration", avgDuration);
 
         // 평균 평점
-        BigDecimal avgRating = calculateAverageRating(missionType);
+        BigDecimal avgRating = scaleOrZero(dashboardAggregates.averageRating(missionType));
         analytics.put("avgRating", avgRating);
 
         // 리뷰 제출 수
-        Long reviewCount = countReviews(missionType);
+        Long reviewCount = dashboardAggregates.countReviews(missionType);
         analytics.put("reviewCount", reviewCount);
 
         log.info("Analytics calculated - totalAttempts: {}, completionRate: {}%, avgDuration: {}s, avgRating: {}",
@@ -69,19 +72,30 @@ public class AnalyticsService {
     }
 
     /**
-     * 전체 미션 시도 수 조회
+     * 일별 이벤트 이력 조회
+     * 파티션 삭제 후에도 남는 일별 rollup에서 조회합니다 (오늘 이벤트는 포함되지 않음)
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @param missionType 미션 타입 (null이면 전체)
+     * @return 날짜/미션 타입/이벤트 타입별 건수
      */
-    private Long countTotalAttempts(MissionType missionType) {
-        String sql = "SELECT COUNT(*) FROM mission_attempts WHERE mission_type = ?";
-        return jdbcTemplate.queryForObject(sql, Long.class, missionType.name());
-    }
+    public List<DailyEventCountDto> getDailyEventHistory(LocalDate from, LocalDate to, MissionType missionType) {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_HISTORY_DAYS) {
+            throw new InvalidRequestException("Date range must be at most " + MAX_HISTORY_DAYS + " days");
+        }
 
-    /**
-     * 완료된 미션 수 조회
-     */
-    private Long countCompletedAttempts(MissionType missionType) {
-        String sql = "SELECT COUNT(*) FROM mission_attempts WHERE mission_type = ? AND status = ?";
-        return jdbcTemplate.queryForObject(sql, Long.class, missionType.name(), MissionStatus.COMPLETED.name());
+        return partitionRepository.findRollups(from, to, missionType).stream()
+                .map(rollup -> DailyEventCountDto.builder()
+                        .day(rollup.day())
+                        .missionType(rollup.missionType())
+                        .eventType(rollup.eventType())
+                        .eventCount(rollup.eventCount())
+                        .attemptCount(rollup.attemptCount())
+                        .build())
+                .toList();
     }
 
     /**
@@ -98,42 +112,12 @@ public class AnalyticsService {
     }
 
     /**
-     * 평균 소요 시간 계산
-     */
-    private BigDecimal calculateAverageDuration(MissionType missionType) {
-        String sql = "SELECT AVG(total_duration) FROM mission_attempts " +
-                     "WHERE mission_type = ? AND status = ? AND total_duration IS NOT NULL";
-        BigDecimal avgDuration = jdbcTemplate.queryForObject(sql, BigDecimal.class,
-                missionType.name(), MissionStatus.COMPLETED.name());
-
-        if (avgDuration == null) {
-            return BigDecimal.ZERO;
-        }
-        return avgDuration.setScale(2, RoundingMode.HALF_UP);
-    }
-
-    /**
-     * 평균 평점 계산
+     * 소수점 2자리 반올림 (값이 없으면 0)
      */
-    private BigDecimal calculateAverageRating(MissionType missionType) {
-        String sql = "SELECT AVG(r.rating) FROM reviews r " +
-                     "JOIN mission_attempts ma ON r.attempt_id = ma.attempt_id " +
-                     "WHERE ma.mission_type = ?";
-        BigDecimal avgRating = jdbcTemplate.queryForObject(sql, BigDecimal.class, missionType.name());
-
-        if (avgRating == null) {
+    private BigDecimal scaleOrZero(BigDecimal value) {
+        if (value == null) {
             return BigDecimal.ZERO;
         }
-        return avgRating.setScale(2, RoundingMode.HALF_UP);
-    }
-
-    /**
-     * 리뷰 제출 수 조회
-     */
-    private Long countReviews(MissionType missionType) {
-        String sql = "SELECT COUNT(r.*) FROM reviews r " +
-                     "JOIN mission_attempts ma ON r.attempt_id = ma.attempt_id " +
-                     "WHERE ma.mission_type = ?";
-        return jdbcTemplate.queryForObject(sql, Long.class, missionType.name());
+        return value.setScale(2, RoundingMode.HALF_UP);
     }
 }
@@ -0,0 +1,107 @@
+package org.example.greduatebe.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.greduatebe.dto.response.dashboard.AttemptDetailDto;
+import org.example.greduatebe.entity.MissionStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미션 시도 상세(AttemptDetailDto) 스냅샷 캐시
+ * 상세 화면은 시도+리뷰 조회, 타임라인, 단계 상세를 매번 다시 실행하므로 완성된 DTO를 attemptId별로 보관합니다.
+ * - 종료된 시도(COMPLETED/QUITTED/EXPIRED)는 만료 없이 보관하고, 진행 중인 시도는 live-ttl-ms 동안만 보관
+ * - 이벤트 저장, 종료 처리, 만료, 리뷰 저장, 상태 변경 시 해당 시도를 무효화
+ * - max-size를 넘으면 Caffeine의 W-TinyLFU 정책으로 자주 쓰이지 않는 스냅샷부터 제거
+ * 로딩은 같은 키에 대해 원자적으로 실행되므로, 로딩 중에 들어온 무효화는 로딩이 끝난 뒤 적용되어
+ * 커밋 이전 데이터로 만든 스냅샷이 남지 않습니다.
+ * 느린 단계 표시(isSlow)는 스냅샷을 만든 시점의 단계 통계 기준입니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttemptDetailCache {
+
+    private final MissionAnalysisService analysisService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dashboard.attempt-cache.max-size:2000}")
+    private long maxSize;
+
+    @Value("${dashboard.attempt-cache.live-ttl-ms:10000}")
+    private long liveTtlMs;
+
+    private Cache<String, AttemptDetailDto> cache;
+
+    @PostConstruct
+    void init() {
+        long liveTtlNanos = TimeUnit.MILLISECONDS.toNanos(liveTtlMs);
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, AttemptDetailDto>() {
+                    @Override
+                    public long expireAfterCreate(String attemptId, AttemptDetailDto detail, long currentTime) {
+                        return isTerminal(detail.getStatus()) ? Long.MAX_VALUE : liveTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String attemptId, AttemptDetailDto detail,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(attemptId, detail, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String attemptId, AttemptDetailDto detail,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "attempt.detail");
+        Gauge.builder("attempt.detail.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Hit ratio of the attempt detail snapshot cache since startup")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 미션 시도 상세 조회 (캐시에 없으면 조회 후 보관)
+     * @param attemptId 미션 시도 ID
+     * @return 미션 시도 상세 DTO (없으면 null, 캐시하지 않음)
+     */
+    public AttemptDetailDto get(String attemptId) {
+        return cache.get(attemptId, analysisService::getAttemptDetail);
+    }
+
+    /**
+     * 시도의 스냅샷 무효화
+     * @param attemptId 미션 시도 ID
+     */
+    public void invalidate(String attemptId) {
+        cache.invalidate(attemptId);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 스냅샷 무효화 (트랜잭션 밖이면 즉시)
+     * @param attemptIds 변경된 미션 시도 ID 목록
+     */
+    public void invalidateAfterCommit(Collection<String> attemptIds) {
+        if (!attemptIds.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> cache.invalidateAll(attemptIds));
+        }
+    }
+
+    private static boolean isTerminal(MissionStatus status) {
+        return status == MissionStatus.COMPLETED || status == MissionStatus.QUITTED || status == MissionStatus.EXPIRED;
+    }
+}
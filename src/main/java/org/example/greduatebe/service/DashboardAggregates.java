@@ -0,0 +1,396 @@
+package org.example.greduatebe.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.MissionType;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 대시보드/분석 API용 스트리밍 집계
+ * 미션 시작, 미션 종료, 리뷰 저장 시점에 MissionType별 카운터를 갱신하여
+ * /admin/dashboard, /api/analytics 조회를 테이블 스캔 없이 O(1)로 처리합니다.
+ * - 상태별 시도 수, 상태별 소요 시간 합계(ms)/건수
+ * - 시작 시각 기준 3시간 버킷별 시도 수/완료 수
+ * - 평점 히스토그램, 리뷰 수, 텍스트 후기 수
+ * 애플리케이션 시작 시와 주기적으로 DB에서 다시 계산하여 교체합니다.
+ * 재계산 중에 들어온 증분은 기존 카운터에 반영하면서 기존 카운터의 delta log에도 기록해 두었다가,
+ * 교체 직후 새 카운터에 다시 적용합니다. 증분 반영 경로는 lock 없이 LongAdder만 갱신하고,
+ * 교체 시에는 이전 카운터를 잡은 반영이 끝날 때까지만 기다린 뒤 delta log를 다시 적용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardAggregates {
+
+    /**
+     * 시간대 버킷 수 (3시간 단위)
+     */
+    public static final int HOUR_BUCKETS = 8;
+
+    private static final String ATTEMPT_REBUILD_SQL = """
+            SELECT
+                mission_type,
+                status,
+                FLOOR(EXTRACT(HOUR FROM start_time) / 3) as hour_bucket,
+                COUNT(*) as attempt_count,
+                COUNT(total_duration) as duration_count,
+                COALESCE(SUM(total_duration), 0) as duration_sum
+            FROM mission_attempts
+            GROUP BY mission_type, status, hour_bucket
+            """;
+
+    private static final String REVIEW_REBUILD_SQL = """
+            SELECT
+                ma.mission_type,
+                r.rating,
+                r.has_feedback,
+                COUNT(*) as review_count
+            FROM reviews r
+            JOIN mission_attempts ma ON r.attempt_id = ma.attempt_id
+            GROUP BY ma.mission_type, r.rating, r.has_feedback
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Counters counters = new Counters();
+
+    /**
+     * 미션 시작 반영 (커밋 후)
+     * @param missionType 미션 타입
+     * @param startTime 시작 시간
+     */
+    public void onAttemptStarted(MissionType missionType, LocalDateTime startTime) {
+        TransactionCallbacks.afterCommit(() -> apply(current -> {
+            current.attempts[missionType.ordinal()][MissionStatus.IN_PROGRESS.ordinal()].increment();
+            current.hourlyTotal[missionType.ordinal()][hourBucket(startTime)].increment();
+        }));
+    }
+
+    /**
+     * 미션 상태 전이 반영 (커밋 후)
+     * @param missionType 미션 타입
+     * @param startTime 시작 시간
+     * @param previousStatus 이전 상태
+     * @param newStatus 새 상태
+     * @param totalDuration 총 소요 시간 (초, nullable)
+     */
+    public void onAttemptEnded(MissionType missionType, LocalDateTime startTime, MissionStatus previousStatus,
+                               MissionStatus newStatus, BigDecimal totalDuration) {
+        TransactionCallbacks.afterCommit(() -> apply(current -> {
+            int type = missionType.ordinal();
+            int bucket = hourBucket(startTime);
+
+            current.attempts[type][previousStatus.ordinal()].decrement();
+            current.attempts[type][newStatus.ordinal()].increment();
+
+            // 이미 종료된 시도의 재종료는 이전 소요 시간을 알 수 없으므로 다음 재계산에서 보정
+            if (totalDuration != null && !isTerminal(previousStatus)) {
+                current.durationMillis[type][newStatus.ordinal()].add(toMillis(totalDuration));
+                current.durationCount[type][newStatus.ordinal()].increment();
+            }
+
+            if (previousStatus == MissionStatus.COMPLETED) {
+                current.hourlyCompleted[type][bucket].decrement();
+            }
+            if (newStatus == MissionStatus.COMPLETED) {
+                current.hourlyCompleted[type][bucket].increment();
+            }
+        }));
+    }
+
+    /**
+     * 리뷰 저장 반영 (커밋 후)
+     * @param missionType 미션 타입
+     * @param rating 평점 (포기 사유인 경우 null)
+     * @param hasFeedback 텍스트 후기 여부
+     */
+    public void onReviewSaved(MissionType missionType, Integer rating, boolean hasFeedback) {
+        TransactionCallbacks.afterCommit(() ->
+                apply(current -> current.addReview(missionType.ordinal(), rating, hasFeedback, 1)));
+    }
+
+    /**
+     * 시도 수 조회
+     * @param missionType 미션 타입 (null이면 전체)
+     * @param statuses 포함할 상태 (비어 있으면 전체)
+     */
+    public long countAttempts(MissionType missionType, MissionStatus... statuses) {
+        Counters current = counters;
+        long total = 0;
+        for (int type : typeIndexes(missionType)) {
+            if (statuses.length == 0) {
+                for (LongAdder adder : current.attempts[type]) {
+                    total += adder.sum();
+                }
+            } else {
+                for (MissionStatus status : statuses) {
+                    total += current.attempts[type][status.ordinal()].sum();
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 평균 소요 시간 조회 (초, 소요 시간이 기록된 시도 기준)
+     * @param missionType 미션 타입 (null이면 전체)
+     * @param statuses 포함할 상태
+     * @return 평균 소요 시간 (기록이 없으면 null)
+     */
+    public BigDecimal averageDuration(MissionType missionType, MissionStatus... statuses) {
+        Counters current = counters;
+        long sumMillis = 0;
+        long count = 0;
+        for (int type : typeIndexes(missionType)) {
+            for (MissionStatus status : statuses) {
+                sumMillis += current.durationMillis[type][status.ordinal()].sum();
+                count += current.durationCount[type][status.ordinal()].sum();
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(sumMillis).divide(BigDecimal.valueOf(count * 1000), 3, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 시간대 버킷별 시도 수 (전체 미션 타입)
+     * @param bucket 버킷 (0~7, 시작 시각 / 3)
+     */
+    public long hourlyAttempts(int bucket) {
+        Counters current = counters;
+        long total = 0;
+        for (LongAdder[] byType : current.hourlyTotal) {
+            total += byType[bucket].sum();
+        }
+        return total;
+    }
+
+    /**
+     * 시간대 버킷별 완료 수 (전체 미션 타입)
+     * @param bucket 버킷 (0~7, 시작 시각 / 3)
+     */
+    public long hourlyCompleted(int bucket) {
+        Counters current = counters;
+        long total = 0;
+        for (LongAdder[] byType : current.hourlyCompleted) {
+            total += byType[bucket].sum();
+        }
+        return total;
+    }
+
+    /**
+     * 리뷰 수 조회
+     * @param missionType 미션 타입 (null이면 전체)
+     */
+    public long countReviews(MissionType missionType) {
+        Counters current = counters;
+        long total = 0;
+        for (int type : typeIndexes(missionType)) {
+            total += current.reviews[type].sum();
+        }
+        return total;
+    }
+
+    /**
+     * 특정 평점의 리뷰 수 조회 (전체 미션 타입)
+     * @param rating 평점 (1-5)
+     */
+    public long countRating(int rating) {
+        Counters current = counters;
+        long total = 0;
+        for (LongAdder[] byType : current.ratings) {
+            total += byType[rating].sum();
+        }
+        return total;
+    }
+
+    /**
+     * 텍스트 후기가 있는 리뷰 수 조회 (전체 미션 타입)
+     */
+    public long countReviewsWithFeedback() {
+        Counters current = counters;
+        long total = 0;
+        for (LongAdder adder : current.withFeedback) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 평균 평점 조회 (평점이 있는 리뷰 기준, 반올림 전)
+     * @param missionType 미션 타입 (null이면 전체)
+     * @return 평균 평점 (평점이 없으면 null)
+     */
+    public BigDecimal averageRating(MissionType missionType) {
+        Counters current = counters;
+        long sum = 0;
+        long count = 0;
+        for (int type : typeIndexes(missionType)) {
+            for (int rating = 1; rating <= 5; rating++) {
+                long ratingCount = current.ratings[type][rating].sum();
+                sum += ratingCount * rating;
+                count += ratingCount;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), 6, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * DB에서 전체 집계를 다시 계산하여 교체
+     * 조회 시작 전부터 교체까지 들어온 증분은 delta log에 모아 교체 직후 새 카운터에 다시 적용합니다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${dashboard.aggregates.rebuild-interval-ms:900000}",
+            fixedDelayString = "${dashboard.aggregates.rebuild-interval-ms:900000}")
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Counters previous = counters;
+        Counters rebuilt = new Counters();
+        previous.rebuildLog = new ConcurrentLinkedQueue<>();
+
+        try {
+            jdbcTemplate.query(ATTEMPT_REBUILD_SQL, rs -> {
+                int type = MissionType.valueOf(rs.getString("mission_type")).ordinal();
+                int status = MissionStatus.valueOf(rs.getString("status")).ordinal();
+                int bucket = rs.getInt("hour_bucket");
+                long attemptCount = rs.getLong("attempt_count");
+
+                rebuilt.attempts[type][status].add(attemptCount);
+                rebuilt.durationCount[type][status].add(rs.getLong("duration_count"));
+                rebuilt.durationMillis[type][status].add(toMillis(rs.getBigDecimal("duration_sum")));
+                rebuilt.hourlyTotal[type][bucket].add(attemptCount);
+                if (status == MissionStatus.COMPLETED.ordinal()) {
+                    rebuilt.hourlyCompleted[type][bucket].add(attemptCount);
+                }
+            });
+
+            jdbcTemplate.query(REVIEW_REBUILD_SQL, rs -> {
+                int type = MissionType.valueOf(rs.getString("mission_type")).ordinal();
+                Integer rating = rs.getObject("rating") != null ? rs.getInt("rating") : null;
+                rebuilt.addReview(type, rating, rs.getBoolean("has_feedback"), rs.getLong("review_count"));
+            });
+        } catch (Exception e) {
+            previous.rebuildLog = null;
+            log.error("❌ [Aggregates] Failed to rebuild dashboard aggregates", e);
+            return;
+        }
+
+        counters = rebuilt;
+        // 교체 전에 이전 카운터를 잡은 반영이 delta log 기록까지 끝내기를 기다림 (메모리 증분뿐이라 짧음)
+        while (previous.writers.sum() != 0) {
+            Thread.onSpinWait();
+        }
+        int replayed = 0;
+        for (Consumer<Counters> delta : previous.rebuildLog) {
+            delta.accept(rebuilt);
+            replayed++;
+        }
+        previous.rebuildLog = null;
+        log.debug("Replayed aggregate deltas recorded during rebuild - count: {}", replayed);
+        log.info("Dashboard aggregates rebuilt - attempts: {}, reviews: {}, elapsed: {}ms",
+                countAttempts(null), countReviews(null), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 증분 반영 (재계산 중이면 반영한 카운터의 delta log에도 기록)
+     * writers를 올린 뒤 카운터가 그대로인지 다시 확인하므로, 교체 후 rebuild가 writers == 0을 확인했다면
+     * 이전 카운터에 반영 중인 스레드는 없습니다
+     */
+    private void apply(Consumer<Counters> delta) {
+        Counters current = counters;
+        current.writers.increment();
+        while (current != counters) {
+            current.writers.decrement();
+            current = counters;
+            current.writers.increment();
+        }
+        try {
+            delta.accept(current);
+            Queue<Consumer<Counters>> rebuildLog = current.rebuildLog;
+            if (rebuildLog != null) {
+                rebuildLog.add(delta);
+            }
+        } finally {
+            current.writers.decrement();
+        }
+    }
+
+    private int[] typeIndexes(MissionType missionType) {
+        if (missionType != null) {
+            return new int[]{missionType.ordinal()};
+        }
+        int[] all = new int[MissionType.values().length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+    private static int hourBucket(LocalDateTime startTime) {
+        return startTime.getHour() / 3;
+    }
+
+    private static boolean isTerminal(MissionStatus status) {
+        return status == MissionStatus.COMPLETED || status == MissionStatus.QUITTED || status == MissionStatus.EXPIRED;
+    }
+
+    private static long toMillis(BigDecimal seconds) {
+        return seconds.movePointRight(3).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    /**
+     * 집계 카운터 묶음 (재계산 시 통째로 교체)
+     */
+    private static final class Counters {
+
+        private final LongAdder[][] attempts = adders(MissionType.values().length, MissionStatus.values().length);
+        private final LongAdder[][] durationMillis = adders(MissionType.values().length, MissionStatus.values().length);
+        private final LongAdder[][] durationCount = adders(MissionType.values().length, MissionStatus.values().length);
+        private final LongAdder[][] hourlyTotal = adders(MissionType.values().length, HOUR_BUCKETS);
+        private final LongAdder[][] hourlyCompleted = adders(MissionType.values().length, HOUR_BUCKETS);
+        private final LongAdder[][] ratings = adders(MissionType.values().length, 6);
+        private final LongAdder[] reviews = adders(1, MissionType.values().length)[0];
+        private final LongAdder[] withFeedback = adders(1, MissionType.values().length)[0];
+        /** 이 카운터에 반영 중인 스레드 수 */
+        private final LongAdder writers = new LongAdder();
+        /** 이 카운터를 대체할 재계산 중에만 non-null, 교체 후 새 카운터에 다시 적용할 증분 */
+        private volatile Queue<Consumer<Counters>> rebuildLog;
+
+        void addReview(int type, Integer rating, boolean hasFeedback, long count) {
+            reviews[type].add(count);
+            if (rating != null && rating >= 1 && rating <= 5) {
+                ratings[type][rating].add(count);
+            }
+            if (hasFeedback) {
+                withFeedback[type].add(count);
+            }
+        }
+
+        private static LongAdder[][] adders(int rows, int columns) {
+            LongAdder[][] adders = new LongAdder[rows][columns];
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    adders[row][column] = new LongAdder();
+                }
+            }
+            return adders;
+        }
+    }
+}
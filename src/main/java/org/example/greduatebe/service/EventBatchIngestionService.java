@@ -0,0 +1,263 @@
+package org.example.greduatebe.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.dto.response.EventBatchResponse;
+import org.example.greduatebe.dto.response.EventBatchResponse.EventResult;
+import org.example.greduatebe.exception.EventQueueFullException;
+import org.example.greduatebe.exception.InvalidEventException;
+import org.example.greduatebe.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * HTTP 이벤트 일괄 수집 Service
+ * 네트워크가 불안정해 STOMP 대신 HTTP로 폴백하는 클라이언트가 로컬에 모아 둔 이벤트를 한 번에 보낼 수 있도록 합니다.
+ * - 본문: JSON 배열 또는 NDJSON(한 줄에 이벤트 하나), Content-Encoding: gzip 지원
+ * - 이벤트는 STOMP와 같은 EventIngestionPipeline으로 들어가 같은 검증/중복 제거/배치 저장을 거칩니다
+ * - 모든 이벤트의 처리가 끝나면 요청 순서대로 이벤트별 결과를 한 번에 응답합니다
+ * 본문 크기(압축 해제 후)와 이벤트 수는 제한되며, 초과하면 요청 전체를 거절합니다.
+ * 큐에 배치 전체가 들어갈 자리가 없으면 한 건도 등록하지 않고 요청 전체를 503(EVENT_QUEUE_FULL)으로 거절하므로,
+ * 클라이언트는 이벤트별 결과를 볼 필요 없이 같은 배치를 그대로 다시 보내면 됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventBatchIngestionService {
+
+    private final EventIngestionPipeline ingestionPipeline;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mission.http-batch.max-events:1000}")
+    private int maxEvents;
+
+    @Value("${mission.http-batch.max-body-bytes:5242880}")
+    private long maxBodyBytes;
+
+    @Value("${mission.http-batch.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private ObjectReader messageReader;
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    void init() {
+        messageReader = objectMapper.readerFor(WebSocketMessage.class);
+        batchSizeSummary = DistributionSummary.builder("mission.http.batch.size")
+                .description("Number of events per HTTP batch request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 본문을 읽어 이벤트를 수집 파이프라인에 등록
+     * @param attemptId 경로의 미션 시도 ID (이벤트에 attemptId가 없으면 이 값을 사용)
+     * @param body 요청 본문
+     * @param gzip Content-Encoding이 gzip인지 여부
+     * @return 모든 이벤트 처리가 끝나면(또는 timeout-ms가 지나면) 완료되는 응답
+     * @throws InvalidRequestException 본문이 잘못되었거나 크기/이벤트 수 제한을 넘은 경우
+     * @throws EventQueueFullException 수집 큐에 배치 전체가 들어갈 자리가 없는 경우
+     */
+    public CompletableFuture<EventBatchResponse> ingest(String attemptId, InputStream body, boolean gzip) {
+        List<WebSocketMessage> messages = read(body, gzip);
+        batchSizeSummary.record(messages.size());
+
+        // 경로와 다른 시도의 이벤트, Bean Validation 위반은 파이프라인에 넣지 않음
+        List<CompletableFuture<EventIngestionResult>> futures = new ArrayList<>(messages.size());
+        List<WebSocketMessage> accepted = new ArrayList<>(messages.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            WebSocketMessage message = messages.get(i);
+            if (message.getAttemptId() == null || message.getAttemptId().isEmpty()) {
+                message.setAttemptId(attemptId);
+            }
+            RuntimeException error = validate(attemptId, message);
+            futures.add(error != null ? CompletableFuture.failedFuture(error) : null);
+            if (error == null) {
+                accepted.add(message);
+                acceptedIndexes.add(i);
+            }
+        }
+        List<CompletableFuture<EventIngestionResult>> submitted = ingestionPipeline.submitAll(accepted);
+        for (int i = 0; i < submitted.size(); i++) {
+            futures.set(acceptedIndexes.get(i), submitted.get(i));
+        }
+
+        List<CompletableFuture<EventResult>> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            int index = i;
+            WebSocketMessage message = messages.get(i);
+            results.add(futures.get(i)
+                    .handle((result, error) -> toResult(index, message, result, error))
+                    .completeOnTimeout(errorResult(index, message, "TIMEOUT",
+                            "Event was not committed within " + timeoutMs + "ms, please retry"), timeoutMs, TimeUnit.MILLISECONDS));
+        }
+
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(done -> toResponse(attemptId, results.stream().map(CompletableFuture::join).toList()));
+    }
+
+    /**
+     * JSON 배열 또는 NDJSON 본문 읽기
+     * MappingIterator는 최상위가 배열이면 그 원소를, 아니면 연속된 최상위 값을 차례로 읽습니다
+     */
+    private List<WebSocketMessage> read(InputStream body, boolean gzip) {
+        // lane 용량보다 큰 배치는 큐가 비어 있어도 한 번에 등록할 수 없음
+        int limit = Math.min(maxEvents, ingestionPipeline.getMaxBatchEvents());
+        LimitedInputStream limited = null;
+        try {
+            limited = new LimitedInputStream(gzip ? new GZIPInputStream(body) : body, maxBodyBytes);
+            List<WebSocketMessage> messages = new ArrayList<>();
+            try (MappingIterator<WebSocketMessage> iterator = messageReader.readValues(limited)) {
+                while (iterator.hasNextValue()) {
+                    if (messages.size() == limit) {
+                        throw new InvalidRequestException("Too many events in one batch (max " + limit + ")");
+                    }
+                    messages.add(iterator.nextValue());
+                }
+            }
+            if (messages.isEmpty()) {
+                throw new InvalidRequestException("Event batch is empty");
+            }
+            return messages;
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof InvalidRequestException invalid) {
+                throw invalid;
+            }
+            if (limited != null && limited.exceeded) {
+                throw new InvalidRequestException("Event batch body exceeds " + maxBodyBytes + " bytes");
+            }
+            throw new InvalidRequestException("Malformed event batch body: " + e.getMessage());
+        }
+    }
+
+    private RuntimeException validate(String attemptId, WebSocketMessage message) {
+        if (!attemptId.equals(message.getAttemptId())) {
+            return new InvalidEventException("attemptId does not match the request path: " + message.getAttemptId());
+        }
+        Set<ConstraintViolation<WebSocketMessage>> violations = validator.validate(message);
+        if (!violations.isEmpty()) {
+            return new InvalidEventException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", ")));
+        }
+        return null;
+    }
+
+    private EventResult toResult(int index, WebSocketMessage message, EventIngestionResult result, Throwable error) {
+        if (error == null) {
+            return EventResult.builder()
+                    .index(index)
+                    .status(result.isDuplicate() ? "duplicate" : "success")
+                    .eventId(result.getEvent().getEventId())
+                    .clientEventId(message.getClientEventId())
+                    .eventType(message.getEventType())
+                    .build();
+        }
+
+        Throwable cause = EventIngestionResult.unwrap(error);
+        String code = EventIngestionResult.errorCode(cause);
+        if ("INTERNAL_SERVER_ERROR".equals(code)) {
+            log.error("❌ [HttpBatch] Event failed - attemptId: {}, eventType: {}",
+                    message.getAttemptId(), message.getEventType(), cause);
+        }
+        return errorResult(index, message, code, cause.getMessage());
+    }
+
+    private EventResult errorResult(int index, WebSocketMessage message, String code, String error) {
+        return EventResult.builder()
+                .index(index)
+                .status("error")
+                .clientEventId(message.getClientEventId())
+                .eventType(message.getEventType())
+                .code(code)
+                .error(error)
+                .build();
+    }
+
+    private EventBatchResponse toResponse(String attemptId, List<EventResult> results) {
+        int accepted = 0;
+        int duplicates = 0;
+        for (EventResult result : results) {
+            if ("success".equals(result.getStatus())) {
+                accepted++;
+            } else if ("duplicate".equals(result.getStatus())) {
+                duplicates++;
+            }
+        }
+
+        log.info("✅ [HttpBatch] Event batch processed - attemptId: {}, received: {}, accepted: {}, duplicates: {}",
+                attemptId, results.size(), accepted, duplicates);
+
+        return EventBatchResponse.builder()
+                .attemptId(attemptId)
+                .received(results.size())
+                .accepted(accepted)
+                .duplicates(duplicates)
+                .failed(results.size() - accepted - duplicates)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 읽은 바이트 수가 제한을 넘으면 IOException을 던지는 InputStream (gzip bomb 방어)
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+        private boolean exceeded;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            count += n;
+            if (count > limit) {
+                exceeded = true;
+                throw new IOException("Request body exceeds " + limit + " bytes");
+            }
+        }
+    }
+}
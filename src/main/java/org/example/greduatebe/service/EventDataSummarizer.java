@@ -0,0 +1,157 @@
+package org.example.greduatebe.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 이벤트 data(JSON 텍스트) 요약기
+ * JsonParser로 data를 한 번만 훑으면서 타임라인에 필요한 최상위 필드(page, referrer, duration,
+ * scrollDepth, isMissionRelevant)와 최대 100자의 미리보기를 만듭니다. Map을 만들지 않으며,
+ * 미리보기가 길이 제한을 넘은 뒤의 중첩 값은 문자열로 만들지 않고 건너뜁니다.
+ * 미리보기 형식은 Map으로 읽은 뒤 "key: value"를 이어 붙이던 기존 방식과 같습니다
+ * (page와 null 값 제외, 중첩 값은 Java 컬렉션의 toString 형식).
+ */
+@Component
+@Slf4j
+public class EventDataSummarizer {
+
+    static final int PREVIEW_LIMIT = 100;
+
+    private final JsonFactory jsonFactory;
+
+    public EventDataSummarizer(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 이벤트 data 요약
+     * @param eventId 이벤트 ID (파싱 실패 로그용)
+     * @param json data JSON 텍스트 (객체가 아니거나 잘못된 JSON이면 빈 요약)
+     * @return 추출한 필드와 미리보기
+     */
+    public EventDataSummary summarize(String eventId, String json) {
+        if (json == null) {
+            return EventDataSummary.EMPTY;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return EventDataSummary.EMPTY;
+            }
+
+            String page = null;
+            String referrer = null;
+            Long duration = null;
+            Integer scrollDepth = null;
+            Boolean isMissionRelevant = null;
+            StringBuilder preview = new StringBuilder();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (key) {
+                    case "page" -> page = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "referrer" -> referrer = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "duration" -> duration = value.isNumeric() ? parser.getNumberValue().longValue() : null;
+                    case "scrollDepth" -> scrollDepth = value.isNumeric() ? parser.getNumberValue().intValue() : null;
+                    case "isMissionRelevant" -> isMissionRelevant = value.isBoolean() ? parser.getBooleanValue() : null;
+                    default -> {
+                    }
+                }
+
+                if ("page".equals(key) || value == JsonToken.VALUE_NULL || preview.length() > PREVIEW_LIMIT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (!preview.isEmpty()) {
+                    preview.append(", ");
+                }
+                preview.append(key).append(": ");
+                appendValue(parser, preview);
+            }
+
+            return new EventDataSummary(page, referrer, duration, scrollDepth, isMissionRelevant, toPreview(preview));
+        } catch (IOException e) {
+            // data에는 사용자 입력이 들어 있으므로 원문과 스택 트레이스는 남기지 않음
+            log.warn("⚠️ [Timeline] Failed to summarize event data - eventId: {}, error: {}", eventId, e.getMessage());
+            return EventDataSummary.EMPTY;
+        }
+    }
+
+    /**
+     * 현재 토큰의 값을 Java toString 형식으로 추가 (제한을 넘으면 남은 값은 건너뜀)
+     */
+    private void appendValue(JsonParser parser, StringBuilder out) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT -> {
+                out.append('{');
+                boolean first = true;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    if (out.length() > PREVIEW_LIMIT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (!first) {
+                        out.append(", ");
+                    }
+                    first = false;
+                    out.append(name).append('=');
+                    appendValue(parser, out);
+                }
+                out.append('}');
+            }
+            case START_ARRAY -> {
+                out.append('[');
+                boolean first = true;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (out.length() > PREVIEW_LIMIT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (!first) {
+                        out.append(", ");
+                    }
+                    first = false;
+                    appendValue(parser, out);
+                }
+                out.append(']');
+            }
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> out.append(parser.getNumberValue());
+            case VALUE_TRUE -> out.append(true);
+            case VALUE_FALSE -> out.append(false);
+            case VALUE_NULL -> out.append("null");
+            default -> out.append(parser.getText());
+        }
+    }
+
+    private String toPreview(StringBuilder preview) {
+        if (preview.isEmpty()) {
+            return null;
+        }
+        return preview.length() > PREVIEW_LIMIT ? preview.substring(0, PREVIEW_LIMIT) + "..." : preview.toString();
+    }
+
+    /**
+     * 이벤트 data 요약 결과
+     * @param page 페이지 경로
+     * @param referrer 이전 페이지 경로
+     * @param duration 페이지 체류 시간 (밀리초)
+     * @param scrollDepth 스크롤 깊이 (%)
+     * @param isMissionRelevant 미션 관련 페이지 여부
+     * @param preview 데이터 미리보기 (최대 100자 + "...")
+     */
+    public record EventDataSummary(String page, String referrer, Long duration, Integer scrollDepth,
+                                   Boolean isMissionRelevant, String preview) {
+
+        static final EventDataSummary EMPTY = new EventDataSummary(null, null, null, null, null, null);
+    }
+}
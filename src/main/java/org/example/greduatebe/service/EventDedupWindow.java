@@ -0,0 +1,133 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클라이언트 이벤트 ID 중복 제거 윈도우
+ * 시도(attemptId)별로 최근에 커밋된 eventId를 LRU로 보관하여,
+ * ACK 유실 후 재전송된 이벤트를 DB 조회 없이 걸러냅니다.
+ * - 윈도우에서 빠진 오래된 재전송은 mission_event_client_keys 등록(ON CONFLICT DO NOTHING)이 최종적으로 막습니다
+ * - 시도 수가 max-attempts를 넘으면 임의의 시도 윈도우를 제거합니다 (MissionAttemptRegistry와 동일한 방식)
+ */
+@Service
+@RequiredArgsConstructor
+public class EventDedupWindow {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mission.dedup.per-attempt-size:256}")
+    private int perAttemptSize;
+
+    @Value("${mission.dedup.max-attempts:100000}")
+    private int maxAttempts;
+
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    private Counter windowHitCounter;
+    private Counter databaseHitCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("mission.event.dedup.attempts", windows, ConcurrentHashMap::size)
+                .description("Number of attempts with a dedup window in memory")
+                .register(meterRegistry);
+
+        windowHitCounter = duplicateCounter("window");
+        databaseHitCounter = duplicateCounter("database");
+    }
+
+    /**
+     * 최근에 커밋된 eventId인지 확인
+     * @param attemptId 미션 시도 ID
+     * @param eventId 클라이언트 이벤트 ID로 만든 eventId
+     * @return 윈도우에 있으면 true (중복)
+     */
+    public boolean contains(String attemptId, String eventId) {
+        Window window = windows.get(attemptId);
+        if (window == null) {
+            return false;
+        }
+        boolean duplicate = window.contains(eventId);
+        if (duplicate) {
+            windowHitCounter.increment();
+        }
+        return duplicate;
+    }
+
+    /**
+     * 커밋된 eventId 기록 (커밋 후 호출)
+     * @param attemptId 미션 시도 ID
+     * @param eventIds 커밋된 eventId 목록
+     */
+    public void recordAll(String attemptId, Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        if (!windows.containsKey(attemptId) && windows.size() >= maxAttempts) {
+            evictForCapacity();
+        }
+        windows.computeIfAbsent(attemptId, key -> new Window(perAttemptSize)).addAll(eventIds);
+    }
+
+    /**
+     * 윈도우에는 없었지만 DB 유니크 제약(ON CONFLICT)으로 걸러진 중복 기록
+     */
+    public void recordDatabaseDuplicate() {
+        databaseHitCounter.increment();
+    }
+
+    private void evictForCapacity() {
+        Iterator<String> iterator = windows.keySet().iterator();
+        while (windows.size() >= maxAttempts && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private Counter duplicateCounter(String source) {
+        return Counter.builder("mission.event.duplicates")
+                .description("Replayed client events rejected as duplicates, by where they were detected")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시도 하나의 LRU eventId 집합
+     * 같은 시도의 이벤트는 한 lane에서 처리되지만 다른 경로(개별 처리 등)와 겹칠 수 있어 동기화합니다
+     */
+    private static final class Window {
+
+        private final Map<String, Boolean> eventIds;
+
+        Window(int maxSize) {
+            this.eventIds = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized boolean contains(String eventId) {
+            return eventIds.get(eventId) != null;
+        }
+
+        synchronized void addAll(Collection<String> ids) {
+            for (String id : ids) {
+                eventIds.put(id, Boolean.TRUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package org.example.greduatebe.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.entity.MissionType;
+import org.example.greduatebe.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 미션 이벤트 스트리밍 export Service
+ * 서버 측 커서(fetch-size)로 mission_events를 읽으면서 바로 응답 스트림에 기록하므로
+ * 이벤트 수와 무관하게 메모리 사용량이 일정합니다.
+ * - PostgreSQL 드라이버는 autocommit이 꺼진 트랜잭션 안에서만 fetch-size 단위 커서를 사용하므로 read-only 트랜잭션으로 실행
+ * - data 컬럼은 Map으로 역직렬화하지 않고 JSON 텍스트 그대로 기록
+ * - 대량 추출용이므로 정렬하지 않습니다 (정렬이 필요하면 분석 도구에서 수행)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventExportService {
+
+    private static final String SELECT_SQL = """
+            SELECT
+                me.event_id, me.attempt_id, me.session_id, ma.mission_type, me.event_type,
+                me.timestamp, me.received_at, me.processing_time, me.data::text as data
+            FROM mission_events me
+            JOIN mission_attempts ma ON ma.attempt_id = me.attempt_id
+            %s
+            """;
+
+    private static final String CSV_HEADER =
+            "event_id,attempt_id,session_id,mission_type,event_type,timestamp,received_at,processing_time,data";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${export.fetch-size:5000}")
+    private int fetchSize;
+
+    /**
+     * export 형식
+     */
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * 요청 파라미터로부터 형식 결정
+         * @param value ndjson | csv (대소문자 무시)
+         */
+        public static ExportFormat from(String value) {
+            try {
+                return ExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    /**
+     * export 필터 검증
+     * 스트리밍 시작 후에는 오류 응답을 보낼 수 없으므로 요청 스레드에서 먼저 검증합니다
+     */
+    public void validate(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+    }
+
+    /**
+     * 이벤트를 스트림으로 export
+     * @param missionType 미션 타입 (선택)
+     * @param eventType 이벤트 타입 (선택)
+     * @param from 이벤트 시간 하한, 포함 (선택)
+     * @param to 이벤트 시간 상한, 미포함 (선택)
+     * @param format export 형식
+     * @param out 응답 스트림 (호출자가 닫음)
+     * @return 기록한 이벤트 수
+     */
+    public long export(MissionType missionType, String eventType, LocalDateTime from, LocalDateTime to,
+                       ExportFormat format, OutputStream out) throws IOException {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        if (missionType != null) {
+            conditions.add("ma.mission_type = ?");
+            params.add(missionType.name());
+        }
+        if (eventType != null && !eventType.isBlank()) {
+            conditions.add("me.event_type = ?");
+            params.add(eventType);
+        }
+        if (from != null) {
+            conditions.add("me.timestamp >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            conditions.add("me.timestamp < ?");
+            params.add(Timestamp.valueOf(to));
+        }
+
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+        String sql = SELECT_SQL.formatted(where);
+
+        long startTime = System.currentTimeMillis();
+        RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    writer.write(rs);
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등: 쿼리를 중단하고 커서를 닫음
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            log.warn("⚠️ [Export] Export aborted after {} events: {}", writer.count(), e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        writer.finish();
+        log.info("✅ [Export] Events exported - format: {}, count: {}, elapsed: {}ms",
+                format, writer.count(), System.currentTimeMillis() - startTime);
+        return writer.count();
+    }
+
+    /**
+     * 행 단위 기록기
+     */
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+
+        void finish() throws IOException;
+
+        long count();
+    }
+
+    /**
+     * NDJSON 기록기 (한 줄에 이벤트 하나)
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private long count;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            generator.writeStartObject();
+            generator.writeStringField("eventId", rs.getString("event_id"));
+            generator.writeStringField("attemptId", rs.getString("attempt_id"));
+            generator.writeStringField("sessionId", rs.getString("session_id"));
+            generator.writeStringField("missionType", rs.getString("mission_type"));
+            generator.writeStringField("eventType", rs.getString("event_type"));
+            generator.writeStringField("timestamp", formatTimestamp(rs.getTimestamp("timestamp")));
+            generator.writeStringField("receivedAt", formatTimestamp(rs.getTimestamp("received_at")));
+            long processingTime = rs.getLong("processing_time");
+            if (rs.wasNull()) {
+                generator.writeNullField("processingTime");
+            } else {
+                generator.writeNumberField("processingTime", processingTime);
+            }
+            generator.writeFieldName("data");
+            generator.writeRawValue(rs.getString("data"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            count++;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+    }
+
+    /**
+     * CSV 기록기 (RFC 4180, data는 JSON 텍스트)
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private long count;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.writer.write(CSV_HEADER);
+            this.writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            writeField(rs.getString("event_id"));
+            writer.write(',');
+            writeField(rs.getString("attempt_id"));
+            writer.write(',');
+            writeField(rs.getString("session_id"));
+            writer.write(',');
+            writeField(rs.getString("mission_type"));
+            writer.write(',');
+            writeField(rs.getString("event_type"));
+            writer.write(',');
+            writeField(formatTimestamp(rs.getTimestamp("timestamp")));
+            writer.write(',');
+            writeField(formatTimestamp(rs.getTimestamp("received_at")));
+            writer.write(',');
+            long processingTime = rs.getLong("processing_time");
+            writeField(rs.wasNull() ? null : Long.toString(processingTime));
+            writer.write(',');
+            writeField(rs.getString("data"));
+            writer.write("\r\n");
+            count++;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public long count() {
+            return count;
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private static String formatTimestamp(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+    }
+}
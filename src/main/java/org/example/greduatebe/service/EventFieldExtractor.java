@@ -0,0 +1,79 @@
+package org.example.greduatebe.service;
+
+import org.example.greduatebe.entity.MissionEvent;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 이벤트 데이터 필드 추출기 (schema-on-write)
+ * 저장 전에 eventType별로 잘 알려진 data 필드를 타입이 있는 컬럼 값으로 옮겨 담아,
+ * 분석 쿼리가 행마다 data->>'...'를 파싱/캐스팅하지 않고 네이티브 컬럼을 읽도록 합니다.
+ * - portfolio_creation_step: step, timeOnStep
+ * - page_view: duration, scrollDepth, isMissionRelevant
+ * data(jsonb)는 그대로 저장되며, 타입이 맞지 않는 값은 컬럼을 null로 둡니다.
+ * 변환 규칙은 기존 데이터를 채우는 마이그레이션(V4__typed_event_columns.sql)과 동일합니다.
+ */
+@Component
+public class EventFieldExtractor {
+
+    public static final String PAGE_VIEW_EVENT_TYPE = "page_view";
+
+    private static final Pattern INTEGER_TEXT = Pattern.compile("[0-9]+");
+    private static final Pattern DECIMAL_TEXT = Pattern.compile("[0-9]+(\\.[0-9]+)?");
+
+    /**
+     * 이벤트 data에서 eventType에 해당하는 필드를 추출해 타입 컬럼에 설정
+     * @param event 저장할 MissionEvent (data, eventType이 설정된 상태)
+     */
+    public void apply(MissionEvent event) {
+        Map<String, Object> data = event.getData();
+        if (data == null || data.isEmpty() || event.getEventType() == null) {
+            return;
+        }
+
+        switch (event.getEventType()) {
+            case StepTimeStatistics.STEP_EVENT_TYPE -> {
+                event.setStep(toInteger(data.get("step")));
+                event.setTimeOnStep(toDecimal(data.get("timeOnStep")));
+            }
+            case PAGE_VIEW_EVENT_TYPE -> {
+                event.setDurationMs(data.get("duration") instanceof Number duration ? duration.longValue() : null);
+                event.setScrollDepth(data.get("scrollDepth") instanceof Number depth ? toInt(depth) : null);
+                event.setIsMissionRelevant(data.get("isMissionRelevant") instanceof Boolean relevant ? relevant : null);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private Integer toInteger(Object value) {
+        if (value instanceof Number number) {
+            return toInt(number);
+        }
+        if (value instanceof String text && INTEGER_TEXT.matcher(text).matches() && text.length() < 10) {
+            return Integer.parseInt(text);
+        }
+        return null;
+    }
+
+    /**
+     * 소수는 버리고, INTEGER 컬럼 범위를 벗어나면 null
+     */
+    private Integer toInt(Number number) {
+        long value = number.longValue();
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (int) value : null;
+    }
+
+    private BigDecimal toDecimal(Object value) {
+        if (value instanceof Number number) {
+            return new BigDecimal(number.toString());
+        }
+        if (value instanceof String text && DECIMAL_TEXT.matcher(text).matches()) {
+            return new BigDecimal(text);
+        }
+        return null;
+    }
+}
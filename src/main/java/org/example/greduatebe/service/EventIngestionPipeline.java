@@ -0,0 +1,543 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.exception.EventQueueFullException;
+import org.example.greduatebe.exception.InvalidEventException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 이벤트 비동기 수집 파이프라인
+ * STOMP inbound 스레드는 검증된 메시지를 attemptId 해시로 고정된 lane에 넣기만 하고,
+ * lane마다 하나의 전용 스레드가 micro-batch(크기/시간 기준)로 묶어 한 번에 저장합니다.
+ * 같은 attemptId의 이벤트는 항상 같은 lane에서 순서대로 처리되고(종료/평가/포기 후처리 순서 보장),
+ * 서로 다른 시도는 여러 lane에서 병렬로 처리됩니다.
+ * lane이 가득 차면 offer-timeout 동안 대기한 뒤 거절하여 backpressure를 겁니다.
+ * 메트릭: 큐 크기, lane별 깊이/불균형, 큐 대기 시간, 배치 크기/저장 시간, 수신→커밋 지연,
+ * eventType별 처리 건수 (metric-event-types에 없는 타입은 other)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventIngestionPipeline {
+
+    private final EventService eventService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mission.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${mission.ingestion.batch-size:200}")
+    private int batchSize;
+
+    @Value("${mission.ingestion.linger-ms:20}")
+    private long lingerMs;
+
+    @Value("${mission.ingestion.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+
+    @Value("${mission.ingestion.lanes:0}")
+    private int laneCount;
+
+    @Value("${mission.ingestion.metric-event-types:page_view,click,portfolio_creation_step,mission_completed,mission_quitted,mission_rating_submitted}")
+    private String[] metricEventTypes;
+
+    private Lane[] lanes;
+    private volatile boolean running;
+
+    private Counter rejectedCounter;
+    private Timer queueWaitTimer;
+    private Timer batchTimer;
+    private DistributionSummary batchSizeSummary;
+    private Timer commitSuccessTimer;
+    private Timer commitErrorTimer;
+    private Map<String, ProcessedCounters> processedCounters;
+    private ProcessedCounters otherProcessedCounters;
+
+    @PostConstruct
+    void start() {
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        int laneCapacity = Math.max(1, (queueCapacity + count - 1) / count);
+
+        lanes = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            lanes[i] = new Lane(i, laneCapacity);
+        }
+        running = true;
+        registerMetrics();
+
+        for (Lane lane : lanes) {
+            lane.thread.start();
+        }
+
+        log.info("Event ingestion pipeline started - lanes: {}, laneCapacity: {}, batchSize: {}, lingerMs: {}",
+                count, laneCapacity, batchSize, lingerMs);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        log.info("Stopping event ingestion pipeline - pending: {}", getQueueSize());
+        // interrupt 대신 플래그만 내려 진행 중인 배치 저장(JDBC)이 끊기지 않도록 합니다
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        for (Lane lane : lanes) {
+            LockSupport.unpark(lane.thread);
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            lane.thread.join(Math.max(1, remainingMillis));
+        }
+    }
+
+    /**
+     * 이벤트를 수집 큐에 등록
+     * @param message WebSocket 메시지
+     * @return 배치가 커밋된 후 처리 결과(저장 또는 중복)로 완료되는 Future, 실패 시 예외로 완료
+     * @throws InvalidEventException 메시지가 유효하지 않은 경우
+     * @throws EventQueueFullException lane이 가득 차 offer-timeout 내에 등록하지 못한 경우
+     */
+    public CompletableFuture<EventIngestionResult> submit(WebSocketMessage message) {
+        validate(message);
+
+        PendingEvent pending = new PendingEvent(ReceivedMessage.now(message), System.nanoTime(),
+                new CompletableFuture<>());
+
+        Lane lane = laneFor(message.getAttemptId());
+        if (!lane.offer(pending, TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs))) {
+            rejectedCounter.increment();
+            log.warn("⚠️ [Ingestion] Lane {} full, rejecting event - eventType: {}, attemptId: {}",
+                    lane.index, message.getEventType(), message.getAttemptId());
+            throw new EventQueueFullException("Event queue is full, please retry later");
+        }
+
+        return pending.future();
+    }
+
+    /**
+     * 여러 이벤트를 순서대로 수집 큐에 등록 (HTTP/STOMP 일괄 수집용)
+     * 유효하지 않은 이벤트는 해당 Future만 실패로 완료하고 나머지는 계속 등록합니다.
+     * 큐 용량은 배치 단위로 먼저 예약하므로, 일부만 등록되고 뒤쪽 이벤트가 모두 거절되는 경우는 없습니다.
+     * 필요한 lane 중 하나라도 offer-timeout 안에 자리가 나지 않으면 한 건도 등록하지 않고 배치 전체를 거절합니다.
+     * @param messages WebSocket 메시지 목록
+     * @return 메시지별 Future (입력 순서와 동일)
+     * @throws EventQueueFullException lane이 가득 차 배치 전체를 등록하지 못한 경우 (배치 전체를 다시 보내야 함)
+     */
+    public List<CompletableFuture<EventIngestionResult>> submitAll(List<WebSocketMessage> messages) {
+        List<CompletableFuture<EventIngestionResult>> futures = new ArrayList<>(messages.size());
+        Map<Lane, List<PendingEvent>> byLane = new LinkedHashMap<>();
+        for (WebSocketMessage message : messages) {
+            try {
+                validate(message);
+            } catch (InvalidEventException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+                continue;
+            }
+            PendingEvent pending = new PendingEvent(ReceivedMessage.now(message), System.nanoTime(),
+                    new CompletableFuture<>());
+            byLane.computeIfAbsent(laneFor(message.getAttemptId()), lane -> new ArrayList<>()).add(pending);
+            futures.add(pending.future());
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+        List<Lane> reserved = new ArrayList<>(byLane.size());
+        for (Map.Entry<Lane, List<PendingEvent>> entry : byLane.entrySet()) {
+            Lane lane = entry.getKey();
+            if (!lane.reserve(entry.getValue().size(), deadline)) {
+                reserved.forEach(done -> done.release(byLane.get(done).size()));
+                int size = byLane.values().stream().mapToInt(List::size).sum();
+                rejectedCounter.increment(size);
+                log.warn("⚠️ [Ingestion] Lane {} full, rejecting batch - size: {}, attemptId: {}",
+                        lane.index, size, entry.getValue().get(0).message().getAttemptId());
+                throw new EventQueueFullException("Event queue is full, please retry the whole batch later");
+            }
+            reserved.add(lane);
+        }
+
+        byLane.forEach(Lane::enqueueAll);
+        return futures;
+    }
+
+    /**
+     * 한 번에 등록할 수 있는 한 시도의 최대 이벤트 수 (lane 용량)
+     * 이보다 큰 배치는 큐가 비어 있어도 등록할 수 없으므로 일괄 수집 API가 요청 단계에서 거절합니다
+     */
+    public int getMaxBatchEvents() {
+        return lanes[0].capacity;
+    }
+
+    /**
+     * 현재 모든 lane에 대기 중인 이벤트 수
+     */
+    public int getQueueSize() {
+        int size = 0;
+        for (Lane lane : lanes) {
+            size += lane.depth();
+        }
+        return size;
+    }
+
+    /**
+     * attemptId → lane 매핑 (같은 시도는 항상 같은 lane)
+     */
+    private Lane laneFor(String attemptId) {
+        int hash = attemptId.hashCode();
+        // String.hashCode 하위 비트 편중을 줄이기 위해 상위 비트를 섞습니다
+        return lanes[Math.floorMod(hash ^ (hash >>> 16), lanes.length)];
+    }
+
+    /**
+     * lane 깊이 불균형 = 가장 깊은 lane / 평균 깊이 (1.0이면 균등, 대기 이벤트가 없으면 0)
+     */
+    private double laneImbalance() {
+        int max = 0;
+        int total = 0;
+        for (Lane lane : lanes) {
+            int depth = lane.depth();
+            max = Math.max(max, depth);
+            total += depth;
+        }
+        return total == 0 ? 0.0 : max / ((double) total / lanes.length);
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("mission.ingestion.queue.size", this::getQueueSize)
+                .description("Events waiting in all ingestion lanes")
+                .register(meterRegistry);
+        Gauge.builder("mission.ingestion.queue.remaining", () -> {
+                    int remaining = 0;
+                    for (Lane lane : lanes) {
+                        remaining += lane.capacity - lane.depth();
+                    }
+                    return remaining;
+                })
+                .description("Remaining capacity of all ingestion lanes")
+                .register(meterRegistry);
+        for (Lane lane : lanes) {
+            Gauge.builder("mission.ingestion.lane.depth", lane, Lane::depth)
+                    .description("Events waiting in one ingestion lane")
+                    .tag("lane", String.valueOf(lane.index))
+                    .register(meterRegistry);
+        }
+        Gauge.builder("mission.ingestion.lane.imbalance", this::laneImbalance)
+                .description("Deepest lane depth divided by the mean lane depth")
+                .register(meterRegistry);
+
+        rejectedCounter = Counter.builder("mission.ingestion.rejected")
+                .description("Events rejected because the ingestion queue was full")
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("mission.ingestion.queue.wait")
+                .description("Time from enqueue until the lane thread picks the event up")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchTimer = Timer.builder("mission.ingestion.batch.duration")
+                .description("Time to save and commit one micro-batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("mission.ingestion.batch.size")
+                .description("Number of events per micro-batch")
+                .register(meterRegistry);
+        commitSuccessTimer = commitLatencyTimer("success");
+        commitErrorTimer = commitLatencyTimer("error");
+
+        // eventType은 클라이언트 입력이므로 설정된 타입만 태그로 쓰고 나머지는 other로 묶음
+        processedCounters = new HashMap<>();
+        for (String eventType : metricEventTypes) {
+            processedCounters.put(eventType, processedCounters(eventType));
+        }
+        otherProcessedCounters = processedCounters("other");
+    }
+
+    private ProcessedCounters processedCounters(String eventType) {
+        return new ProcessedCounters(
+                processedCounter(eventType, "success"),
+                processedCounter(eventType, "duplicate"),
+                processedCounter(eventType, "error"));
+    }
+
+    private Counter processedCounter(String eventType, String outcome) {
+        return Counter.builder("mission.event.processed")
+                .description("Events processed by the ingestion pipeline")
+                .tag("eventType", eventType)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Timer commitLatencyTimer(String outcome) {
+        return Timer.builder("mission.event.commit.latency")
+                .description("Time from server receive until the event's batch is committed")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메시지 기본 유효성 검증 (큐에 넣기 전에 수행)
+     */
+    private void validate(WebSocketMessage message) {
+        if (message.getAttemptId() == null || message.getAttemptId().isEmpty()) {
+            throw new InvalidEventException("attemptId is required");
+        }
+        if (message.getEventType() == null || message.getEventType().isEmpty()) {
+            throw new InvalidEventException("eventType is required");
+        }
+        if (message.getClientEventId() != null && message.getClientEventId().length() > 100) {
+            throw new InvalidEventException("clientEventId must be at most 100 characters");
+        }
+    }
+
+    /**
+     * 배치 저장 및 Future 완료 처리
+     * 배치 전체가 실패하면 이벤트 단위로 재처리하여 한 건의 오류가 다른 이벤트에 영향을 주지 않도록 합니다
+     */
+    private void flush(List<PendingEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        long dequeuedAt = System.nanoTime();
+        List<ReceivedMessage> messages = new ArrayList<>(batch.size());
+        for (PendingEvent pending : batch) {
+            queueWaitTimer.record(dequeuedAt - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            messages.add(pending.received());
+        }
+        batchSizeSummary.record(batch.size());
+
+        List<EventIngestionResult> results;
+        try {
+            results = batchTimer.recordCallable(() -> eventService.processEventBatch(messages));
+        } catch (Exception e) {
+            log.warn("⚠️ [Ingestion] Batch failed, falling back to per-event processing - size: {}, error: {}",
+                    batch.size(), e.getMessage());
+            flushIndividually(batch);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            EventIngestionResult result = results.get(i);
+            complete(batch.get(i), result);
+        }
+    }
+
+    private void flushIndividually(List<PendingEvent> batch) {
+        for (PendingEvent pending : batch) {
+            EventIngestionResult result;
+            try {
+                result = eventService.processEventBatch(List.of(pending.received())).get(0);
+            } catch (RuntimeException e) {
+                result = EventIngestionResult.failure(pending.message(), e);
+            }
+            complete(pending, result);
+        }
+    }
+
+    private void complete(PendingEvent pending, EventIngestionResult result) {
+        (result.isSuccess() ? commitSuccessTimer : commitErrorTimer)
+                .record(System.nanoTime() - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+        ProcessedCounters counters = processedCounters.getOrDefault(pending.message().getEventType(),
+                otherProcessedCounters);
+        (!result.isSuccess() ? counters.error() : result.isDuplicate() ? counters.duplicate() : counters.success())
+                .increment();
+
+        try {
+            if (result.isSuccess()) {
+                pending.future().complete(result);
+            } else {
+                pending.future().completeExceptionally(result.getError());
+            }
+        } catch (Exception e) {
+            // ACK 전송 콜백의 오류가 lane 스레드를 멈추지 않도록 방어
+            log.error("❌ [Ingestion] Error in completion callback - attemptId: {}",
+                    pending.message().getAttemptId(), e);
+        }
+    }
+
+    /**
+     * attemptId 해시로 고정되는 처리 lane
+     * 생산자(inbound 스레드)는 여러 개, 소비자(lane 스레드)는 하나인 MPSC 구조입니다.
+     * 큐는 lock-free ConcurrentLinkedQueue를 쓰고, 용량 제한은 depth 카운터로,
+     * 소비자 대기는 idle 플래그 + LockSupport.park/unpark로 처리합니다.
+     */
+    private final class Lane {
+
+        private static final long OFFER_RETRY_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+        private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+        private final int index;
+        private final int capacity;
+        private final ConcurrentLinkedQueue<PendingEvent> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final Thread thread;
+        private volatile boolean idle;
+
+        Lane(int index, int capacity) {
+            this.index = index;
+            this.capacity = capacity;
+            this.thread = new Thread(this::drainLoop, "event-ingestion-lane-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        int depth() {
+            return depth.get();
+        }
+
+        /**
+         * 용량을 먼저 예약한 뒤 큐에 추가, 가득 찼으면 timeout까지 짧게 재시도
+         */
+        boolean offer(PendingEvent pending, long timeoutNanos) {
+            if (!reserve(1, System.nanoTime() + timeoutNanos)) {
+                return false;
+            }
+            enqueueAll(List.of(pending));
+            return true;
+        }
+
+        /**
+         * 용량 count만큼 한 번에 예약, 자리가 없으면 deadline까지 짧게 재시도
+         */
+        boolean reserve(int count, long deadlineNanos) {
+            if (count > capacity) {
+                return false;
+            }
+            while (true) {
+                int current = depth.get();
+                if (current + count <= capacity) {
+                    if (depth.compareAndSet(current, current + count)) {
+                        return true;
+                    }
+                    continue;
+                }
+                if (System.nanoTime() >= deadlineNanos || Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+                LockSupport.parkNanos(OFFER_RETRY_NANOS);
+            }
+        }
+
+        void release(int count) {
+            depth.addAndGet(-count);
+        }
+
+        /**
+         * 예약해 둔 용량으로 이벤트를 순서대로 큐에 추가
+         */
+        void enqueueAll(List<PendingEvent> pending) {
+            queue.addAll(pending);
+            if (idle) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        private PendingEvent poll() {
+            PendingEvent pending = queue.poll();
+            if (pending != null) {
+                depth.decrementAndGet();
+            }
+            return pending;
+        }
+
+        /**
+         * 이벤트가 들어오거나 timeout이 지날 때까지 대기
+         * idle을 먼저 세운 뒤 큐를 다시 확인하므로, 생산자가 그 사이에 넣은 이벤트를 놓치지 않습니다
+         */
+        private PendingEvent awaitNext(long timeoutNanos) {
+            idle = true;
+            try {
+                PendingEvent pending = poll();
+                if (pending == null && running) {
+                    LockSupport.parkNanos(this, timeoutNanos);
+                    pending = poll();
+                }
+                return pending;
+            } finally {
+                idle = false;
+            }
+        }
+
+        /**
+         * lane 스레드 루프
+         * 첫 이벤트가 도착하면 batch-size가 차거나 linger-ms가 지날 때까지 모아서 저장합니다
+         */
+        private void drainLoop() {
+            List<PendingEvent> batch = new ArrayList<>(batchSize);
+            long lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+
+            while (running) {
+                PendingEvent first = poll();
+                if (first == null) {
+                    first = awaitNext(IDLE_PARK_NANOS);
+                    if (first == null) {
+                        continue;
+                    }
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize && running) {
+                    PendingEvent next = poll();
+                    if (next == null) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            break;
+                        }
+                        next = awaitNext(remaining);
+                        if (next == null) {
+                            continue;
+                        }
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            }
+
+            // 종료 시 lane에 남은 이벤트 모두 저장
+            PendingEvent remaining;
+            while ((remaining = poll()) != null) {
+                batch.add(remaining);
+                if (batch.size() >= batchSize) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+            flush(batch);
+
+            log.info("Event ingestion lane {} stopped", index);
+        }
+    }
+
+    /**
+     * eventType 하나의 결과별 처리 건수 카운터
+     */
+    private record ProcessedCounters(Counter success, Counter duplicate, Counter error) {
+    }
+
+    /**
+     * lane에 대기 중인 이벤트
+     */
+    private record PendingEvent(ReceivedMessage received, long enqueuedNanos,
+                                CompletableFuture<EventIngestionResult> future) {
+
+        WebSocketMessage message() {
+            return received.message();
+        }
+    }
+}
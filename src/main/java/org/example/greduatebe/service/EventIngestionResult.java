@@ -0,0 +1,77 @@
+package org.example.greduatebe.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.exception.EventQueueFullException;
+import org.example.greduatebe.exception.InvalidEventException;
+import org.example.greduatebe.exception.MissionNotFoundException;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * 일괄 처리된 이벤트 한 건의 처리 결과
+ * 저장에 성공하면 event, 실패하면 error를 가집니다
+ * 이미 저장된 클라이언트 이벤트의 재전송이면 duplicate=true이고 event는 기존 eventId를 가집니다
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventIngestionResult {
+
+    private final WebSocketMessage message;
+    private final MissionEvent event;
+    private final RuntimeException error;
+    private final boolean duplicate;
+
+    /**
+     * 성공 결과 생성
+     */
+    public static EventIngestionResult success(WebSocketMessage message, MissionEvent event) {
+        return new EventIngestionResult(message, event, null, false);
+    }
+
+    /**
+     * 중복(이미 저장된 이벤트의 재전송) 결과 생성
+     */
+    public static EventIngestionResult duplicate(WebSocketMessage message, MissionEvent event) {
+        return new EventIngestionResult(message, event, null, true);
+    }
+
+    /**
+     * 실패 결과 생성
+     */
+    public static EventIngestionResult failure(WebSocketMessage message, RuntimeException error) {
+        return new EventIngestionResult(message, null, error, false);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * 처리 실패 원인을 응답용 에러 코드로 변환 (GlobalExceptionHandler의 코드와 동일)
+     * @param error Future가 실패로 완료된 예외 (CompletionException이면 원인 예외 기준)
+     */
+    public static String errorCode(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof MissionNotFoundException) {
+            return "MISSION_NOT_FOUND";
+        }
+        if (cause instanceof InvalidEventException) {
+            return "INVALID_EVENT";
+        }
+        if (cause instanceof EventQueueFullException) {
+            return "EVENT_QUEUE_FULL";
+        }
+        return "INTERNAL_SERVER_ERROR";
+    }
+
+    /**
+     * CompletionException으로 감싸진 원인 예외 추출
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -3,22 +3,28 @@ package org.example.greduatebe.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.greduatebe.dto.request.WebSocketMessage;
-import org.example.greduatebe.entity.MissionAttempt;
 import org.example.greduatebe.entity.MissionEvent;
-import org.example.greduatebe.entity.MissionStatus;
-import org.example.greduatebe.entity.Review;
 import org.example.greduatebe.exception.InvalidEventException;
-import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.example.greduatebe.exception.MissionNotFoundException;
+import org.example.greduatebe.repository.MissionEventBatchRepository;
+import org.example.greduatebe.repository.MissionEventReadRepository;
+import org.example.greduatebe.repository.MissionEventReadRepository.StoredEvent;
 import org.example.greduatebe.repository.MissionEventRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * 이벤트 관련 비즈니스 로직 처리 Service
@@ -29,9 +35,14 @@ import java.util.UUID;
 public class EventService {
 
     private final MissionEventRepository missionEventRepository;
-    private final MissionAttemptRepository missionAttemptRepository;
-    private final MissionService missionService;
-    private final ReviewService reviewService;
+    private final MissionEventBatchRepository missionEventBatchRepository;
+    private final MissionEventReadRepository missionEventReadRepository;
+    private final MissionAttemptRegistry attemptRegistry;
+    private final StepTimeStatistics stepTimeStatistics;
+    private final EventDedupWindow dedupWindow;
+    private final MissionFinalizer missionFinalizer;
+    private final EventFieldExtractor eventFieldExtractor;
+    private final AttemptDetailCache attemptDetailCache;
 
     /**
      * 이벤트 처리
@@ -40,9 +51,20 @@ public class EventService {
      */
     @Transactional
     public MissionEvent processEvent(WebSocketMessage message) {
-        long startTime = System.currentTimeMillis();
+        return processEvent(ReceivedMessage.now(message));
+    }
 
-        log.info("Processing event - eventType: {}, attemptId: {}, sessionId: {}",
+    /**
+     * 이벤트 처리 (수신 시각 지정)
+     * clientEventId가 있는 재전송 이벤트는 다시 저장하지 않고 기존 eventId를 가진 이벤트를 반환합니다
+     * @param received 수신 시각이 기록된 메시지
+     * @return 저장된(또는 이미 저장되어 있던) MissionEvent
+     */
+    @Transactional
+    public MissionEvent processEvent(ReceivedMessage received) {
+        WebSocketMessage message = received.message();
+
+        log.debug("Processing event - eventType: {}, attemptId: {}, sessionId: {}",
                 message.getEventType(), message.getAttemptId(), message.getSessionId());
 
         // attemptId 유효성 검증
@@ -50,97 +72,154 @@ public class EventService {
             throw new InvalidEventException("attemptId is required");
         }
 
-        // MissionAttempt 존재 여부 확인
-        MissionAttempt missionAttempt = missionService.getMissionAttempt(message.getAttemptId());
+        // 한 건짜리 배치로 처리 (중복 제거/저장/후처리 경로를 하나로 유지)
+        EventIngestionResult result = processEventBatch(List.of(received)).get(0);
+        if (!result.isSuccess()) {
+            throw result.getError();
+        }
 
-        // timestamp가 없으면 현재 시간 사용
-        LocalDateTime timestamp = message.getTimestamp() != null ?
-                message.getTimestamp() : LocalDateTime.now();
+        log.debug("Event processed successfully - eventId: {}, duplicate: {}, processingTime: {}ms",
+                result.getEvent().getEventId(), result.isDuplicate(), result.getEvent().getProcessingTime());
 
-        // data가 없으면 빈 Map 사용
-        Map<String, Object> data = message.getData() != null ?
-                message.getData() : new java.util.HashMap<>();
+        return result.getEvent();
+    }
 
-        // eventId 생성
-        String eventId = generateEventId();
+    /**
+     * 이벤트 일괄 처리
+     * 여러 이벤트를 하나의 트랜잭션에서 multi-row INSERT로 저장한 뒤
+     * 미션 종료/평가/포기 이벤트를 저장 순서대로 후처리합니다
+     * processingTime은 서버 수신부터 저장 직전까지(큐 대기 포함)의 시간입니다
+     * clientEventId가 있는 이벤트는 중복 제거 윈도우 → 배치 내 중복 → mission_event_client_keys 순으로 재전송을 걸러내며,
+     * 중복 이벤트는 저장/후처리하지 않고 duplicate 결과로 반환합니다
+     * @param messages 수신 시각이 기록된 메시지 목록 (수신 순서)
+     * @return 메시지별 처리 결과 (입력 순서와 동일)
+     */
+    @Transactional
+    public List<EventIngestionResult> processEventBatch(List<ReceivedMessage> messages) {
+        long startTime = System.currentTimeMillis();
+
+        // 배치에 포함된 attemptId 검증 (레지스트리에 없는 것만 모아 IN 쿼리 한 번으로 조회)
+        Set<String> existingAttemptIds = attemptRegistry.findAll(messages.stream()
+                        .map(received -> received.message().getAttemptId())
+                        .collect(Collectors.toSet()))
+                .keySet();
+
+        List<EventIngestionResult> results = new ArrayList<>(messages.size());
+        List<MissionEvent> events = new ArrayList<>(messages.size());
+        List<MissionEvent> clientEvents = new ArrayList<>();
+        Set<String> batchEventIds = new HashSet<>();
+
+        for (ReceivedMessage received : messages) {
+            WebSocketMessage message = received.message();
+            if (!existingAttemptIds.contains(message.getAttemptId())) {
+                results.add(EventIngestionResult.failure(message,
+                        new MissionNotFoundException("Mission attempt not found: " + message.getAttemptId())));
+                continue;
+            }
 
-        // MissionEvent 엔티티 생성 및 저장
-        MissionEvent event = MissionEvent.builder()
-                .eventId(eventId)
-                .attemptId(message.getAttemptId())
-                .sessionId(message.getSessionId())
-                .eventType(message.getEventType())
-                .timestamp(timestamp)
-                .data(data)
-                .processingTime(System.currentTimeMillis() - startTime)
-                .build();
+            boolean hasClientEventId = message.getClientEventId() != null && !message.getClientEventId().isBlank();
+            MissionEvent event = MissionEvent.builder()
+                    .eventId(hasClientEventId
+                            ? clientScopedEventId(message.getAttemptId(), message.getClientEventId())
+                            : generateEventId())
+                    .attemptId(message.getAttemptId())
+                    .sessionId(message.getSessionId())
+                    .eventType(message.getEventType())
+                    .timestamp(message.getTimestamp() != null ? message.getTimestamp() : LocalDateTime.now())
+                    .data(message.getData() != null ? message.getData() : new HashMap<>())
+                    .receivedAt(toLocalDateTime(received.receivedAt()))
+                    .processingTime(startTime - received.receivedAt())
+                    .build();
+            eventFieldExtractor.apply(event);
 
-        MissionEvent savedEvent = missionEventRepository.save(event);
+            if (!hasClientEventId) {
+                events.add(event);
+                results.add(EventIngestionResult.success(message, event));
+                continue;
+            }
 
-        // 미션 종료 이벤트 처리
-        if (isMissionEndEvent(message.getEventType())) {
-            handleMissionEnd(message.getAttemptId(), message.getEventType(), timestamp);
+            // 최근 커밋된 재전송(윈도우) 또는 같은 배치 안의 재전송은 DB에 보내지 않음
+            if (dedupWindow.contains(event.getAttemptId(), event.getEventId()) || !batchEventIds.add(event.getEventId())) {
+                results.add(EventIngestionResult.duplicate(message, event));
+                continue;
+            }
+            clientEvents.add(event);
+            results.add(EventIngestionResult.success(message, event));
         }
 
-        // 미션 평가 이벤트 처리 (리뷰 저장)
-        if ("mission_rating_submitted".equals(message.getEventType())) {
-            handleMissionRating(message.getAttemptId(), data);
+        missionEventBatchRepository.insertAll(events);
+
+        // 윈도우에서 빠진 재전송은 mission_event_client_keys 등록에서 걸러지고 RETURNING에 포함되지 않음
+        Set<String> insertedClientEventIds = missionEventBatchRepository.insertAllReturningInserted(clientEvents);
+        if (insertedClientEventIds.size() < clientEvents.size()) {
+            for (int i = 0; i < results.size(); i++) {
+                EventIngestionResult result = results.get(i);
+                if (result.isSuccess() && !result.isDuplicate()
+                        && batchEventIds.contains(result.getEvent().getEventId())
+                        && !insertedClientEventIds.contains(result.getEvent().getEventId())) {
+                    results.set(i, EventIngestionResult.duplicate(result.getMessage(), result.getEvent()));
+                    dedupWindow.recordDatabaseDuplicate();
+                }
+            }
+        }
+
+        // 저장 순서대로 미션 종료/평가/포기 후처리 (중복은 제외)
+        Map<String, List<String>> committedClientEventIds = new HashMap<>();
+        Set<String> changedAttemptIds = new HashSet<>();
+        for (EventIngestionResult result : results) {
+            if (!result.isSuccess() || result.isDuplicate()) {
+                continue;
+            }
+            MissionEvent event = result.getEvent();
+            handlePostProcessing(event);
+            changedAttemptIds.add(event.getAttemptId());
+            if (batchEventIds.contains(event.getEventId())) {
+                committedClientEventIds.computeIfAbsent(event.getAttemptId(), key -> new ArrayList<>())
+                        .add(event.getEventId());
+            }
         }
 
-        // 미션 포기 이벤트 처리 (포기 사유 저장)
-        if ("mission_quitted".equals(message.getEventType())) {
-            handleMissionQuit(message.getAttemptId(), data);
+        // 새 이벤트가 저장된 시도의 상세 스냅샷 무효화 (커밋 후)
+        attemptDetailCache.invalidateAfterCommit(changedAttemptIds);
+
+        // 커밋이 확정된 클라이언트 이벤트만 중복 제거 윈도우에 기록
+        if (!committedClientEventIds.isEmpty()) {
+            TransactionCallbacks.afterCommit(() -> committedClientEventIds.forEach(dedupWindow::recordAll));
         }
 
-        log.info("Event processed successfully - eventId: {}, processingTime: {}ms",
-                eventId, savedEvent.getProcessingTime());
+        log.debug("Event batch processed - size: {}, saved: {}, processingTime: {}ms",
+                messages.size(), events.size() + insertedClientEventIds.size(), System.currentTimeMillis() - startTime);
 
-        return savedEvent;
+        return results;
     }
 
     /**
-     * 미션 종료 처리
-     * @param attemptId 미션 시도 ID
-     * @param eventType 이벤트 타입
-     * @param endTime 종료 시간
+     * 저장된 이벤트의 후처리 (미션 종료, 평가, 포기, 단계 통계)
+     * 종료/평가/포기는 이벤트 커밋 후 MissionFinalizer가 비동기로 처리합니다
+     * @param event 저장된 MissionEvent
      */
-    @Transactional
-    public void handleMissionEnd(String attemptId, String eventType, LocalDateTime endTime) {
-        log.info("Handling mission end - attemptId: {}, eventType: {}", attemptId, eventType);
-
-        MissionAttempt missionAttempt = missionService.getMissionAttempt(attemptId);
-
-        // 종료 시간 설정
-        missionAttempt.setEndTime(endTime);
-
-        // totalDuration 계산 (초 단위, 소수점 3자리)
-        Duration duration = Duration.between(missionAttempt.getStartTime(), endTime);
-        BigDecimal totalDuration = BigDecimal.valueOf(duration.toMillis() / 1000.0);
-        missionAttempt.setTotalDuration(totalDuration);
-
-        // 상태 업데이트
-        MissionStatus newStatus = switch (eventType) {
-            case "mission_completed" -> MissionStatus.COMPLETED;
-            case "mission_quitted" -> MissionStatus.QUITTED;
-            default -> MissionStatus.EXPIRED;
-        };
-        missionAttempt.setStatus(newStatus);
-
-        missionAttemptRepository.save(missionAttempt);
+    private void handlePostProcessing(MissionEvent event) {
+        // 미션 종료/평가/포기 이벤트는 커밋 후 시도별로 모아서 처리
+        if (missionFinalizer.isFinalizationEvent(event.getEventType())) {
+            missionFinalizer.submitAfterCommit(event);
+        }
 
-        log.info("Mission ended - attemptId: {}, status: {}, duration: {}s",
-                attemptId, newStatus, totalDuration);
+        // 포트폴리오 단계 이벤트는 단계별 소요 시간 통계에 반영 (커밋 후)
+        if (StepTimeStatistics.STEP_EVENT_TYPE.equals(event.getEventType())) {
+            stepTimeStatistics.recordAfterCommit(event.getStep(), event.getTimeOnStep());
+        }
     }
 
     /**
      * attemptId로 이벤트 목록 조회
+     * data는 Map으로 역직렬화하지 않고 저장된 JSON 텍스트 그대로 반환합니다
      * @param attemptId 미션 시도 ID
-     * @return MissionEvent 목록
+     * @return 이벤트 목록 (시간순)
      */
     @Transactional(readOnly = true)
-    public List<MissionEvent> getEventsByAttemptId(String attemptId) {
+    public List<StoredEvent> getEventsByAttemptId(String attemptId) {
         log.debug("Getting events by attemptId: {}", attemptId);
-        return missionEventRepository.findByAttemptIdOrderByTimestampAsc(attemptId);
+        return missionEventReadRepository.findByAttemptId(attemptId);
     }
 
     /**
@@ -154,131 +233,30 @@ public class EventService {
     }
 
     /**
-     * eventId 생성
-     * @return eventId
+     * epoch millis → LocalDateTime (시스템 시간대)
      */
-    private String generateEventId() {
-        return "event_" + UUID.randomUUID().toString().replace("-", "");
-    }
-
-    /**
-     * 미션 종료 이벤트 여부 확인
-     * @param eventType 이벤트 타입
-     * @return 미션 종료 이벤트 여부
-     */
-    private boolean isMissionEndEvent(String eventType) {
-        return eventType.equals("mission_completed") ||
-               eventType.equals("mission_quitted") ||
-               eventType.equals("mission_expired");
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
     }
 
     /**
-     * 미션 평가 이벤트 처리 (리뷰 저장)
-     * @param attemptId 미션 시도 ID
-     * @param data 이벤트 데이터
+     * eventId 생성 (JMH 벤치마크에서 접근하도록 package-private)
+     * @return eventId
      */
-    @Transactional
-    public void handleMissionRating(String attemptId, Map<String, Object> data) {
-        log.info("🌟 [Review] Handling mission rating - attemptId: {}", attemptId);
-
-        try {
-            // 이미 리뷰가 있는지 확인
-            if (reviewService.hasReview(attemptId)) {
-                log.warn("⚠️ [Review] Review already exists for attemptId: {}", attemptId);
-                return;
-            }
-
-            // 데이터 추출
-            Integer rating = null;
-            if (data.get("rating") instanceof Integer) {
-                rating = (Integer) data.get("rating");
-            } else if (data.get("rating") instanceof Number) {
-                rating = ((Number) data.get("rating")).intValue();
-            }
-
-            String ratingText = (String) data.get("ratingText");
-            String feedback = (String) data.get("feedback");
-            Boolean hasFeedback = (Boolean) data.get("hasFeedback");
-
-            // 필수 필드 검증
-            if (rating == null || ratingText == null) {
-                log.error("❌ [Review] Invalid rating data - attemptId: {}, rating: {}, ratingText: {}",
-                        attemptId, rating, ratingText);
-                return;
-            }
-
-            // Review 엔티티 생성
-            String reviewId = "review_" + UUID.randomUUID().toString().replace("-", "");
-
-            Review review = Review.builder()
-                    .reviewId(reviewId)
-                    .attemptId(attemptId)
-                    .rating(rating)
-                    .ratingText(ratingText)
-                    .feedback(feedback)
-                    .hasFeedback(hasFeedback != null ? hasFeedback : false)
-                    .submittedAt(LocalDateTime.now())
-                    .build();
-
-            // 리뷰 저장
-            Review savedReview = reviewService.saveReviewDirectly(review);
-
-            log.info("✅ [Review] Review saved successfully - reviewId: {}, attemptId: {}, rating: {}",
-                    savedReview.getReviewId(), attemptId, rating);
-
-        } catch (Exception e) {
-            log.error("❌ [Review] Error handling mission rating - attemptId: {}", attemptId, e);
-            // 리뷰 저장 실패해도 이벤트 처리는 계속 진행
-        }
+    String generateEventId() {
+        return "event_" + UUID.randomUUID().toString().replace("-", "");
     }
 
     /**
-     * 미션 포기 이벤트 처리 (포기 사유 저장)
+     * 클라이언트 이벤트 ID로 eventId 생성
+     * 같은 시도의 같은 clientEventId는 항상 같은 eventId가 되므로 재전송이 DB 유니크 제약에 걸립니다
+     * (시도별로 범위를 나눠 다른 시도의 clientEventId와는 충돌하지 않음)
      * @param attemptId 미션 시도 ID
-     * @param data 이벤트 데이터
+     * @param clientEventId 클라이언트가 생성한 이벤트 ID
+     * @return eventId (event_ + 32자리 hex, 서버 생성 ID와 같은 형식)
      */
-    @Transactional
-    public void handleMissionQuit(String attemptId, Map<String, Object> data) {
-        log.info("🚪 [Quit] Handling mission quit - attemptId: {}", attemptId);
-
-        try {
-            // 이미 리뷰가 있는지 확인
-            if (reviewService.hasReview(attemptId)) {
-                log.warn("⚠️ [Quit] Review already exists for attemptId: {}", attemptId);
-                return;
-            }
-
-            // reason 필드 추출
-            String reason = (String) data.get("reason");
-
-            // reason이 없으면 리뷰를 생성하지 않음
-            if (reason == null || reason.trim().isEmpty()) {
-                log.info("ℹ️ [Quit] No quit reason provided for attemptId: {}", attemptId);
-                return;
-            }
-
-            // Review 엔티티 생성 (포기 사유)
-            String reviewId = "review_" + UUID.randomUUID().toString().replace("-", "");
-
-            Review review = Review.builder()
-                    .reviewId(reviewId)
-                    .attemptId(attemptId)
-                    .rating(null)  // 포기한 경우 평점 없음
-                    .ratingText("포기")  // 포기 표시
-                    .feedback(reason)  // 포기 사유를 feedback에 저장
-                    .hasFeedback(true)
-                    .submittedAt(LocalDateTime.now())
-                    .build();
-
-            // 리뷰 저장
-            Review savedReview = reviewService.saveReviewDirectly(review);
-
-            log.info("✅ [Quit] Quit reason saved as review - reviewId: {}, attemptId: {}, reason length: {}",
-                    savedReview.getReviewId(), attemptId, reason.length());
-
-        } catch (Exception e) {
-            log.error("❌ [Quit] Error handling mission quit - attemptId: {}", attemptId, e);
-            // 포기 사유 저장 실패해도 이벤트 처리는 계속 진행
-        }
+    String clientScopedEventId(String attemptId, String clientEventId) {
+        byte[] key = (attemptId + ":" + clientEventId).getBytes(StandardCharsets.UTF_8);
+        return "event_" + UUID.nameUUIDFromBytes(key).toString().replace("-", "");
     }
 }
@@ -1,22 +1,23 @@
 package org.example.greduatebe.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.greduatebe.dto.response.dashboard.*;
 import org.example.greduatebe.entity.MissionStatus;
 import org.example.greduatebe.entity.MissionType;
 import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.example.greduatebe.repository.MissionEventReadRepository;
+import org.example.greduatebe.repository.MissionEventReadRepository.StoredEvent;
 import org.example.greduatebe.repository.MissionEventRepository;
 import org.example.greduatebe.repository.ReviewRepository;
+import org.example.greduatebe.service.EventDataSummarizer.EventDataSummary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -34,40 +35,31 @@ public class MissionAnalysisService {
     private final MissionEventRepository missionEventRepository;
     private final ReviewRepository reviewRepository;
     private final JdbcTemplate jdbcTemplate;
-    private final ObjectMapper objectMapper;
+    private final MissionEventReadRepository missionEventReadRepository;
+    private final EventDataSummarizer eventDataSummarizer;
+    private final StepTimeStatistics stepTimeStatistics;
+    private final DashboardAggregates dashboardAggregates;
 
     /**
      * 대시보드 전체 통계 조회
      * DASHBOARD_GUIDE.md Section 3.2 참고
+     * 스트리밍 집계(DashboardAggregates)에서 조회하므로 테이블 스캔이 없습니다
      *
      * @return 전체 통계 DTO
      */
-    @Transactional(readOnly = true)
+    @Timed(value = "dashboard.query", extraTags = {"query", "overview"}, histogram = true)
     public DashboardOverviewStatsDto getOverviewStats() {
         log.info("Getting dashboard overview stats");
 
-        String sql = """
-            SELECT
-                COUNT(*) as total_attempts,
-                COUNT(CASE WHEN status = 'COMPLETED' THEN 1 END) as completed,
-                COUNT(CASE WHEN status = 'QUITTED' THEN 1 END) as quitted,
-                AVG(CASE WHEN status = 'COMPLETED' THEN total_duration END) as avg_duration,
-                ROUND(COUNT(CASE WHEN status = 'COMPLETED' THEN 1 END)::numeric / NULLIF(COUNT(*), 0) * 100, 2) as completion_rate
-            FROM mission_attempts
-            WHERE status IN ('COMPLETED', 'QUITTED')
-            """;
-
-        Map<String, Object> result = jdbcTemplate.queryForMap(sql);
+        // 완료/포기된 시도 기준
+        long completed = dashboardAggregates.countAttempts(null, MissionStatus.COMPLETED);
+        long quitted = dashboardAggregates.countAttempts(null, MissionStatus.QUITTED);
+        long totalAttempts = completed + quitted;
+        BigDecimal avgDuration = dashboardAggregates.averageDuration(null, MissionStatus.COMPLETED);
+        BigDecimal completionRate = percentage(completed, totalAttempts);
 
-        // 평균 평점 조회
-        String ratingSQL = "SELECT ROUND(AVG(r.rating), 2) as avg_rating FROM reviews r";
-        BigDecimal avgRating = jdbcTemplate.queryForObject(ratingSQL, BigDecimal.class);
-
-        Long totalAttempts = ((Number) result.get("total_attempts")).longValue();
-        Long completed = ((Number) result.get("completed")).longValue();
-        Long quitted = ((Number) result.get("quitted")).longValue();
-        BigDecimal avgDuration = (BigDecimal) result.get("avg_duration");
-        BigDecimal completionRate = (BigDecimal) result.get("completion_rate");
+        // 평균 평점
+        BigDecimal avgRating = dashboardAggregates.averageRating(null);
 
         return DashboardOverviewStatsDto.builder()
                 .totalAttempts(totalAttempts)
@@ -76,7 +68,7 @@ public class MissionAnalysisService {
                 .overallCompletionRate(completionRate != null ? completionRate : BigDecimal.ZERO)
                 .avgCompletionTime(avgDuration != null ? avgDuration : BigDecimal.ZERO)
                 .avgCompletionTimeFormatted(formatDuration(avgDuration))
-                .avgRating(avgRating != null ? avgRating : BigDecimal.ZERO)
+                .avgRating(avgRating != null ? avgRating.setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO)
                 .build();
     }
 
@@ -86,37 +78,33 @@ public class MissionAnalysisService {
      *
      * @return 미션별 완료율 리스트
      */
-    @Transactional(readOnly = true)
+    @Timed(value = "dashboard.query", extraTags = {"query", "completion_rates"}, histogram = true)
     public List<MissionCompletionRateDto> getCompletionRates() {
         log.info("Getting mission completion rates");
 
-        String sql = """
-            SELECT
-                mission_type,
-                COUNT(*) as total_attempts,
-                COUNT(CASE WHEN status = 'COMPLETED' THEN 1 END) as completed,
-                COUNT(CASE WHEN status = 'QUITTED' THEN 1 END) as quitted,
-                ROUND(COUNT(CASE WHEN status = 'COMPLETED' THEN 1 END)::numeric / NULLIF(COUNT(*), 0) * 100, 2) as completion_rate,
-                AVG(total_duration) as avg_duration
-            FROM mission_attempts
-            WHERE status IN ('COMPLETED', 'QUITTED')
-            GROUP BY mission_type
-            """;
+        List<MissionCompletionRateDto> rates = new ArrayList<>();
+        for (MissionType missionType : MissionType.values()) {
+            long completed = dashboardAggregates.countAttempts(missionType, MissionStatus.COMPLETED);
+            long quitted = dashboardAggregates.countAttempts(missionType, MissionStatus.QUITTED);
+            long totalAttempts = completed + quitted;
+            if (totalAttempts == 0) {
+                continue;
+            }
 
-        return jdbcTemplate.query(sql, (rs, rowNum) -> {
-            MissionType missionType = MissionType.valueOf(rs.getString("mission_type"));
-            BigDecimal avgDuration = rs.getBigDecimal("avg_duration");
+            BigDecimal avgDuration = dashboardAggregates.averageDuration(
+                    missionType, MissionStatus.COMPLETED, MissionStatus.QUITTED);
 
-            return MissionCompletionRateDto.builder()
+            rates.add(MissionCompletionRateDto.builder()
                     .missionType(missionType)
-                    .totalAttempts(rs.getLong("total_attempts"))
-                    .completedCount(rs.getLong("completed"))
-                    .quittedCount(rs.getLong("quitted"))
-                    .completionRate(rs.getBigDecimal("completion_rate"))
+                    .totalAttempts(totalAttempts)
+                    .completedCount(completed)
+                    .quittedCount(quitted)
+                    .completionRate(percentage(completed, totalAttempts))
                     .avgDuration(avgDuration)
                     .avgDurationFormatted(formatDuration(avgDuration))
-                    .build();
-        });
+                    .build());
+        }
+        return rates;
     }
 
     /**
@@ -126,6 +114,7 @@ public class MissionAnalysisService {
      * @param limit 조회할 개수
      * @return 최근 미션 시도 리스트
      */
+    @Timed(value = "dashboard.query", extraTags = {"query", "recent_attempts"}, histogram = true)
     @Transactional(readOnly = true)
     public List<RecentAttemptDto> getRecentAttempts(int limit) {
         log.info("Getting recent attempts - limit: {}", limit);
@@ -176,31 +165,28 @@ public class MissionAnalysisService {
      *
      * @return 시간대별 분포 리스트
      */
-    @Transactional(readOnly = true)
+    @Timed(value = "dashboard.query", extraTags = {"query", "hourly_distribution"}, histogram = true)
     public List<HourlyDistributionDto> getHourlyDistribution() {
         log.info("Getting hourly distribution");
 
-        String sql = """
-            SELECT
-                FLOOR(EXTRACT(HOUR FROM start_time) / 3) * 3 as hour_range_start,
-                COUNT(*) as total_attempts,
-                COUNT(CASE WHEN status = 'COMPLETED' THEN 1 END) as completed,
-                ROUND(COUNT(CASE WHEN status = 'COMPLETED' THEN 1 END)::numeric / NULLIF(COUNT(*), 0) * 100, 2) as completion_rate
-            FROM mission_attempts
-            GROUP BY hour_range_start
-            ORDER BY hour_range_start
-            """;
+        List<HourlyDistributionDto> distribution = new ArrayList<>();
+        for (int bucket = 0; bucket < DashboardAggregates.HOUR_BUCKETS; bucket++) {
+            long totalAttempts = dashboardAggregates.hourlyAttempts(bucket);
+            if (totalAttempts == 0) {
+                continue;
+            }
 
-        return jdbcTemplate.query(sql, (rs, rowNum) -> {
-            int hourStart = rs.getInt("hour_range_start");
-            return HourlyDistributionDto.builder()
+            long completed = dashboardAggregates.hourlyCompleted(bucket);
+            int hourStart = bucket * 3;
+            distribution.add(HourlyDistributionDto.builder()
                     .hourRangeStart(hourStart)
                     .hourRange(String.format("%02d:00-%02d:00", hourStart, hourStart + 3))
-                    .totalAttempts(rs.getLong("total_attempts"))
-                    .completedCount(rs.getLong("completed"))
-                    .completionRate(rs.getBigDecimal("completion_rate"))
-                    .build();
-        });
+                    .totalAttempts(totalAttempts)
+                    .completedCount(completed)
+                    .completionRate(percentage(completed, totalAttempts))
+                    .build());
+        }
+        return distribution;
     }
 
     /**
@@ -210,6 +196,7 @@ public class MissionAnalysisService {
      * @param attemptId Attempt ID
      * @return 미션 시도 상세 DTO
      */
+    @Timed(value = "dashboard.query", extraTags = {"query", "attempt_detail"}, histogram = true)
     @Transactional(readOnly = true)
     public AttemptDetailDto getAttemptDetail(String attemptId) {
         log.info("Getting attempt detail - attemptId: {}", attemptId);
@@ -276,82 +263,36 @@ public class MissionAnalysisService {
      * DASHBOARD_GUIDE.md Section 2.1 참고
      */
     private List<AttemptDetailDto.TimelineEventDto> getTimelineEvents(String attemptId) {
-        String sql = """
-            SELECT
-                event_type,
-                timestamp,
-                data,
-                LAG(timestamp) OVER (ORDER BY timestamp) as prev_timestamp
-            FROM mission_events
-            WHERE attempt_id = ?
-            ORDER BY timestamp ASC
-            """;
-
-        return jdbcTemplate.query(sql, (rs, rowNum) -> {
-            String eventType = rs.getString("event_type");
-            LocalDateTime timestamp = rs.getTimestamp("timestamp").toLocalDateTime();
-            Timestamp prevTs = rs.getTimestamp("prev_timestamp");
-            String dataJson = rs.getString("data");
+        List<StoredEvent> events = missionEventReadRepository.findByAttemptId(attemptId);
+        List<AttemptDetailDto.TimelineEventDto> timeline = new ArrayList<>(events.size());
 
-            // JSON 파싱
-            Map<String, Object> data = parseJsonData(dataJson);
-
-            // 시간 차이 계산
+        LocalDateTime prevTimestamp = null;
+        for (StoredEvent event : events) {
+            // 이전 이벤트와의 시간 차이 (초)
             BigDecimal timeDiff = null;
-            if (prevTs != null) {
-                LocalDateTime prevTimestamp = prevTs.toLocalDateTime();
-                long diffSeconds = java.time.Duration.between(prevTimestamp, timestamp).getSeconds();
+            if (prevTimestamp != null) {
+                long diffSeconds = java.time.Duration.between(prevTimestamp, event.timestamp()).getSeconds();
                 timeDiff = BigDecimal.valueOf(diffSeconds);
             }
+            prevTimestamp = event.timestamp();
 
-            // 페이지 경로 추출
-            String page = data != null ? (String) data.get("page") : null;
-
-            // 데이터 미리보기 생성
-            String dataPreview = createDataPreview(data);
-
-            // 미션 관련 필드 추출 (page_view 이벤트의 경우)
-            Boolean isMissionRelevant = null;
-            Long duration = null;
-            Integer scrollDepth = null;
-            String referrer = null;
-
-            if (data != null) {
-                // isMissionRelevant 추출
-                Object isMissionRelevantObj = data.get("isMissionRelevant");
-                if (isMissionRelevantObj instanceof Boolean) {
-                    isMissionRelevant = (Boolean) isMissionRelevantObj;
-                }
-
-                // duration 추출 (밀리초)
-                Object durationObj = data.get("duration");
-                if (durationObj instanceof Number) {
-                    duration = ((Number) durationObj).longValue();
-                }
-
-                // scrollDepth 추출 (%)
-                Object scrollDepthObj = data.get("scrollDepth");
-                if (scrollDepthObj instanceof Number) {
-                    scrollDepth = ((Number) scrollDepthObj).intValue();
-                }
-
-                // referrer 추출
-                referrer = (String) data.get("referrer");
-            }
+            // data를 한 번만 훑어 필요한 필드와 미리보기 추출 (Map으로 역직렬화하지 않음)
+            EventDataSummary summary = eventDataSummarizer.summarize(event.eventId(), event.data());
 
-            return AttemptDetailDto.TimelineEventDto.builder()
-                    .eventType(eventType)
-                    .timestamp(timestamp)
-                    .page(page)
+            timeline.add(AttemptDetailDto.TimelineEventDto.builder()
+                    .eventType(event.eventType())
+                    .timestamp(event.timestamp())
+                    .page(summary.page())
                     .timeDiff(timeDiff)
-                    .dataPreview(dataPreview)
-                    .data(data)
-                    .isMissionRelevant(isMissionRelevant)
-                    .duration(duration)
-                    .scrollDepth(scrollDepth)
-                    .referrer(referrer)
-                    .build();
-        }, attemptId);
+                    .dataPreview(summary.preview())
+                    .data(event.data())
+                    .isMissionRelevant(summary.isMissionRelevant())
+                    .duration(summary.duration())
+                    .scrollDepth(summary.scrollDepth())
+                    .referrer(summary.referrer())
+                    .build());
+        }
+        return timeline;
     }
 
     /**
@@ -361,26 +302,27 @@ public class MissionAnalysisService {
     private List<StepDetailDto> getPortfolioStepDetails(String attemptId) {
         String sql = """
             SELECT
-                data->>'step' as step,
+                step,
                 data->>'stepName' as step_name,
                 data->>'selectedLabel' as selected_label,
-                data->>'timeOnStep' as time_on_step,
+                time_on_step,
                 data->>'adjustmentCount' as adjustment_count,
                 data->>'nameLength' as name_length,
-                data->>'finalPercentage' as final_percentage,
-                data
+                data->>'finalPercentage' as final_percentage
             FROM mission_events
             WHERE attempt_id = ?
               AND event_type = 'portfolio_creation_step'
-            ORDER BY (data->>'step')::int
+              AND step IS NOT NULL
+              AND time_on_step IS NOT NULL
+            ORDER BY step
             """;
 
         return jdbcTemplate.query(sql, (rs, rowNum) -> {
-            int step = Integer.parseInt(rs.getString("step"));
-            BigDecimal timeOnStep = new BigDecimal(rs.getString("time_on_step"));
+            int step = rs.getInt("step");
+            BigDecimal timeOnStep = rs.getBigDecimal("time_on_step");
 
-            // 평균 시간 대비 느린지 판단 (평균의 2배 초과)
-            boolean isSlow = isStepSlow(step, timeOnStep);
+            // 단계별 기준 대비 느린지 판단 (메모리 통계 사용, 집계 쿼리 없음)
+            boolean isSlow = stepTimeStatistics.isSlow(step, timeOnStep);
 
             // 단계별 추가 정보
             String additionalInfo = buildAdditionalInfo(step, rs);
@@ -396,25 +338,6 @@ public class MissionAnalysisService {
         }, attemptId);
     }
 
-    /**
-     * 단계가 평균 대비 느린지 판단
-     */
-    private boolean isStepSlow(int step, BigDecimal timeOnStep) {
-        String sql = """
-            SELECT AVG((data->>'timeOnStep')::numeric) as avg_time
-            FROM mission_events
-            WHERE event_type = 'portfolio_creation_step'
-              AND data->>'step' = ?
-            """;
-
-        BigDecimal avgTime = jdbcTemplate.queryForObject(sql, BigDecimal.class, String.valueOf(step));
-        if (avgTime == null) {
-            return false;
-        }
-
-        return timeOnStep.compareTo(avgTime.multiply(BigDecimal.valueOf(2))) > 0;
-    }
-
     /**
      * 단계별 추가 정보 생성
      */
@@ -436,45 +359,6 @@ public class MissionAnalysisService {
         };
     }
 
-    /**
-     * JSON 데이터 파싱
-     */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> parseJsonData(String jsonData) {
-        if (jsonData == null) {
-            return null;
-        }
-        try {
-            return objectMapper.readValue(jsonData, Map.class);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON data: {}", jsonData, e);
-            return null;
-        }
-    }
-
-    /**
-     * 데이터 미리보기 생성
-     */
-    private String createDataPreview(Map<String, Object> data) {
-        if (data == null || data.isEmpty()) {
-            return null;
-        }
-
-        List<String> preview = new ArrayList<>();
-        data.forEach((key, value) -> {
-            if (!"page".equals(key) && value != null) {
-                preview.add(key + ": " + value);
-            }
-        });
-
-        if (preview.isEmpty()) {
-            return null;
-        }
-
-        String result = String.join(", ", preview);
-        return result.length() > 100 ? result.substring(0, 100) + "..." : result;
-    }
-
     /**
      * Duration을 포맷된 문자열로 변환 (예: "6분 45초", "18초")
      */
@@ -504,6 +388,7 @@ public class MissionAnalysisService {
      * @param limit 조회할 개수
      * @return 최근 후기 리스트
      */
+    @Timed(value = "dashboard.query", extraTags = {"query", "recent_reviews"}, histogram = true)
     @Transactional(readOnly = true)
     public List<ReviewSummaryDto> getRecentReviews(int limit) {
         log.info("Getting recent reviews - limit: {}", limit);
@@ -554,6 +439,7 @@ public class MissionAnalysisService {
      * @param hasFeedbackFilter 후기 유무 필터 (null이면 전체)
      * @return 후기 리스트
      */
+    @Timed(value = "dashboard.query", extraTags = {"query", "all_reviews"}, histogram = true)
     @Transactional(readOnly = true)
     public List<ReviewSummaryDto> getAllReviews(String ratingFilter, String missionTypeFilter, Boolean hasFeedbackFilter) {
         log.info("Getting all reviews - ratingFilter: {}, missionTypeFilter: {}, hasFeedbackFilter: {}",
@@ -622,34 +508,33 @@ public class MissionAnalysisService {
      *
      * @return 후기 통계 DTO
      */
-    @Transactional(readOnly = true)
+    @Timed(value = "dashboard.query", extraTags = {"query", "review_statistics"}, histogram = true)
     public ReviewStatisticsDto getReviewStatistics() {
         log.info("Getting review statistics");
 
-        String sql = """
-            SELECT
-                COUNT(*) as total_reviews,
-                COUNT(CASE WHEN rating = 5 THEN 1 END) as rating_5,
-                COUNT(CASE WHEN rating = 4 THEN 1 END) as rating_4,
-                COUNT(CASE WHEN rating = 3 THEN 1 END) as rating_3,
-                COUNT(CASE WHEN rating = 2 THEN 1 END) as rating_2,
-                COUNT(CASE WHEN rating = 1 THEN 1 END) as rating_1,
-                COUNT(CASE WHEN has_feedback = true THEN 1 END) as with_feedback,
-                ROUND(AVG(rating), 2) as avg_rating
-            FROM reviews
-            """;
+        BigDecimal avgRating = dashboardAggregates.averageRating(null);
+
+        return ReviewStatisticsDto.builder()
+                .totalReviews(dashboardAggregates.countReviews(null))
+                .rating5Count(dashboardAggregates.countRating(5))
+                .rating4Count(dashboardAggregates.countRating(4))
+                .rating3Count(dashboardAggregates.countRating(3))
+                .rating2Count(dashboardAggregates.countRating(2))
+                .rating1Count(dashboardAggregates.countRating(1))
+                .withFeedbackCount(dashboardAggregates.countReviewsWithFeedback())
+                .avgRating(avgRating != null ? avgRating.setScale(2, RoundingMode.HALF_UP) : null)
+                .build();
+    }
 
-        return jdbcTemplate.queryForObject(sql, (rs, rowNum) ->
-                ReviewStatisticsDto.builder()
-                        .totalReviews(rs.getLong("total_reviews"))
-                        .rating5Count(rs.getLong("rating_5"))
-                        .rating4Count(rs.getLong("rating_4"))
-                        .rating3Count(rs.getLong("rating_3"))
-                        .rating2Count(rs.getLong("rating_2"))
-                        .rating1Count(rs.getLong("rating_1"))
-                        .withFeedbackCount(rs.getLong("with_feedback"))
-                        .avgRating(rs.getBigDecimal("avg_rating"))
-                        .build()
-        );
+    /**
+     * 백분율 계산 (소수점 2자리, 분모가 0이면 null)
+     */
+    private BigDecimal percentage(long count, long total) {
+        if (total == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(count)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
     }
 }
@@ -0,0 +1,254 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.entity.MissionAttempt;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.MissionType;
+import org.example.greduatebe.exception.MissionNotFoundException;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 진행 중인 미션 시도 레지스트리
+ * 이벤트마다 mission_attempts를 조회하지 않도록 진행 중인 시도의 최소 정보를 메모리에 보관합니다.
+ * - startMission 커밋 후 등록, 미션 종료 이벤트 또는 시작 시간부터 mission.expires-in 경과 시 제거
+ * - 레지스트리에 없으면 Repository로 fallback (진행 중인 시도만 다시 캐싱), 배치는 없는 것만 모아 IN 쿼리 한 번으로 조회
+ * - max-size를 넘으면 만료 항목을 먼저 정리하고, 그래도 가득 차 있으면 시작 시간이 가장 오래된 항목부터
+ *   max-size의 1%씩 제거 (만료가 가장 가까운 시도부터 빠지며, 정렬 비용을 여러 등록에 나눔)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MissionAttemptRegistry {
+
+    private final MissionAttemptRepository missionAttemptRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mission.expires-in:3600000}")
+    private long missionExpiresIn;
+
+    @Value("${mission.attempt-registry.max-size:100000}")
+    private int maxSize;
+
+    private final ConcurrentHashMap<String, AttemptInfo> attempts = new ConcurrentHashMap<>();
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter endedEvictionCounter;
+    private Counter expiredEvictionCounter;
+    private Counter capacityEvictionCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("mission.attempt.registry.size", attempts, ConcurrentHashMap::size)
+                .description("Number of live mission attempts held in memory")
+                .register(meterRegistry);
+
+        hitCounter = lookupCounter("hit");
+        missCounter = lookupCounter("miss");
+        endedEvictionCounter = evictionCounter("ended");
+        expiredEvictionCounter = evictionCounter("expired");
+        capacityEvictionCounter = evictionCounter("capacity");
+    }
+
+    /**
+     * 새로 시작된 미션 시도 등록
+     * @param missionAttempt 저장된 MissionAttempt
+     */
+    public void register(MissionAttempt missionAttempt) {
+        if (attempts.size() >= maxSize) {
+            evictExpired();
+            evictForCapacity();
+        }
+        attempts.put(missionAttempt.getAttemptId(), AttemptInfo.from(missionAttempt));
+    }
+
+    /**
+     * 미션 시도 조회 (레지스트리 → Repository fallback)
+     * @param attemptId 미션 시도 ID
+     * @return AttemptInfo (존재하지 않으면 empty)
+     */
+    public Optional<AttemptInfo> find(String attemptId) {
+        AttemptInfo cached = attempts.get(attemptId);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        missCounter.increment();
+        Optional<AttemptInfo> loaded = missionAttemptRepository.findByAttemptId(attemptId)
+                .map(AttemptInfo::from);
+
+        loaded.ifPresent(info -> cacheIfLive(info, System.currentTimeMillis()));
+        return loaded;
+    }
+
+    /**
+     * 여러 미션 시도 조회 (레지스트리에 없는 것만 모아 한 번의 IN 쿼리로 fallback)
+     * @param attemptIds 미션 시도 ID 목록
+     * @return attemptId → AttemptInfo (존재하지 않는 시도는 포함되지 않음)
+     */
+    public Map<String, AttemptInfo> findAll(Collection<String> attemptIds) {
+        Map<String, AttemptInfo> found = new HashMap<>();
+        Set<String> misses = new HashSet<>();
+        for (String attemptId : attemptIds) {
+            AttemptInfo cached = attempts.get(attemptId);
+            if (cached != null) {
+                found.put(attemptId, cached);
+            } else {
+                misses.add(attemptId);
+            }
+        }
+        hitCounter.increment(found.size());
+        if (misses.isEmpty()) {
+            return found;
+        }
+
+        missCounter.increment(misses.size());
+        long now = System.currentTimeMillis();
+        for (MissionAttempt missionAttempt : missionAttemptRepository.findByAttemptIdIn(misses)) {
+            AttemptInfo info = AttemptInfo.from(missionAttempt);
+            found.put(info.attemptId(), info);
+            cacheIfLive(info, now);
+        }
+        return found;
+    }
+
+    /**
+     * 미션 시도 조회 (없으면 예외)
+     * @param attemptId 미션 시도 ID
+     * @return AttemptInfo
+     */
+    public AttemptInfo get(String attemptId) {
+        return find(attemptId)
+                .orElseThrow(() -> new MissionNotFoundException("Mission attempt not found: " + attemptId));
+    }
+
+    /**
+     * 종료된 미션 시도 제거
+     * @param attemptId 미션 시도 ID
+     */
+    public void evict(String attemptId) {
+        if (attempts.remove(attemptId) != null) {
+            endedEvictionCounter.increment();
+        }
+    }
+
+    /**
+     * mission.expires-in이 지난 시도 정리
+     */
+    @Scheduled(fixedDelayString = "${mission.attempt-registry.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int before = attempts.size();
+
+        attempts.values().removeIf(info -> {
+            boolean expired = isExpired(info, now);
+            if (expired) {
+                expiredEvictionCounter.increment();
+            }
+            return expired;
+        });
+
+        int evicted = before - attempts.size();
+        if (evicted > 0) {
+            log.debug("Evicted expired attempts from registry - count: {}, remaining: {}", evicted, attempts.size());
+        }
+    }
+
+    /**
+     * 현재 레지스트리 크기
+     */
+    public int size() {
+        return attempts.size();
+    }
+
+    /**
+     * 진행 중인 시도만 다시 캐싱 (종료된 시도는 뒤따르는 평가 이벤트 정도만 받으므로 캐싱하지 않음)
+     */
+    private void cacheIfLive(AttemptInfo info, long now) {
+        if (info.status() != MissionStatus.IN_PROGRESS || isExpired(info, now)) {
+            return;
+        }
+        if (attempts.size() >= maxSize) {
+            evictForCapacity();
+        }
+        attempts.putIfAbsent(info.attemptId(), info);
+    }
+
+    /**
+     * 시작 시간이 가장 오래된 항목부터 max-size의 1%(최소 1개)를 제거
+     */
+    private void evictForCapacity() {
+        int target = maxSize - Math.max(1, maxSize / 100);
+        int excess = attempts.size() - target;
+        if (excess <= 0) {
+            return;
+        }
+        List<AttemptInfo> oldest = attempts.values().stream()
+                .sorted(Comparator.comparing(AttemptInfo::startTime))
+                .limit(excess)
+                .toList();
+        for (AttemptInfo info : oldest) {
+            if (attempts.remove(info.attemptId(), info)) {
+                capacityEvictionCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * 시작 시간 기준 만료 여부 (다시 캐싱된 항목도 원래 기한에 만료되도록 등록 시각이 아닌 시작 시간 사용)
+     */
+    private boolean isExpired(AttemptInfo info, long now) {
+        return now - info.startTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() > missionExpiresIn;
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("mission.attempt.registry.lookups")
+                .description("Attempt registry lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter evictionCounter(String reason) {
+        return Counter.builder("mission.attempt.registry.evictions")
+                .description("Attempt registry evictions by reason")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 처리에 필요한 미션 시도 요약 정보
+     * @param attemptId 미션 시도 ID
+     * @param missionType 미션 타입
+     * @param startTime 시작 시간
+     * @param status 조회 시점의 상태
+     */
+    public record AttemptInfo(String attemptId, MissionType missionType, LocalDateTime startTime,
+                              MissionStatus status) {
+
+        static AttemptInfo from(MissionAttempt missionAttempt) {
+            return new AttemptInfo(missionAttempt.getAttemptId(), missionAttempt.getMissionType(),
+                    missionAttempt.getStartTime(), missionAttempt.getStatus());
+        }
+    }
+}
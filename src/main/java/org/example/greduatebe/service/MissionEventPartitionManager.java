@@ -0,0 +1,140 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.repository.MissionEventPartitionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * mission_events 파티션 관리 Service
+ * 주기적으로 다음을 수행합니다 (여러 인스턴스 중 advisory lock을 잡은 하나만 실행)
+ * 1. 오늘부터 premake-days일 뒤까지의 일 단위 파티션을 미리 생성하고,
+ *    DEFAULT 파티션에 들어온 범위 밖 이벤트의 날짜도 파티션으로 만들어 옮김 (rollup/보존 기간 정리 대상이 되도록)
+ * 2. 지난 날짜 중 rollup이 없는 날과 어제를 mission_event_daily_rollups에 집계
+ * 3. retention-days가 설정되어 있으면 보관 기간이 지난 파티션을 rollup을 다시 쓴 뒤 DROP (같은 트랜잭션)하고,
+ *    같은 기간이 지난 클라이언트 이벤트 ID 중복 제거 키도 삭제
+ * mission_events가 아직 파티션 테이블이 아니면(기존 단일 테이블) 경고만 남기고 아무 것도 하지 않습니다
+ */
+@Service
+@ConditionalOnProperty(name = "mission.events.partition.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class MissionEventPartitionManager {
+
+    /** pg_try_advisory_xact_lock 키 (파티션 관리 전용) */
+    private static final long ADVISORY_LOCK_KEY = 0x6d697373696f6e01L;
+
+    private final MissionEventPartitionRepository partitionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mission.events.partition.premake-days:7}")
+    private int premakeDays;
+
+    @Value("${mission.events.partition.retention-days:0}")
+    private int retentionDays;
+
+    private TransactionTemplate transactionTemplate;
+    private final AtomicInteger partitionCount = new AtomicInteger();
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("mission.events.partitions", partitionCount, AtomicInteger::get)
+                .description("Number of daily mission_events partitions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시작 직후와 maintenance-interval-ms마다 파티션 관리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${mission.events.partition.maintenance-interval-ms:3600000}",
+            fixedDelayString = "${mission.events.partition.maintenance-interval-ms:3600000}")
+    public void maintain() {
+        try {
+            if (!partitionRepository.isPartitioned()) {
+                log.warn("⚠️ [Partition] mission_events is not partitioned, skipping partition maintenance");
+                return;
+            }
+
+            Boolean ran = transactionTemplate.execute(status -> {
+                Boolean locked = jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    return false;
+                }
+                maintainLocked(LocalDate.now());
+                return true;
+            });
+
+            if (!Boolean.TRUE.equals(ran)) {
+                log.debug("Partition maintenance is running on another instance, skipping");
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ [Partition] Partition maintenance failed", e);
+        }
+    }
+
+    private void maintainLocked(LocalDate today) {
+        Set<LocalDate> partitions = new TreeSet<>(partitionRepository.findPartitionDays());
+
+        // 1. 파티션 미리 생성 + DEFAULT 파티션에 쌓인 날짜를 파티션으로 분리
+        Set<LocalDate> days = new TreeSet<>(partitionRepository.findDefaultPartitionDays());
+        for (int i = 0; i <= premakeDays; i++) {
+            days.add(today.plusDays(i));
+        }
+        for (LocalDate day : days) {
+            if (partitions.add(day)) {
+                int moved = partitionRepository.createDailyPartition(day);
+                log.info("✅ [Partition] Created partition - day: {}, movedFromDefault: {}", day, moved);
+            }
+        }
+
+        // 2. 지난 날짜 rollup (rollup이 없는 날 + 늦게 도착한 이벤트를 반영하기 위해 어제는 매번)
+        LocalDate yesterday = today.minusDays(1);
+        LocalDate oldest = partitions.isEmpty() ? today : partitions.iterator().next();
+        Set<LocalDate> rolledUp = partitionRepository.findRolledUpDays(oldest);
+        for (LocalDate day : partitions) {
+            if (day.isBefore(today) && (day.equals(yesterday) || !rolledUp.contains(day))) {
+                partitionRepository.rollupDay(day);
+            }
+        }
+
+        // 3. 보관 기간이 지난 파티션 삭제 (삭제 직전에 rollup을 다시 기록)
+        if (retentionDays > 0) {
+            LocalDate cutoff = today.minusDays(retentionDays);
+            for (LocalDate day : Set.copyOf(partitions)) {
+                if (day.isBefore(cutoff)) {
+                    int rows = partitionRepository.rollupDay(day);
+                    partitionRepository.dropDailyPartition(day);
+                    partitions.remove(day);
+                    log.info("✅ [Partition] Dropped partition after rollup - day: {}, rollupRows: {}", day, rows);
+                }
+            }
+            int keys = partitionRepository.deleteClientEventKeysBefore(cutoff);
+            if (keys > 0) {
+                log.info("✅ [Partition] Deleted expired client event keys - before: {}, count: {}", cutoff, keys);
+            }
+        }
+
+        partitionCount.set(partitions.size());
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.repository.MissionExpiryRepository;
+import org.example.greduatebe.repository.MissionExpiryRepository.ExpiredAttempt;
+import org.example.greduatebe.repository.MissionExpiryRepository.LiveAttempt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미션 만료 sweeper
+ * 진행 중인 시도를 만료 기한(start_time + mission.expires-in) 순서의 DelayQueue에 넣어 두고,
+ * 몇 초마다 기한이 지난 시도만 꺼내 한 번의 UPDATE ... WHERE attempt_id = ANY(?)로 EXPIRED 처리합니다.
+ * - 정상 종료된 시도는 큐에 남아 있어도 UPDATE의 status 조건에 걸리지 않으므로 따로 제거하지 않습니다
+ * - 종료 이벤트가 저장되었지만 후처리가 아직 끝나지 않은 시도도 만료시키지 않습니다
+ * - 시작 시와 catch-up 주기마다 partial index로 기한이 지난 진행 중 시도를 직접 찾아 처리합니다
+ *   (재시작 중에 기한이 지났거나 다른 인스턴스가 시작한 시도 보정)
+ * - 만료된 시도는 레지스트리에서 제거하고 대시보드 집계에 반영합니다
+ * - UPDATE가 실패한 묶음은 retry-backoff-ms부터 두 배씩 늘어나는 대기 후 다시 처리합니다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MissionExpirySweeper {
+
+    private final MissionExpiryRepository missionExpiryRepository;
+    private final MissionAttemptRegistry attemptRegistry;
+    private final DashboardAggregates dashboardAggregates;
+    private final AttemptDetailCache attemptDetailCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mission.expires-in:3600000}")
+    private long missionExpiresIn;
+
+    @Value("${mission.expiry.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${mission.expiry.retry-backoff-ms:5000}")
+    private long retryBackoffMs;
+
+    private final DelayQueue<Expiry> queue = new DelayQueue<>();
+
+    private Counter queueExpiredCounter;
+    private Counter catchUpExpiredCounter;
+    private Timer sweepTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("mission.expiry.tracked", queue, DelayQueue::size)
+                .description("Attempts waiting in the expiry queue")
+                .register(meterRegistry);
+        queueExpiredCounter = expiredCounter("queue");
+        catchUpExpiredCounter = expiredCounter("catch-up");
+        sweepTimer = Timer.builder("mission.expiry.sweep")
+                .description("Time to run one expiry sweep tick")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새로 시작된 시도를 만료 큐에 등록
+     * @param attemptId 미션 시도 ID
+     * @param startTime 시작 시간
+     */
+    public void track(String attemptId, LocalDateTime startTime) {
+        queue.add(new Expiry(attemptId, deadlineOf(startTime), 0));
+    }
+
+    /**
+     * 시작 시 기한이 지난 시도를 정리하고, 남은 진행 중 시도를 큐에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        catchUp();
+
+        List<LiveAttempt> live = missionExpiryRepository.findInProgress();
+        for (LiveAttempt attempt : live) {
+            track(attempt.attemptId(), attempt.startTime());
+        }
+        log.info("✅ [Expiry] Loaded in-progress attempts into expiry queue - count: {}", live.size());
+    }
+
+    /**
+     * 기한이 지난 시도 만료 처리 (sweep-interval-ms마다)
+     */
+    @Scheduled(fixedDelayString = "${mission.expiry.sweep-interval-ms:5000}")
+    public void sweep() {
+        sweepTimer.record(() -> {
+            List<Expiry> due = new ArrayList<>(batchSize);
+            // drainTo는 기한이 지난 항목만 꺼냅니다
+            while (queue.drainTo(due, batchSize) > 0) {
+                List<String> attemptIds = due.stream().map(Expiry::attemptId).toList();
+                try {
+                    onExpired(missionExpiryRepository.expireAll(attemptIds, LocalDateTime.now()), queueExpiredCounter);
+                } catch (RuntimeException e) {
+                    requeue(due, e);
+                    return;
+                } finally {
+                    due.clear();
+                }
+            }
+        });
+    }
+
+    /**
+     * 큐를 거치지 않고 DB에서 기한이 지난 진행 중 시도를 직접 만료 처리
+     */
+    @Scheduled(initialDelayString = "${mission.expiry.catch-up-interval-ms:300000}",
+            fixedDelayString = "${mission.expiry.catch-up-interval-ms:300000}")
+    public void catchUp() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime startedBefore = now.minus(Duration.ofMillis(missionExpiresIn));
+            int total = 0;
+            List<ExpiredAttempt> expired;
+            do {
+                expired = missionExpiryRepository.expireOverdue(startedBefore, now, batchSize);
+                onExpired(expired, catchUpExpiredCounter);
+                total += expired.size();
+            } while (expired.size() == batchSize);
+
+            if (total > 0) {
+                log.info("✅ [Expiry] Catch-up expired overdue attempts - count: {}", total);
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ [Expiry] Catch-up sweep failed", e);
+        }
+    }
+
+    /**
+     * 실패한 묶음을 지수 backoff 후 다시 처리하도록 큐에 되돌림
+     */
+    private void requeue(List<Expiry> failed, RuntimeException e) {
+        long now = System.currentTimeMillis();
+        int maxRetries = 0;
+        for (Expiry expiry : failed) {
+            int retries = expiry.retries() + 1;
+            queue.add(new Expiry(expiry.attemptId(), now + (retryBackoffMs << Math.min(retries - 1, 6)), retries));
+            maxRetries = Math.max(maxRetries, retries);
+        }
+        log.error("❌ [Expiry] Failed to expire attempts, requeued with backoff - count: {}, retry: {}",
+                failed.size(), maxRetries, e);
+    }
+
+    private void onExpired(List<ExpiredAttempt> expired, Counter counter) {
+        for (ExpiredAttempt attempt : expired) {
+            attemptRegistry.evict(attempt.attemptId());
+            attemptDetailCache.invalidate(attempt.attemptId());
+            dashboardAggregates.onAttemptEnded(attempt.missionType(), attempt.startTime(),
+                    MissionStatus.IN_PROGRESS, MissionStatus.EXPIRED, attempt.totalDuration());
+        }
+        counter.increment(expired.size());
+        if (!expired.isEmpty()) {
+            log.debug("Expired mission attempts - count: {}", expired.size());
+        }
+    }
+
+    private long deadlineOf(LocalDateTime startTime) {
+        return startTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + missionExpiresIn;
+    }
+
+    private Counter expiredCounter(String source) {
+        return Counter.builder("mission.expiry.expired")
+                .description("Mission attempts expired by the sweeper, by how they were found")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료 큐 항목 (epoch millis 기한, 만료 처리 실패로 다시 넣은 횟수)
+     */
+    private record Expiry(String attemptId, long deadlineMillis, int retries) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineMillis, ((Expiry) other).deadlineMillis);
+        }
+    }
+}
@@ -0,0 +1,454 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.Review;
+import org.example.greduatebe.exception.InvalidEventException;
+import org.example.greduatebe.exception.MissionNotFoundException;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.example.greduatebe.repository.MissionEventRepository;
+import org.example.greduatebe.service.MissionAttemptRegistry.AttemptInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미션 종료 후처리(write-behind) Service
+ * 종료/평가/포기 이벤트가 커밋된 뒤 시도별로 작업을 모아(coalesce) 별도 스레드에서 처리합니다.
+ * - 이벤트 저장 트랜잭션과 분리되어 ACK는 이벤트가 저장되는 즉시 전송됩니다
+ * - 같은 시도의 작업은 종료 → 평가 → 포기 순서로 한 번에 처리하고, 단계별로 개별 트랜잭션을 사용합니다
+ * - 실패한 단계만 지수 backoff(max-backoff-ms 상한)로 재시도합니다. max-retries를 넘으면 ERROR로 기록하지만
+ *   버리지 않고 계속 재시도합니다 (종료 이벤트가 저장된 시도는 만료되지 않으므로 버리면 재시작 전까지 IN_PROGRESS로 남음)
+ * - 대기 중인 작업은 메모리에만 있으므로, 시작 시 후처리가 끝나지 않은 종료/평가/포기 이벤트를 DB에서 찾아 다시 예약합니다
+ *   (종료 이벤트가 저장된 시도는 MissionExpirySweeper가 만료시키지 않으므로 복구 전에 EXPIRED가 되지 않음)
+ * - 종료 상태는 IN_PROGRESS인 시도에만 반영하므로 중복/늦은 종료 이벤트가 기존 종료 상태를 덮어쓰지 않습니다
+ * - 모든 작업은 단일 스레드에서 실행되므로 같은 시도의 작업이 동시에 실행되지 않습니다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MissionFinalizer {
+
+    private final MissionAttemptRepository missionAttemptRepository;
+    private final MissionEventRepository missionEventRepository;
+    private final MissionAttemptRegistry attemptRegistry;
+    private final ReviewService reviewService;
+    private final DashboardAggregates dashboardAggregates;
+    private final AttemptDetailCache attemptDetailCache;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mission.finalizer.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${mission.finalizer.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    @Value("${mission.finalizer.max-backoff-ms:60000}")
+    private long maxBackoffMs;
+
+    @Value("${mission.finalizer.recovery-window-ms:86400000}")
+    private long recoveryWindowMs;
+
+    private final ConcurrentHashMap<String, Finalization> pending = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+    private TransactionTemplate transactionTemplate;
+
+    private Counter successCounter;
+    private Counter retryCounter;
+    private Counter droppedCounter;
+    private Counter exhaustedCounter;
+    private Timer lagTimer;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mission-finalizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("mission.finalizer.pending", pending, ConcurrentHashMap::size)
+                .description("Attempts waiting for end-of-mission finalization")
+                .register(meterRegistry);
+        successCounter = runCounter("success");
+        retryCounter = runCounter("retry");
+        droppedCounter = runCounter("dropped");
+        exhaustedCounter = runCounter("retries_exhausted");
+        lagTimer = Timer.builder("mission.finalizer.lag")
+                .description("Time from the first finalization request of an attempt until it is fully processed")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS) || !pending.isEmpty()) {
+            log.warn("⚠️ [Finalizer] Stopped with unfinished finalizations - pending: {}", pending.size());
+        }
+    }
+
+    /**
+     * 시작 시 후처리가 끝나지 않은 이벤트 복구
+     * 종료 이벤트가 저장되었지만 시도가 아직 IN_PROGRESS인 경우와, recovery-window-ms 안의 평가/포기 이벤트 중
+     * 리뷰가 없는 경우를 다시 예약합니다 (이미 처리된 단계는 조건부 UPDATE/리뷰 존재 확인으로 건너뜀)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            List<MissionEvent> events = missionEventRepository.findUnfinalizedEvents(
+                    LocalDateTime.now().minus(Duration.ofMillis(recoveryWindowMs)));
+            events.forEach(this::submit);
+            if (!events.isEmpty()) {
+                log.info("✅ [Finalizer] Recovered unfinished finalizations - events: {}, attempts: {}",
+                        events.size(), pending.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ [Finalizer] Failed to recover unfinished finalizations", e);
+        }
+    }
+
+    /**
+     * 종료/평가/포기 이벤트인지 확인
+     * @param eventType 이벤트 타입
+     * @return 후처리 대상이면 true
+     */
+    public boolean isFinalizationEvent(String eventType) {
+        return isMissionEndEvent(eventType)
+                || "mission_rating_submitted".equals(eventType);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 후처리 예약
+     * 같은 시도에 대해 아직 처리되지 않은 작업이 있으면 합칩니다
+     * @param event 저장된 MissionEvent
+     */
+    public void submitAfterCommit(MissionEvent event) {
+        TransactionCallbacks.afterCommit(() -> submit(event));
+    }
+
+    /**
+     * 후처리 예약
+     * @param event 저장된 MissionEvent
+     */
+    public void submit(MissionEvent event) {
+        boolean[] created = new boolean[1];
+        pending.compute(event.getAttemptId(), (attemptId, current) -> {
+            Finalization finalization = current;
+            if (finalization == null) {
+                finalization = new Finalization(attemptId, System.nanoTime());
+                created[0] = true;
+            }
+            finalization.merge(event);
+            return finalization;
+        });
+
+        if (created[0]) {
+            executor.execute(() -> run(event.getAttemptId()));
+        }
+    }
+
+    /**
+     * 대기 중인 후처리 수
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void run(String attemptId) {
+        Finalization finalization = pending.remove(attemptId);
+        if (finalization == null) {
+            return;
+        }
+
+        try {
+            finalization.apply();
+            successCounter.increment();
+            lagTimer.record(System.nanoTime() - finalization.firstRequestedNanos, TimeUnit.NANOSECONDS);
+        } catch (MissionNotFoundException | InvalidEventException e) {
+            // 재시도해도 결과가 같은 오류
+            droppedCounter.increment();
+            log.error("❌ [Finalizer] Finalization failed permanently - attemptId: {}, error: {}",
+                    attemptId, e.getMessage());
+        } catch (RuntimeException e) {
+            retry(finalization, e);
+        } finally {
+            // 일부 단계만 성공했어도 상태/리뷰가 바뀌었을 수 있음
+            attemptDetailCache.invalidate(attemptId);
+        }
+    }
+
+    private void retry(Finalization finalization, RuntimeException e) {
+        String attemptId = finalization.attemptId;
+        finalization.retries++;
+        retryCounter.increment();
+        long delay = Math.min(retryBackoffMs << Math.min(finalization.retries - 1, 20), maxBackoffMs);
+        if (finalization.retries > maxRetries) {
+            if (finalization.retries == maxRetries + 1) {
+                exhaustedCounter.increment();
+            }
+            log.error("❌ [Finalizer] Finalization still failing after max retries, retrying - attemptId: {}, retry: {}, delayMs: {}",
+                    attemptId, finalization.retries, delay, e);
+        } else {
+            log.warn("⚠️ [Finalizer] Finalization failed, retrying - attemptId: {}, retry: {}, delayMs: {}, error: {}",
+                    attemptId, finalization.retries, delay, e.getMessage());
+        }
+
+        // 재시도 대기 중에 들어온 작업과 합친 뒤 다시 예약
+        boolean[] created = new boolean[1];
+        pending.compute(attemptId, (key, newer) -> {
+            if (newer == null) {
+                created[0] = true;
+                return finalization;
+            }
+            newer.absorb(finalization);
+            return newer;
+        });
+        if (created[0]) {
+            executor.schedule(() -> run(attemptId), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 미션 종료 처리
+     * @param attemptId 미션 시도 ID
+     * @param eventType 이벤트 타입
+     * @param endTime 종료 시간
+     */
+    private void handleMissionEnd(String attemptId, String eventType, LocalDateTime endTime) {
+        log.info("Handling mission end - attemptId: {}, eventType: {}", attemptId, eventType);
+
+        AttemptInfo attempt = attemptRegistry.get(attemptId);
+
+        // totalDuration 계산 (초 단위, 소수점 3자리)
+        Duration duration = Duration.between(attempt.startTime(), endTime);
+        BigDecimal totalDuration = BigDecimal.valueOf(duration.toMillis() / 1000.0);
+
+        // 상태 업데이트
+        MissionStatus newStatus = switch (eventType) {
+            case "mission_completed" -> MissionStatus.COMPLETED;
+            case "mission_quitted" -> MissionStatus.QUITTED;
+            default -> MissionStatus.EXPIRED;
+        };
+
+        // 엔티티를 다시 조회하지 않고 종료 상태만 UPDATE (진행 중인 시도만)
+        int updated = missionAttemptRepository.updateEndStateIfInProgress(attemptId, endTime, totalDuration, newStatus);
+        attemptRegistry.evict(attemptId);
+        if (updated == 0) {
+            log.info("Mission already ended, end event ignored - attemptId: {}, eventType: {}", attemptId, eventType);
+            return;
+        }
+        dashboardAggregates.onAttemptEnded(attempt.missionType(), attempt.startTime(),
+                MissionStatus.IN_PROGRESS, newStatus, totalDuration);
+
+        log.info("Mission ended - attemptId: {}, status: {}, duration: {}s",
+                attemptId, newStatus, totalDuration);
+    }
+
+    /**
+     * 미션 평가 이벤트 처리 (리뷰 저장)
+     * @param attemptId 미션 시도 ID
+     * @param data 이벤트 데이터
+     */
+    private void handleMissionRating(String attemptId, Map<String, Object> data) {
+        log.info("🌟 [Review] Handling mission rating - attemptId: {}", attemptId);
+
+        // 이미 리뷰가 있는지 확인
+        if (reviewService.hasReview(attemptId)) {
+            log.warn("⚠️ [Review] Review already exists for attemptId: {}", attemptId);
+            return;
+        }
+
+        // 데이터 추출
+        Integer rating = null;
+        if (data.get("rating") instanceof Integer) {
+            rating = (Integer) data.get("rating");
+        } else if (data.get("rating") instanceof Number) {
+            rating = ((Number) data.get("rating")).intValue();
+        }
+
+        String ratingText = data.get("ratingText") instanceof String text ? text : null;
+        String feedback = data.get("feedback") instanceof String text ? text : null;
+        Boolean hasFeedback = data.get("hasFeedback") instanceof Boolean flag ? flag : null;
+
+        // 필수 필드 검증
+        if (rating == null || ratingText == null) {
+            log.error("❌ [Review] Invalid rating data - attemptId: {}, rating: {}, ratingText: {}",
+                    attemptId, rating, ratingText);
+            return;
+        }
+
+        // Review 엔티티 생성
+        String reviewId = "review_" + UUID.randomUUID().toString().replace("-", "");
+
+        Review review = Review.builder()
+                .reviewId(reviewId)
+                .attemptId(attemptId)
+                .rating(rating)
+                .ratingText(ratingText)
+                .feedback(feedback)
+                .hasFeedback(hasFeedback != null ? hasFeedback : false)
+                .submittedAt(LocalDateTime.now())
+                .build();
+
+        // 리뷰 저장
+        Review savedReview = reviewService.saveReviewDirectly(review);
+
+        log.info("✅ [Review] Review saved successfully - reviewId: {}, attemptId: {}, rating: {}",
+                savedReview.getReviewId(), attemptId, rating);
+    }
+
+    /**
+     * 미션 포기 이벤트 처리 (포기 사유 저장)
+     * @param attemptId 미션 시도 ID
+     * @param data 이벤트 데이터
+     */
+    private void handleMissionQuit(String attemptId, Map<String, Object> data) {
+        log.info("🚪 [Quit] Handling mission quit - attemptId: {}", attemptId);
+
+        // 이미 리뷰가 있는지 확인
+        if (reviewService.hasReview(attemptId)) {
+            log.warn("⚠️ [Quit] Review already exists for attemptId: {}", attemptId);
+            return;
+        }
+
+        // reason 필드 추출
+        String reason = data.get("reason") instanceof String text ? text : null;
+
+        // reason이 없으면 리뷰를 생성하지 않음
+        if (reason == null || reason.trim().isEmpty()) {
+            log.info("ℹ️ [Quit] No quit reason provided for attemptId: {}", attemptId);
+            return;
+        }
+
+        // Review 엔티티 생성 (포기 사유)
+        String reviewId = "review_" + UUID.randomUUID().toString().replace("-", "");
+
+        Review review = Review.builder()
+                .reviewId(reviewId)
+                .attemptId(attemptId)
+                .rating(null)  // 포기한 경우 평점 없음
+                .ratingText("포기")  // 포기 표시
+                .feedback(reason)  // 포기 사유를 feedback에 저장
+                .hasFeedback(true)
+                .submittedAt(LocalDateTime.now())
+                .build();
+
+        // 리뷰 저장
+        Review savedReview = reviewService.saveReviewDirectly(review);
+
+        log.info("✅ [Quit] Quit reason saved as review - reviewId: {}, attemptId: {}, reason length: {}",
+                savedReview.getReviewId(), attemptId, reason.length());
+    }
+
+    /**
+     * 미션 종료 이벤트 여부 확인
+     * @param eventType 이벤트 타입
+     * @return 미션 종료 이벤트 여부
+     */
+    private boolean isMissionEndEvent(String eventType) {
+        return eventType.equals("mission_completed") ||
+               eventType.equals("mission_quitted") ||
+               eventType.equals("mission_expired");
+    }
+
+    private Counter runCounter(String outcome) {
+        return Counter.builder("mission.finalizer.runs")
+                .description("End-of-mission finalization runs by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시도 하나에 대해 모인 후처리 작업
+     * 종료/평가/포기는 각각 처음 들어온 이벤트만 사용합니다 (이후 이벤트는 기존 동작과 같이 무시됨)
+     * 완료된 단계는 null로 비워 재시도 시 다시 실행하지 않습니다
+     */
+    private final class Finalization {
+
+        private final String attemptId;
+        private final long firstRequestedNanos;
+        private MissionEvent endEvent;
+        private Map<String, Object> ratingData;
+        private Map<String, Object> quitData;
+        private int retries;
+
+        Finalization(String attemptId, long firstRequestedNanos) {
+            this.attemptId = attemptId;
+            this.firstRequestedNanos = firstRequestedNanos;
+        }
+
+        void merge(MissionEvent event) {
+            String eventType = event.getEventType();
+            if (isMissionEndEvent(eventType) && endEvent == null) {
+                endEvent = event;
+            }
+            if ("mission_rating_submitted".equals(eventType) && ratingData == null) {
+                ratingData = event.getData();
+            }
+            if ("mission_quitted".equals(eventType) && quitData == null) {
+                quitData = event.getData();
+            }
+        }
+
+        /**
+         * 재시도 대기 중이던 이전 작업의 남은 단계를 합침 (이전 작업이 먼저 들어온 것이므로 우선)
+         */
+        void absorb(Finalization earlier) {
+            if (earlier.endEvent != null) {
+                endEvent = earlier.endEvent;
+            }
+            if (earlier.ratingData != null) {
+                ratingData = earlier.ratingData;
+            }
+            if (earlier.quitData != null) {
+                quitData = earlier.quitData;
+            }
+            retries = earlier.retries;
+        }
+
+        void apply() {
+            if (endEvent != null) {
+                MissionEvent event = endEvent;
+                transactionTemplate.executeWithoutResult(status ->
+                        handleMissionEnd(attemptId, event.getEventType(), event.getTimestamp()));
+                endEvent = null;
+            }
+            if (ratingData != null) {
+                Map<String, Object> data = ratingData;
+                transactionTemplate.executeWithoutResult(status -> handleMissionRating(attemptId, data));
+                ratingData = null;
+            }
+            if (quitData != null) {
+                Map<String, Object> data = quitData;
+                transactionTemplate.executeWithoutResult(status -> handleMissionQuit(attemptId, data));
+                quitData = null;
+            }
+        }
+    }
+}
@@ -3,20 +3,27 @@ package org.example.greduatebe.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.greduatebe.dto.request.MissionStartRequest;
+import org.example.greduatebe.dto.response.CursorPageResponse;
 import org.example.greduatebe.dto.response.MissionDetailResponse;
 import org.example.greduatebe.dto.response.MissionStartResponse;
 import org.example.greduatebe.entity.MissionAttempt;
 import org.example.greduatebe.entity.MissionStatus;
 import org.example.greduatebe.entity.MissionType;
+import org.example.greduatebe.exception.InvalidRequestException;
 import org.example.greduatebe.exception.MissionNotFoundException;
+import org.example.greduatebe.repository.MissionAttemptListRepository;
+import org.example.greduatebe.repository.MissionAttemptListRepository.Cursor;
+import org.example.greduatebe.repository.MissionAttemptListRepository.ListRow;
 import org.example.greduatebe.repository.MissionAttemptRepository;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,7 +35,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MissionService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MissionAttemptRepository missionAttemptRepository;
+    private final MissionAttemptListRepository missionAttemptListRepository;
+    private final MissionAttemptRegistry attemptRegistry;
+    private final DashboardAggregates dashboardAggregates;
+    private final MissionExpirySweeper expirySweeper;
+    private final AttemptDetailCache attemptDetailCache;
 
     @Value("${websocket.url:ws://localhost:8080/ws}")
     private String websocketUrl;
@@ -63,6 +77,12 @@ public class MissionService {
                 .build();
 
         missionAttemptRepository.save(missionAttempt);
+        dashboardAggregates.onAttemptStarted(missionAttempt.getMissionType(), missionAttempt.getStartTime());
+        // 롤백된 시도가 레지스트리에 남아 이벤트를 받지 않도록 커밋 후 등록
+        TransactionCallbacks.afterCommit(() -> {
+            attemptRegistry.register(missionAttempt);
+            expirySweeper.track(attemptId, missionAttempt.getStartTime());
+        });
 
         log.info("Mission started successfully - attemptId: {}", attemptId);
 
@@ -86,28 +106,43 @@ public class MissionService {
     }
 
     /**
-     * 미션 시도 목록 조회 (페이징, 필터링)
+     * 미션 시도 목록 조회 (필터링, 커서 페이징)
+     * 이벤트 수와 리뷰 요약을 포함하여 한 번의 쿼리로 조회합니다
      * @param missionType 미션 타입 (선택)
      * @param status 상태 (선택)
      * @param startDate 시작 날짜 (선택)
      * @param endDate 종료 날짜 (선택)
-     * @param pageable 페이징 정보
-     * @return Page<MissionAttempt>
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return CursorPageResponse<MissionDetailResponse>
      */
     @Transactional(readOnly = true)
-    public Page<MissionAttempt> listMissionAttempts(
+    public CursorPageResponse<MissionDetailResponse> listMissionAttempts(
             MissionType missionType,
             MissionStatus status,
             LocalDateTime startDate,
             LocalDateTime endDate,
-            Pageable pageable) {
+            String cursor,
+            int size) {
+
+        log.debug("Listing mission attempts - missionType: {}, status: {}, cursor: {}, size: {}",
+                missionType, status, cursor, size);
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        // 한 건을 더 조회하여 다음 페이지 존재 여부 판단
+        List<ListRow> rows = missionAttemptListRepository.findPage(
+                missionType, status, startDate, endDate, decodeCursor(cursor), pageSize + 1);
 
-        log.debug("Listing mission attempts - missionType: {}, status: {}, page: {}",
-                missionType, status, pageable.getPageNumber());
+        boolean hasNext = rows.size() > pageSize;
+        List<ListRow> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
 
-        // 임시: 필터링 없이 모든 미션 조회
-        // TODO: Specification API를 사용한 동적 쿼리로 개선 필요
-        return missionAttemptRepository.findAll(pageable);
+        return CursorPageResponse.<MissionDetailResponse>builder()
+                .content(pageRows.stream().map(ListRow::response).collect(Collectors.toList()))
+                .size(pageRows.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(pageRows.get(pageRows.size() - 1).cursor()) : null)
+                .build();
     }
 
     /**
@@ -120,8 +155,45 @@ public class MissionService {
         log.info("Updating mission status - attemptId: {}, status: {}", attemptId, status);
 
         MissionAttempt missionAttempt = getMissionAttempt(attemptId);
+        MissionStatus previousStatus = missionAttempt.getStatus();
         missionAttempt.setStatus(status);
         missionAttemptRepository.save(missionAttempt);
+
+        if (previousStatus != status) {
+            dashboardAggregates.onAttemptEnded(missionAttempt.getMissionType(), missionAttempt.getStartTime(),
+                    previousStatus, status, missionAttempt.getTotalDuration());
+        }
+
+        if (status != MissionStatus.IN_PROGRESS) {
+            attemptRegistry.evict(attemptId);
+        }
+        attemptDetailCache.invalidateAfterCommit(List.of(attemptId));
+    }
+
+    /**
+     * 페이징 키를 커서 문자열로 인코딩 ("startTime|id"의 URL-safe Base64)
+     */
+    private String encodeCursor(Cursor cursor) {
+        String raw = cursor.startTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 페이징 키로 디코딩
+     */
+    private Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, separator), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
     }
 
     /**
@@ -0,0 +1,19 @@
+package org.example.greduatebe.service;
+
+import org.example.greduatebe.dto.request.WebSocketMessage;
+
+/**
+ * 서버 수신 시각이 기록된 이벤트 메시지
+ * 큐 대기 시간을 포함한 processingTime과 received_at을 계산하는 데 사용합니다
+ * @param message WebSocket 메시지
+ * @param receivedAt 서버 수신 시각 (epoch millis)
+ */
+public record ReceivedMessage(WebSocketMessage message, long receivedAt) {
+
+    /**
+     * 현재 시각을 수신 시각으로 기록
+     */
+    public static ReceivedMessage now(WebSocketMessage message) {
+        return new ReceivedMessage(message, System.currentTimeMillis());
+    }
+}
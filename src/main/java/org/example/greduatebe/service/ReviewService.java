@@ -7,10 +7,12 @@ import org.example.greduatebe.entity.MissionAttempt;
 import org.example.greduatebe.entity.Review;
 import org.example.greduatebe.exception.InvalidRequestException;
 import org.example.greduatebe.repository.ReviewRepository;
+import org.example.greduatebe.service.MissionAttemptRegistry.AttemptInfo;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,6 +26,9 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final MissionService missionService;
+    private final MissionAttemptRegistry attemptRegistry;
+    private final DashboardAggregates dashboardAggregates;
+    private final AttemptDetailCache attemptDetailCache;
 
     /**
      * 리뷰 제출
@@ -58,6 +63,9 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        dashboardAggregates.onReviewSaved(missionAttempt.getMissionType(),
+                savedReview.getRating(), Boolean.TRUE.equals(savedReview.getHasFeedback()));
+        attemptDetailCache.invalidateAfterCommit(List.of(attemptId));
 
         log.info("Review submitted successfully - reviewId: {}, attemptId: {}", reviewId, attemptId);
 
@@ -114,6 +122,14 @@ public class ReviewService {
     public Review saveReviewDirectly(Review review) {
         log.info("Saving review directly - reviewId: {}, attemptId: {}",
                 review.getReviewId(), review.getAttemptId());
-        return reviewRepository.save(review);
+        Review savedReview = reviewRepository.save(review);
+
+        attemptRegistry.find(review.getAttemptId())
+                .map(AttemptInfo::missionType)
+                .ifPresent(missionType -> dashboardAggregates.onReviewSaved(missionType,
+                        savedReview.getRating(), Boolean.TRUE.equals(savedReview.getHasFeedback())));
+        attemptDetailCache.invalidateAfterCommit(List.of(review.getAttemptId()));
+
+        return savedReview;
     }
 }
@@ -0,0 +1,276 @@
+package org.example.greduatebe.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포트폴리오 미션 단계별 소요 시간 통계
+ * portfolio_creation_step 이벤트가 저장될 때마다 단계별 히스토그램을 갱신하여
+ * 평균/p50/p90을 메모리에서 바로 제공합니다 (상세 페이지에서 집계 쿼리를 실행하지 않음).
+ * 시작 시와 주기적으로 DB 집계 결과로 전체를 다시 맞춥니다 (reconcile).
+ * reconcile 중에 기록된 샘플은 기존 히스토그램의 delta log에도 남겨 두었다가 교체 직후 새 히스토그램에 다시 적용합니다
+ * (DashboardAggregates와 같은 방식, 기록 경로는 lock 없음).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StepTimeStatistics {
+
+    public static final String STEP_EVENT_TYPE = "portfolio_creation_step";
+
+    /**
+     * 히스토그램 버킷 폭 (초)
+     */
+    private static final double BUCKET_WIDTH_SECONDS = 0.5;
+
+    /**
+     * 버킷 개수 (마지막 버킷은 600초 이상을 모두 포함)
+     */
+    private static final int BUCKET_COUNT = 1200;
+
+    private static final String RECONCILE_SQL = """
+            SELECT
+                step,
+                LEAST(FLOOR(time_on_step / ?), ?) as bucket,
+                COUNT(*) as sample_count,
+                SUM(time_on_step) as total_time
+            FROM mission_events
+            WHERE event_type = 'portfolio_creation_step'
+              AND step >= 0
+              AND time_on_step >= 0
+            GROUP BY 1, 2
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 느린 단계 판단 기준 백분위 (0이면 기존 방식: 평균의 2배 초과)
+     */
+    @Value("${dashboard.slow-step.percentile:0}")
+    private int slowPercentile;
+
+    /**
+     * 백분위 기준을 사용하기 위한 최소 샘플 수 (미만이면 평균 기준 사용)
+     */
+    @Value("${dashboard.slow-step.min-samples:20}")
+    private long minSamples;
+
+    private volatile Histograms histograms = new Histograms();
+
+    /**
+     * 단계 이벤트 기록
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영합니다
+     * @param step 단계 번호 (EventFieldExtractor가 추출한 값, 없으면 무시)
+     * @param timeOnStep 소요 시간 (초, 없거나 음수면 무시)
+     */
+    public void recordAfterCommit(Integer step, BigDecimal timeOnStep) {
+        if (step == null || timeOnStep == null || timeOnStep.signum() < 0) {
+            return;
+        }
+
+        double seconds = timeOnStep.doubleValue();
+        TransactionCallbacks.afterCommit(() -> record(step, seconds));
+    }
+
+    /**
+     * 단계 소요 시간 기록
+     * @param step 단계 번호
+     * @param timeOnStep 소요 시간 (초)
+     */
+    public void record(int step, double timeOnStep) {
+        Histograms current = histograms;
+        current.writers.increment();
+        while (current != histograms) {
+            current.writers.decrement();
+            current = histograms;
+            current.writers.increment();
+        }
+        try {
+            current.add(step, timeOnStep);
+            Queue<StepSample> reconcileLog = current.reconcileLog;
+            if (reconcileLog != null) {
+                reconcileLog.add(new StepSample(step, timeOnStep));
+            }
+        } finally {
+            current.writers.decrement();
+        }
+    }
+
+    /**
+     * 단계별 기준값 조회
+     * @param step 단계 번호
+     * @return 기준값 (샘플이 없으면 empty)
+     */
+    public Optional<StepBaseline> getBaseline(int step) {
+        StepHistogram histogram = histograms.byStep.get(step);
+        if (histogram == null || histogram.count() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(histogram.toBaseline());
+    }
+
+    /**
+     * 단계가 기준 대비 느린지 판단
+     * - percentile 설정이 있고 샘플이 충분하면 해당 백분위 초과 여부
+     * - 그 외에는 평균의 2배 초과 여부 (기존 기준)
+     */
+    public boolean isSlow(int step, BigDecimal timeOnStep) {
+        StepHistogram histogram = histograms.byStep.get(step);
+        if (histogram == null || histogram.count() == 0) {
+            return false;
+        }
+
+        if (slowPercentile > 0 && histogram.count() >= minSamples) {
+            return timeOnStep.compareTo(histogram.percentile(slowPercentile / 100.0)) > 0;
+        }
+
+        return timeOnStep.compareTo(histogram.average().multiply(BigDecimal.valueOf(2))) > 0;
+    }
+
+    /**
+     * DB 집계 결과로 전체 히스토그램 재구성
+     * 새 히스토그램을 만든 뒤 교체하고, 조회 시작부터 교체까지 기록된 샘플은 delta log에서 다시 적용합니다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${dashboard.step-stats.reconcile-interval-ms:600000}",
+            fixedDelayString = "${dashboard.step-stats.reconcile-interval-ms:600000}")
+    public synchronized void reconcile() {
+        long startTime = System.currentTimeMillis();
+        Histograms previous = histograms;
+        Histograms rebuilt = new Histograms();
+        previous.reconcileLog = new ConcurrentLinkedQueue<>();
+
+        try {
+            jdbcTemplate.query(RECONCILE_SQL, rs -> {
+                int step = rs.getInt("step");
+                int bucket = rs.getInt("bucket");
+                long count = rs.getLong("sample_count");
+                double total = rs.getBigDecimal("total_time").doubleValue();
+                rebuilt.byStep.computeIfAbsent(step, key -> new StepHistogram()).addBucket(bucket, count, total);
+            }, BigDecimal.valueOf(BUCKET_WIDTH_SECONDS), BUCKET_COUNT - 1);
+        } catch (Exception e) {
+            previous.reconcileLog = null;
+            log.error("❌ [StepStats] Failed to reconcile step statistics", e);
+            return;
+        }
+
+        histograms = rebuilt;
+        // 교체 전에 이전 히스토그램을 잡은 기록이 delta log 기록까지 끝내기를 기다림
+        while (previous.writers.sum() != 0) {
+            Thread.onSpinWait();
+        }
+        int replayed = 0;
+        for (StepSample sample : previous.reconcileLog) {
+            rebuilt.add(sample.step(), sample.timeOnStep());
+            replayed++;
+        }
+        previous.reconcileLog = null;
+        log.debug("Replayed step samples recorded during reconcile - count: {}", replayed);
+        log.info("Step statistics reconciled - steps: {}, elapsed: {}ms",
+                rebuilt.byStep.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 단계별 기준값
+     * @param sampleCount 샘플 수
+     * @param average 평균 소요 시간 (초)
+     * @param p50 중앙값 (초, 버킷 상한 근사)
+     * @param p90 90 백분위 (초, 버킷 상한 근사)
+     */
+    public record StepBaseline(long sampleCount, BigDecimal average, BigDecimal p50, BigDecimal p90) {
+    }
+
+    /**
+     * reconcile 중에 기록된 샘플
+     */
+    private record StepSample(int step, double timeOnStep) {
+    }
+
+    /**
+     * 단계별 히스토그램 묶음 (reconcile 시 통째로 교체)
+     */
+    private static final class Histograms {
+
+        private final Map<Integer, StepHistogram> byStep = new ConcurrentHashMap<>();
+        /** 이 묶음에 기록 중인 스레드 수 */
+        private final LongAdder writers = new LongAdder();
+        /** 이 묶음을 대체할 reconcile 중에만 non-null, 교체 후 새 묶음에 다시 적용할 샘플 */
+        private volatile Queue<StepSample> reconcileLog;
+
+        void add(int step, double timeOnStep) {
+            byStep.computeIfAbsent(step, key -> new StepHistogram()).add(timeOnStep);
+        }
+    }
+
+    /**
+     * 단계 하나의 lock-free 히스토그램
+     */
+    private static final class StepHistogram {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+
+        void add(double timeOnStep) {
+            buckets.incrementAndGet(bucketOf(timeOnStep));
+            count.increment();
+            sum.add(timeOnStep);
+        }
+
+        void addBucket(int bucket, long sampleCount, double total) {
+            buckets.addAndGet(Math.min(Math.max(bucket, 0), BUCKET_COUNT - 1), sampleCount);
+            count.add(sampleCount);
+            sum.add(total);
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        BigDecimal average() {
+            long samples = count.sum();
+            if (samples == 0) {
+                return BigDecimal.ZERO;
+            }
+            return BigDecimal.valueOf(sum.sum() / samples).setScale(3, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal percentile(double quantile) {
+            long samples = count.sum();
+            long target = (long) Math.ceil(quantile * samples);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                cumulative += buckets.get(i);
+                if (cumulative >= target) {
+                    return BigDecimal.valueOf((i + 1) * BUCKET_WIDTH_SECONDS);
+                }
+            }
+            return BigDecimal.valueOf(BUCKET_COUNT * BUCKET_WIDTH_SECONDS);
+        }
+
+        StepBaseline toBaseline() {
+            return new StepBaseline(count(), average(), percentile(0.5), percentile(0.9));
+        }
+
+        private static int bucketOf(double timeOnStep) {
+            return (int) Math.min(Math.floor(timeOnStep / BUCKET_WIDTH_SECONDS), BUCKET_COUNT - 1);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.greduatebe.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 헬퍼
+ * 메모리 통계처럼 DB와 함께 롤백될 수 없는 상태는 커밋이 확정된 뒤에만 갱신합니다
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 실행 (트랜잭션 밖이면 즉시 실행)
+     * @param action 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+-- Mission Attempts Table
+CREATE TABLE IF NOT EXISTS mission_attempts (
+    id BIGSERIAL PRIMARY KEY,
+    attempt_id VARCHAR(50) UNIQUE NOT NULL,
+    session_id VARCHAR(36) NOT NULL,
+    mission_type VARCHAR(20) NOT NULL,
+    mission_name VARCHAR(100) NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP,
+    total_duration NUMERIC(10, 3),
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Mission Events Table
+-- 일 단위 RANGE 파티션 (mission_events_pYYYYMMDD), MissionEventPartitionManager가 미리 생성/삭제
+-- 파티션 키가 PK/UNIQUE에 포함되어야 하므로 event_id 유일성은 (event_id, timestamp) 단위
+CREATE TABLE IF NOT EXISTS mission_events (
+    id BIGSERIAL,
+    event_id VARCHAR(50) NOT NULL,
+    attempt_id VARCHAR(50) NOT NULL,
+    session_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    timestamp TIMESTAMP NOT NULL,
+    data JSONB NOT NULL,
+    received_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    processing_time BIGINT,
+    PRIMARY KEY (id, timestamp),
+    UNIQUE (event_id, timestamp),
+    FOREIGN KEY (attempt_id) REFERENCES mission_attempts(attempt_id)
+) PARTITION BY RANGE (timestamp);
+
+-- 파티션 범위 밖(미리 생성되지 않은 날짜)의 이벤트
+CREATE TABLE IF NOT EXISTS mission_events_default PARTITION OF mission_events DEFAULT;
+
+-- 일별 이벤트 rollup (파티션 삭제 후에도 대시보드 이력 유지)
+CREATE TABLE IF NOT EXISTS mission_event_daily_rollups (
+    day DATE NOT NULL,
+    mission_type VARCHAR(20) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    event_count BIGINT NOT NULL,
+    attempt_count BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (day, mission_type, event_type)
+);
+
+-- 클라이언트 이벤트 ID 중복 제거 키 (파티션하지 않음)
+-- mission_events의 유니크 키는 파티션 키를 포함한 (event_id, timestamp)라서, 클라이언트 timestamp 없이
+-- 재전송된 이벤트(서버 수신 시각으로 채워짐)는 timestamp가 달라 ON CONFLICT에 걸리지 않습니다.
+-- clientEventId가 있는 이벤트는 이 테이블에 (attempt_id, event_id)를 먼저 등록하고, 등록된 것만 mission_events에 저장합니다
+CREATE TABLE IF NOT EXISTS mission_event_client_keys (
+    attempt_id VARCHAR(50) NOT NULL,
+    event_id VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (attempt_id, event_id)
+);
+
+-- Reviews Table
+CREATE TABLE IF NOT EXISTS reviews (
+    id BIGSERIAL PRIMARY KEY,
+    review_id VARCHAR(50) UNIQUE NOT NULL,
+    attempt_id VARCHAR(50) NOT NULL,
+    rating INTEGER CHECK (rating IS NULL OR (rating >= 1 AND rating <= 5)),
+    rating_text VARCHAR(20) NOT NULL,
+    feedback TEXT,
+    has_feedback BOOLEAN NOT NULL,
+    submitted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (attempt_id) REFERENCES mission_attempts(attempt_id)
+);
+
+-- Indexes for mission_attempts
+CREATE INDEX IF NOT EXISTS idx_attempt_mission_type ON mission_attempts(mission_type);
+CREATE INDEX IF NOT EXISTS idx_attempt_status ON mission_attempts(status);
+CREATE INDEX IF NOT EXISTS idx_attempt_start_time ON mission_attempts(start_time DESC);
+CREATE INDEX IF NOT EXISTS idx_attempt_session_id ON mission_attempts(session_id);
+-- Keyset pagination (GET /api/missions): ORDER BY start_time DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_attempt_start_time_id ON mission_attempts(start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_attempt_type_start_time_id ON mission_attempts(mission_type, start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_attempt_status_start_time_id ON mission_attempts(status, start_time DESC, id DESC);
+-- Expiry sweeper: only in-progress attempts (small regardless of history size)
+CREATE INDEX IF NOT EXISTS idx_attempt_in_progress_start_time ON mission_attempts(start_time) WHERE status = 'IN_PROGRESS';
+
+-- Indexes for mission_events
+CREATE INDEX IF NOT EXISTS idx_event_attempt_id ON mission_events(attempt_id);
+CREATE INDEX IF NOT EXISTS idx_event_type ON mission_events(event_type);
+CREATE INDEX IF NOT EXISTS idx_event_timestamp ON mission_events(timestamp DESC);
+CREATE INDEX IF NOT EXISTS idx_event_data ON mission_events USING GIN (data);
+
+-- Indexes for mission_event_client_keys (보존 기간 정리)
+CREATE INDEX IF NOT EXISTS idx_event_client_keys_created_at ON mission_event_client_keys(created_at);
+
+-- Indexes for reviews
+CREATE INDEX IF NOT EXISTS idx_review_attempt_id ON reviews(attempt_id);
+CREATE INDEX IF NOT EXISTS idx_review_rating ON reviews(rating);
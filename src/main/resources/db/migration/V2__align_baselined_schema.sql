@@ -0,0 +1,117 @@
+-- Flyway 도입 전 Hibernate ddl-auto(update/validate) 또는 이전 schema.sql로 만들어진 DB(baseline-on-migrate로 V1 적용 건너뜀)를 V1 스키마에 맞춤
+-- 제약 조건/시퀀스 이름은 Hibernate가 만든 이름(UK..., identity 컬럼)일 수 있으므로 카탈로그에서 조회해 사용합니다
+-- 새로 만든 DB에서는 모든 문장이 아무 것도 하지 않습니다
+
+-- 1. 단일 테이블 mission_events → 일 단위 RANGE 파티션 테이블로 변환
+--    기존 행은 날짜별 파티션(mission_events_pYYYYMMDD)으로 바로 옮겨 rollup/보존 기간 정리 대상이 되도록 하고,
+--    DEFAULT 파티션은 비어 있는 상태로 시작합니다
+DO $$
+DECLARE
+    constraint_row RECORD;
+    legacy_day DATE;
+    id_sequence TEXT;
+    max_id BIGINT;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'mission_events'::regclass) THEN
+        ALTER TABLE mission_events RENAME TO mission_events_legacy;
+
+        -- PK/UNIQUE/FK 이름(및 PK/UNIQUE 인덱스 이름)이 새 테이블과 겹치지 않도록 이름 변경
+        FOR constraint_row IN
+            SELECT conname FROM pg_constraint
+            WHERE conrelid = 'mission_events_legacy'::regclass AND contype IN ('p', 'u', 'f')
+        LOOP
+            EXECUTE format('ALTER TABLE mission_events_legacy RENAME CONSTRAINT %I TO %I',
+                    constraint_row.conname, left('legacy_' || constraint_row.conname, 63));
+        END LOOP;
+        DROP INDEX IF EXISTS idx_event_attempt_id;
+        DROP INDEX IF EXISTS idx_event_type;
+        DROP INDEX IF EXISTS idx_event_timestamp;
+        DROP INDEX IF EXISTS idx_event_data;
+
+        -- id 컬럼: identity(Hibernate) 또는 serial 시퀀스를 떼어 내고 mission_events_id_seq로 다시 만듦
+        SELECT COALESCE(MAX(id), 0) INTO max_id FROM mission_events_legacy;
+        id_sequence := pg_get_serial_sequence('mission_events_legacy', 'id');
+        IF EXISTS (SELECT 1 FROM pg_attribute
+                   WHERE attrelid = 'mission_events_legacy'::regclass AND attname = 'id' AND attidentity <> '') THEN
+            ALTER TABLE mission_events_legacy ALTER COLUMN id DROP IDENTITY;
+        ELSIF id_sequence IS NOT NULL THEN
+            ALTER TABLE mission_events_legacy ALTER COLUMN id DROP DEFAULT;
+            EXECUTE format('DROP SEQUENCE %s', id_sequence);
+        END IF;
+        CREATE SEQUENCE IF NOT EXISTS mission_events_id_seq;
+        PERFORM setval('mission_events_id_seq', max_id + 1, false);
+
+        CREATE TABLE mission_events (
+            id BIGINT NOT NULL DEFAULT nextval('mission_events_id_seq'),
+            event_id VARCHAR(50) NOT NULL,
+            attempt_id VARCHAR(50) NOT NULL,
+            session_id VARCHAR(36) NOT NULL,
+            event_type VARCHAR(50) NOT NULL,
+            timestamp TIMESTAMP NOT NULL,
+            data JSONB NOT NULL,
+            received_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+            processing_time BIGINT,
+            PRIMARY KEY (id, timestamp),
+            UNIQUE (event_id, timestamp),
+            FOREIGN KEY (attempt_id) REFERENCES mission_attempts(attempt_id)
+        ) PARTITION BY RANGE (timestamp);
+        ALTER SEQUENCE mission_events_id_seq OWNED BY mission_events.id;
+
+        -- 파티션을 먼저 만든 뒤 복사하므로 ATTACH/DEFAULT 검사 없이 행이 날짜별 파티션으로 바로 들어감
+        FOR legacy_day IN SELECT DISTINCT CAST(timestamp AS DATE) FROM mission_events_legacy LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF mission_events FOR VALUES FROM (%L) TO (%L)',
+                    'mission_events_p' || to_char(legacy_day, 'YYYYMMDD'),
+                    legacy_day::timestamp, (legacy_day + 1)::timestamp);
+        END LOOP;
+        CREATE TABLE mission_events_default PARTITION OF mission_events DEFAULT;
+
+        INSERT INTO mission_events
+            (id, event_id, attempt_id, session_id, event_type, timestamp, data, received_at, processing_time)
+        SELECT id, event_id, attempt_id, session_id, event_type, timestamp, data, received_at, processing_time
+        FROM mission_events_legacy;
+
+        DROP TABLE mission_events_legacy;
+    END IF;
+END $$;
+
+-- 2. V1과 비교해 Hibernate로 만든 DB에 없을 수 있는 테이블/인덱스
+CREATE TABLE IF NOT EXISTS mission_event_daily_rollups (
+    day DATE NOT NULL,
+    mission_type VARCHAR(20) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    event_count BIGINT NOT NULL,
+    attempt_count BIGINT NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (day, mission_type, event_type)
+);
+
+CREATE INDEX IF NOT EXISTS idx_attempt_mission_type ON mission_attempts(mission_type);
+CREATE INDEX IF NOT EXISTS idx_attempt_status ON mission_attempts(status);
+CREATE INDEX IF NOT EXISTS idx_attempt_start_time ON mission_attempts(start_time DESC);
+CREATE INDEX IF NOT EXISTS idx_attempt_session_id ON mission_attempts(session_id);
+CREATE INDEX IF NOT EXISTS idx_attempt_start_time_id ON mission_attempts(start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_attempt_type_start_time_id ON mission_attempts(mission_type, start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_attempt_status_start_time_id ON mission_attempts(status, start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_attempt_in_progress_start_time ON mission_attempts(start_time) WHERE status = 'IN_PROGRESS';
+
+CREATE INDEX IF NOT EXISTS idx_event_attempt_id ON mission_events(attempt_id);
+CREATE INDEX IF NOT EXISTS idx_event_type ON mission_events(event_type);
+CREATE INDEX IF NOT EXISTS idx_event_timestamp ON mission_events(timestamp DESC);
+
+CREATE INDEX IF NOT EXISTS idx_review_attempt_id ON reviews(attempt_id);
+CREATE INDEX IF NOT EXISTS idx_review_rating ON reviews(rating);
+
+-- 3. 클라이언트 이벤트 ID 중복 제거 키 (V1과 동일) + 기존 이벤트 등록
+--    (클라이언트 ID로 만든 eventId와 서버 생성 eventId를 구분할 수 없으므로 전부 등록)
+CREATE TABLE IF NOT EXISTS mission_event_client_keys (
+    attempt_id VARCHAR(50) NOT NULL,
+    event_id VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (attempt_id, event_id)
+);
+CREATE INDEX IF NOT EXISTS idx_event_client_keys_created_at ON mission_event_client_keys(created_at);
+
+INSERT INTO mission_event_client_keys (attempt_id, event_id, created_at)
+SELECT attempt_id, event_id, COALESCE(received_at, timestamp)
+FROM mission_events
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,18 @@
+-- data 전체에 대한 GIN(jsonb_ops) 인덱스는 모든 INSERT마다 키/값 전체를 색인하지만
+-- 실제 조회는 event_type + data->>'step' / data->>'timeOnStep'만 사용하므로 필요한 부분만 색인합니다
+
+DROP INDEX IF EXISTS idx_event_data;
+
+-- 타임라인 (MissionAnalysisService.getTimelineEvents): WHERE attempt_id = ? ORDER BY timestamp
+-- attempt_id 단독 인덱스를 대체
+CREATE INDEX IF NOT EXISTS idx_event_attempt_timestamp ON mission_events(attempt_id, timestamp);
+DROP INDEX IF EXISTS idx_event_attempt_id;
+
+-- 포트폴리오 단계 상세 (getPortfolioStepDetails): WHERE attempt_id = ? AND event_type = 'portfolio_creation_step'
+-- 단계 이벤트만 담는 partial index라 page_view 등 나머지 이벤트 INSERT에는 비용이 없음
+CREATE INDEX IF NOT EXISTS idx_event_step_attempt ON mission_events(attempt_id)
+    WHERE event_type = 'portfolio_creation_step';
+
+-- 느린 단계 기준 재계산 (StepTimeStatistics, isStepSlow): 단계 이벤트의 step / timeOnStep만 읽음
+CREATE INDEX IF NOT EXISTS idx_event_step_time ON mission_events((data->>'step'), (data->>'timeOnStep'))
+    WHERE event_type = 'portfolio_creation_step';
@@ -0,0 +1,43 @@
+-- 자주 조회하는 이벤트 data 필드를 타입 컬럼으로 승격 (EventFieldExtractor가 저장 시 채움)
+-- data(jsonb)는 그대로 유지하며, 파티션 테이블에 추가한 컬럼은 모든 파티션에 반영됩니다
+
+ALTER TABLE mission_events
+    ADD COLUMN IF NOT EXISTS step INTEGER,
+    ADD COLUMN IF NOT EXISTS time_on_step NUMERIC,
+    ADD COLUMN IF NOT EXISTS duration_ms BIGINT,
+    ADD COLUMN IF NOT EXISTS scroll_depth INTEGER,
+    ADD COLUMN IF NOT EXISTS is_mission_relevant BOOLEAN;
+
+-- 기존 이벤트 backfill (EventFieldExtractor와 같은 변환 규칙: 숫자는 소수 버림, 범위/형식이 맞지 않으면 null)
+UPDATE mission_events
+SET step = CASE
+        WHEN jsonb_typeof(data->'step') = 'number' AND abs((data->>'step')::numeric) < 2147483648
+            THEN trunc((data->>'step')::numeric)::int
+        WHEN data->>'step' ~ '^[0-9]{1,9}$'
+            THEN (data->>'step')::int
+    END,
+    time_on_step = CASE
+        WHEN jsonb_typeof(data->'timeOnStep') = 'number' OR data->>'timeOnStep' ~ '^[0-9]+(\.[0-9]+)?$'
+            THEN (data->>'timeOnStep')::numeric
+    END
+WHERE event_type = 'portfolio_creation_step';
+
+UPDATE mission_events
+SET duration_ms = CASE
+        WHEN jsonb_typeof(data->'duration') = 'number' AND abs((data->>'duration')::numeric) < 9223372036854775808
+            THEN trunc((data->>'duration')::numeric)::bigint
+    END,
+    scroll_depth = CASE
+        WHEN jsonb_typeof(data->'scrollDepth') = 'number' AND abs((data->>'scrollDepth')::numeric) < 2147483648
+            THEN trunc((data->>'scrollDepth')::numeric)::int
+    END,
+    is_mission_relevant = CASE
+        WHEN jsonb_typeof(data->'isMissionRelevant') = 'boolean'
+            THEN (data->>'isMissionRelevant')::boolean
+    END
+WHERE event_type = 'page_view';
+
+-- 단계 통계 재계산은 이제 타입 컬럼만 읽으므로 expression 인덱스를 컬럼 인덱스로 교체
+DROP INDEX IF EXISTS idx_event_step_time;
+CREATE INDEX IF NOT EXISTS idx_event_step_time ON mission_events(step, time_on_step)
+    WHERE event_type = 'portfolio_creation_step';
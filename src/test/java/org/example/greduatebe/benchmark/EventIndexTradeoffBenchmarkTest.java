@@ -0,0 +1,195 @@
+package org.example.greduatebe.benchmark;
+
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.example.greduatebe.repository.MissionEventBatchRepository;
+import org.example.greduatebe.service.EventFieldExtractor;
+import org.example.greduatebe.support.MissionTestFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * mission_events 인덱스 구성별 쓰기/읽기 비용 비교 벤치마크
+ * - legacy: data 전체 GIN 인덱스 + attempt_id 단독 인덱스 (V3 이전)
+ * - targeted: (attempt_id, timestamp) + 단계 이벤트 partial 인덱스 (V3, V4)
+ * 같은 데이터에서 INSERT 처리량과 타임라인/단계 상세/단계 통계 쿼리 지연을 측정합니다.
+ *
+ * 실행: ./gradlew benchmarkTest (Docker 필요)
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.example.greduatebe=WARN"
+})
+class EventIndexTradeoffBenchmarkTest {
+
+    private static final int ATTEMPTS = 50;
+    private static final int WARMUP_EVENTS = 2_000;
+    private static final int MEASURED_EVENTS = 20_000;
+    private static final int BATCH_SIZE = 200;
+    private static final int QUERY_RUNS = 200;
+
+    private static final List<String> LEGACY_INDEXES = List.of(
+            "CREATE INDEX idx_event_attempt_id ON mission_events(attempt_id)",
+            "CREATE INDEX idx_event_data ON mission_events USING GIN (data)");
+
+    private static final List<String> TARGETED_INDEXES = List.of(
+            "CREATE INDEX idx_event_attempt_timestamp ON mission_events(attempt_id, timestamp)",
+            "CREATE INDEX idx_event_step_attempt ON mission_events(attempt_id) WHERE event_type = 'portfolio_creation_step'",
+            "CREATE INDEX idx_event_step_time ON mission_events(step, time_on_step) "
+                    + "WHERE event_type = 'portfolio_creation_step'");
+
+    private static final String TIMELINE_SQL = """
+            SELECT event_type, timestamp, data FROM mission_events
+            WHERE attempt_id = ? ORDER BY timestamp
+            """;
+
+    private static final String STEP_DETAIL_SQL = """
+            SELECT step, time_on_step, data->>'stepName' FROM mission_events
+            WHERE attempt_id = ? AND event_type = 'portfolio_creation_step'
+            ORDER BY step
+            """;
+
+    private static final String STEP_STATS_SQL = """
+            SELECT step, COUNT(*), SUM(time_on_step)
+            FROM mission_events
+            WHERE event_type = 'portfolio_creation_step' AND step >= 0 AND time_on_step >= 0
+            GROUP BY 1
+            """;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MissionAttemptRepository missionAttemptRepository;
+
+    @Autowired
+    private MissionEventBatchRepository missionEventBatchRepository;
+
+    @Autowired
+    private EventFieldExtractor eventFieldExtractor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void targetedIndexesInsertFasterThanBlanketGin() {
+        List<String> attemptIds = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            attemptIds.add(MissionTestFixtures.createAttempt(missionAttemptRepository));
+        }
+
+        Result targeted = measure("targeted", TARGETED_INDEXES, attemptIds);
+        Result legacy = measure("legacy", LEGACY_INDEXES, attemptIds);
+
+        System.out.printf("%n[benchmark] mission_events index sets (%d events inserted per set)%n", MEASURED_EVENTS);
+        System.out.printf("  %-9s %16s %14s %14s %14s%n", "indexes", "insert (ev/s)", "timeline (ms)", "step (ms)", "stats (ms)");
+        for (Result r : List.of(legacy, targeted)) {
+            System.out.printf("  %-9s %,16.0f %14.3f %14.3f %14.3f%n",
+                    r.label(), r.insertRate(), r.timelineMs(), r.stepMs(), r.statsMs());
+        }
+        System.out.printf("  insert speed-up (targeted / legacy): %.2fx%n%n", targeted.insertRate() / legacy.insertRate());
+
+        assertThat(targeted.insertRate()).isGreaterThan(legacy.insertRate());
+    }
+
+    /**
+     * 이벤트 인덱스를 모두 지우고 지정한 구성만 만든 뒤 같은 양의 INSERT와 쿼리를 측정
+     */
+    private Result measure(String label, List<String> indexes, List<String> attemptIds) {
+        jdbcTemplate.execute("TRUNCATE mission_events");
+        for (String name : List.of("idx_event_attempt_id", "idx_event_data", "idx_event_attempt_timestamp",
+                "idx_event_step_attempt", "idx_event_step_time")) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + name);
+        }
+        indexes.forEach(jdbcTemplate::execute);
+
+        insert(attemptIds, WARMUP_EVENTS);
+        long start = System.nanoTime();
+        insert(attemptIds, MEASURED_EVENTS);
+        double insertRate = MEASURED_EVENTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        jdbcTemplate.execute("ANALYZE mission_events");
+        return new Result(label, insertRate,
+                queryMillis(TIMELINE_SQL, attemptIds),
+                queryMillis(STEP_DETAIL_SQL, attemptIds),
+                queryMillis(STEP_STATS_SQL, null));
+    }
+
+    private void insert(List<String> attemptIds, int count) {
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            List<MissionEvent> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, count); i++) {
+                MissionEvent event = newEvent(attemptIds.get(i % attemptIds.size()), i);
+                eventFieldExtractor.apply(event);
+                batch.add(event);
+            }
+            transactionTemplate.executeWithoutResult(status -> missionEventBatchRepository.insertAll(batch));
+        }
+    }
+
+    private double queryMillis(String sql, List<String> attemptIds) {
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERY_RUNS; i++) {
+            if (attemptIds == null) {
+                jdbcTemplate.queryForList(sql);
+            } else {
+                jdbcTemplate.queryForList(sql, attemptIds.get(i % attemptIds.size()));
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / QUERY_RUNS;
+    }
+
+    /**
+     * 실제 비율과 비슷하게 10건 중 1건만 단계 이벤트, 나머지는 page_view/click
+     */
+    private MissionEvent newEvent(String attemptId, int sequence) {
+        String eventType;
+        Map<String, Object> data;
+        if (sequence % 10 == 0) {
+            eventType = "portfolio_creation_step";
+            data = Map.of(
+                    "step", sequence / 10 % 5 + 1,
+                    "stepName", "step-" + (sequence / 10 % 5 + 1),
+                    "timeOnStep", 3 + sequence % 120,
+                    "adjustmentCount", sequence % 7);
+        } else if (sequence % 2 == 0) {
+            eventType = "page_view";
+            data = Map.of(
+                    "page", "/portfolio/step/" + (sequence % 5 + 1),
+                    "duration", 1_500 + sequence % 1_000,
+                    "scrollDepth", sequence % 100,
+                    "isMissionRelevant", true);
+        } else {
+            eventType = "click";
+            data = Map.of(
+                    "elementId", "btn-" + sequence % 40,
+                    "elementText", "Button " + sequence % 40,
+                    "x", sequence % 1_280,
+                    "y", sequence % 720);
+        }
+        return MissionTestFixtures.newEvent(attemptId, eventType, data);
+    }
+
+    private record Result(String label, double insertRate, double timelineMs, double stepMs, double statsMs) {
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.greduatebe.benchmark;
+
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.example.greduatebe.repository.MissionEventBatchRepository;
+import org.example.greduatebe.repository.MissionEventRepository;
+import org.example.greduatebe.support.MissionTestFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * mission_events 저장 처리량 비교 벤치마크
+ * - before: 이벤트마다 트랜잭션 + JPA save (IDENTITY 전략, 건별 INSERT)
+ * - after: 수집 배치 단위 트랜잭션 + MissionEventBatchRepository (JDBC batch)
+ *
+ * 실행: ./gradlew benchmarkTest (Docker 필요)
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.example.greduatebe=WARN"
+})
+class MissionEventWriteBenchmarkTest {
+
+    private static final int WARMUP_EVENTS = 1_000;
+    private static final int MEASURED_EVENTS = 10_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MissionAttemptRepository missionAttemptRepository;
+
+    @Autowired
+    private MissionEventRepository missionEventRepository;
+
+    @Autowired
+    private MissionEventBatchRepository missionEventBatchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${mission.ingestion.batch-size}")
+    private int ingestionBatchSize;
+
+    @Test
+    void batchWriterOutperformsPerEventJpaSave() {
+        String attemptId = MissionTestFixtures.createAttempt(missionAttemptRepository);
+
+        saveOneByOneWithJpa(attemptId, WARMUP_EVENTS);
+        saveInBatches(attemptId, WARMUP_EVENTS);
+
+        double jpaRate = eventsPerSecond(() -> saveOneByOneWithJpa(attemptId, MEASURED_EVENTS));
+        double batchRate = eventsPerSecond(() -> saveInBatches(attemptId, MEASURED_EVENTS));
+
+        System.out.printf("%n[benchmark] mission_events insert throughput (%d events)%n", MEASURED_EVENTS);
+        System.out.printf("  JPA save per event (IDENTITY) : %,10.0f events/sec%n", jpaRate);
+        System.out.printf("  JDBC batch (batch of %4d)    : %,10.0f events/sec%n", ingestionBatchSize, batchRate);
+        System.out.printf("  speed-up                      : %10.1fx%n%n", batchRate / jpaRate);
+
+        assertThat(batchRate).isGreaterThan(jpaRate);
+    }
+
+    private void saveOneByOneWithJpa(String attemptId, int count) {
+        for (int i = 0; i < count; i++) {
+            MissionEvent event = newEvent(attemptId, i);
+            transactionTemplate.executeWithoutResult(status -> missionEventRepository.save(event));
+        }
+    }
+
+    private void saveInBatches(String attemptId, int count) {
+        for (int from = 0; from < count; from += ingestionBatchSize) {
+            List<MissionEvent> batch = new ArrayList<>(ingestionBatchSize);
+            for (int i = from; i < Math.min(from + ingestionBatchSize, count); i++) {
+                batch.add(newEvent(attemptId, i));
+            }
+            transactionTemplate.executeWithoutResult(status -> missionEventBatchRepository.insertAll(batch));
+        }
+    }
+
+    private double eventsPerSecond(Runnable workload) {
+        long start = System.nanoTime();
+        workload.run();
+        long elapsed = System.nanoTime() - start;
+        return MEASURED_EVENTS / (elapsed / 1_000_000_000.0);
+    }
+
+    private MissionEvent newEvent(String attemptId, int sequence) {
+        return MissionTestFixtures.newEvent(attemptId, "page_view", Map.of(
+                "page", "/portfolio/step/" + (sequence % 5 + 1),
+                "duration", 1_500 + sequence % 1_000,
+                "scrollDepth", sequence % 100,
+                "isMissionRelevant", true));
+    }
+}
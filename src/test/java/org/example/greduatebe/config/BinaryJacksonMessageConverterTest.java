@@ -0,0 +1,114 @@
+package org.example.greduatebe.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CBOR/Smile STOMP 인코딩 테스트
+ * Converter로 쓰고 다시 읽어 같은 메시지가 되는지, content-type을 알 수 없으면 JSON으로 처리되는지 확인합니다
+ */
+class BinaryJacksonMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void cborRoundTrip() throws Exception {
+        BinaryJacksonMessageConverter converter = new BinaryJacksonMessageConverter(objectMapper, StompPayloadEncoding.CBOR);
+
+        Message<?> encoded = converter.toMessage(sample(), headers(StompPayloadEncoding.CBOR.getOutboundContentType()));
+
+        assertThat(encoded).isNotNull();
+        assertThat(encoded.getHeaders().get(MessageHeaders.CONTENT_TYPE).toString())
+                .isEqualTo("application/octet-stream;format=cbor");
+        // 실제로 CBOR로 인코딩되었는지 CBOR 파서로 확인
+        JsonNode tree = new ObjectMapper(new CBORFactory()).readTree((byte[]) encoded.getPayload());
+        assertThat(tree.get("eventType").asText()).isEqualTo("click");
+        assertThat(converter.fromMessage(encoded, WebSocketMessage.class)).isEqualTo(sample());
+    }
+
+    @Test
+    void smileRoundTrip() {
+        BinaryJacksonMessageConverter converter = new BinaryJacksonMessageConverter(objectMapper, StompPayloadEncoding.SMILE);
+
+        Message<?> encoded = converter.toMessage(sample(), headers(StompPayloadEncoding.SMILE.getOutboundContentType()));
+
+        byte[] payload = (byte[]) encoded.getPayload();
+        // Smile 헤더 ":)\n"
+        assertThat(new String(payload, 0, 3)).isEqualTo(":)\n");
+        assertThat(converter.fromMessage(encoded, WebSocketMessage.class)).isEqualTo(sample());
+    }
+
+    @Test
+    void clientContentTypeIsAccepted() {
+        BinaryJacksonMessageConverter converter = new BinaryJacksonMessageConverter(objectMapper, StompPayloadEncoding.CBOR);
+        byte[] payload = (byte[]) converter.toMessage(sample(),
+                headers(StompPayloadEncoding.CBOR.getOutboundContentType())).getPayload();
+
+        // 클라이언트는 SEND 프레임에 application/cbor를 지정
+        Message<byte[]> send = MessageBuilder.withPayload(payload)
+                .setHeader(MessageHeaders.CONTENT_TYPE, new MimeType("application", "cbor"))
+                .build();
+
+        assertThat(converter.fromMessage(send, WebSocketMessage.class)).isEqualTo(sample());
+    }
+
+    @Test
+    void converterOnlyHandlesItsOwnEncoding() {
+        BinaryJacksonMessageConverter cbor = new BinaryJacksonMessageConverter(objectMapper, StompPayloadEncoding.CBOR);
+        Message<byte[]> json = MessageBuilder.withPayload("{\"eventType\":\"click\"}".getBytes())
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build();
+        Message<byte[]> smile = MessageBuilder.withPayload(new byte[0])
+                .setHeader(MessageHeaders.CONTENT_TYPE, StompPayloadEncoding.SMILE.getOutboundContentType())
+                .build();
+        Message<byte[]> noContentType = MessageBuilder.withPayload(new byte[0]).build();
+
+        assertThat(cbor.fromMessage(json, WebSocketMessage.class)).isNull();
+        assertThat(cbor.fromMessage(smile, WebSocketMessage.class)).isNull();
+        assertThat(cbor.fromMessage(noContentType, WebSocketMessage.class)).isNull();
+        assertThatThrownBy(() -> new BinaryJacksonMessageConverter(objectMapper, StompPayloadEncoding.JSON))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unknownContentTypeFallsBackToJson() {
+        assertThat(StompPayloadEncoding.from(null)).isEqualTo(StompPayloadEncoding.JSON);
+        assertThat(StompPayloadEncoding.from(MimeTypeUtils.TEXT_PLAIN)).isEqualTo(StompPayloadEncoding.JSON);
+        assertThat(StompPayloadEncoding.from(MimeTypeUtils.APPLICATION_OCTET_STREAM)).isEqualTo(StompPayloadEncoding.JSON);
+        assertThat(StompPayloadEncoding.from(MimeType.valueOf("application/octet-stream;format=avro")))
+                .isEqualTo(StompPayloadEncoding.JSON);
+
+        assertThat(StompPayloadEncoding.from(MimeType.valueOf("application/cbor"))).isEqualTo(StompPayloadEncoding.CBOR);
+        assertThat(StompPayloadEncoding.from(MimeType.valueOf("application/octet-stream;format=SMILE")))
+                .isEqualTo(StompPayloadEncoding.SMILE);
+    }
+
+    private static MessageHeaders headers(MimeType contentType) {
+        return new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, contentType));
+    }
+
+    private static WebSocketMessage sample() {
+        return WebSocketMessage.builder()
+                .eventType("click")
+                .sessionId("test-session")
+                .attemptId("attempt_binary")
+                .clientEventId("c-1")
+                .timestamp(LocalDateTime.of(2025, 3, 1, 10, 15, 30))
+                .data(Map.of("elementId", "btn-next", "count", 3))
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.greduatebe.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MissionAckDispatcher 세션별 직접 전송 테스트
+ * clientOutboundChannel은 mock으로 대체하고, 구독한 세션마다 해당 subscriptionId로 한 프레임씩 보내는지 확인합니다
+ */
+class MissionAckDispatcherTest {
+
+    private static final String ACK_DESTINATION = "/topic/mission/attempt_1/ack";
+    private static final Map<String, Object> PAYLOAD = Map.of("status", "success", "eventId", "event_1");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MessageChannel clientOutboundChannel;
+    private MissionAckDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        clientOutboundChannel = mock(MessageChannel.class);
+        when(clientOutboundChannel.send(any())).thenReturn(true);
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        when(messagingTemplate.getMessageConverter()).thenReturn(new CompositeMessageConverter(List.of(
+                new BinaryJacksonMessageConverter(objectMapper, StompPayloadEncoding.CBOR),
+                new BinaryJacksonMessageConverter(objectMapper, StompPayloadEncoding.SMILE),
+                new MappingJackson2MessageConverter())));
+
+        dispatcher = new MissionAckDispatcher(clientOutboundChannel, messagingTemplate, Runnable::run, meterRegistry);
+        dispatcher.registerMetrics();
+    }
+
+    @Test
+    void sendsOneFramePerSubscribedSession() {
+        dispatcher.onSubscribe(subscribe("session-1", "sub-1", ACK_DESTINATION));
+        dispatcher.onSubscribe(subscribe("session-2", "sub-7", ACK_DESTINATION));
+        dispatcher.onSubscribe(subscribe("session-3", "sub-1", "/topic/mission/attempt_2/ack"));
+
+        int delivered = dispatcher.send(ACK_DESTINATION, PAYLOAD, StompPayloadEncoding.JSON);
+
+        assertThat(delivered).isEqualTo(2);
+        Map<String, String> subscriptionBySession = new HashMap<>();
+        for (Message<?> message : sentMessages(2)) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+            assertThat(accessor.getMessageType()).isEqualTo(SimpMessageType.MESSAGE);
+            assertThat(accessor.getDestination()).isEqualTo(ACK_DESTINATION);
+            subscriptionBySession.put(accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+        assertThat(subscriptionBySession).containsExactlyInAnyOrderEntriesOf(
+                Map.of("session-1", "sub-1", "session-2", "sub-7"));
+        assertThat(meterRegistry.get("mission.ack.delivered").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void messageWithoutSubscriberIsDropped() {
+        dispatcher.onSubscribe(subscribe("session-1", "sub-1", "/topic/other"));
+
+        assertThat(dispatcher.send(ACK_DESTINATION, PAYLOAD, StompPayloadEncoding.JSON)).isZero();
+
+        verify(clientOutboundChannel, never()).send(any());
+        assertThat(meterRegistry.get("mission.ack.undelivered").counter().count()).isEqualTo(1.0);
+        // /topic/mission/** 이외의 구독은 추적하지 않음
+        assertThat(meterRegistry.get("mission.ack.subscriptions").gauge().value()).isZero();
+    }
+
+    @Test
+    void unsubscribeAndDisconnectStopDelivery() {
+        dispatcher.onSubscribe(subscribe("session-1", "sub-1", ACK_DESTINATION));
+        dispatcher.onSubscribe(subscribe("session-2", "sub-2", ACK_DESTINATION));
+        dispatcher.onSubscribe(subscribe("session-2", "sub-3", "/topic/mission/attempt_1/error"));
+        assertThat(meterRegistry.get("mission.ack.subscriptions").gauge().value()).isEqualTo(3.0);
+
+        dispatcher.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(SimpMessageType.UNSUBSCRIBE,
+                "session-1", "sub-1", null)));
+        assertThat(dispatcher.send(ACK_DESTINATION, PAYLOAD, StompPayloadEncoding.JSON)).isEqualTo(1);
+
+        dispatcher.onDisconnect(new SessionDisconnectEvent(this,
+                frame(SimpMessageType.DISCONNECT, "session-2", null, null), "session-2", CloseStatus.NORMAL));
+        assertThat(dispatcher.send(ACK_DESTINATION, PAYLOAD, StompPayloadEncoding.JSON)).isZero();
+        assertThat(dispatcher.send("/topic/mission/attempt_1/error", PAYLOAD, StompPayloadEncoding.JSON)).isZero();
+        assertThat(meterRegistry.get("mission.ack.subscriptions").gauge().value()).isZero();
+    }
+
+    @Test
+    void binaryEncodingUsesOutboundContentType() throws Exception {
+        dispatcher.onSubscribe(subscribe("session-1", "sub-1", ACK_DESTINATION));
+
+        dispatcher.send(ACK_DESTINATION, PAYLOAD, StompPayloadEncoding.CBOR);
+
+        Message<?> message = sentMessages(1).get(0);
+        assertThat(SimpMessageHeaderAccessor.wrap(message).getContentType())
+                .isEqualTo(StompPayloadEncoding.CBOR.getOutboundContentType());
+        assertThat(new ObjectMapper(new CBORFactory()).readTree((byte[]) message.getPayload()).get("eventId").asText())
+                .isEqualTo("event_1");
+    }
+
+    private List<Message<?>> sentMessages(int count) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(clientOutboundChannel, times(count)).send(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        return new SessionSubscribeEvent(this, frame(SimpMessageType.SUBSCRIBE, sessionId, subscriptionId, destination));
+    }
+
+    private static Message<byte[]> frame(SimpMessageType type, String sessionId, String subscriptionId,
+                                         String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.greduatebe.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.greduatebe.config.StompSessionRegistry.SessionSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * StompSessionRegistry 세션/시도 추적 테스트
+ */
+class StompSessionRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StompSessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new StompSessionRegistry(meterRegistry);
+        ReflectionTestUtils.setField(registry, "idleTimeoutMs", 60_000L);
+        registry.registerMetrics();
+    }
+
+    @Test
+    void registerAndUnregisterTrackActiveSessions() {
+        registry.register(session("session-1"));
+        registry.register(session("session-2"));
+
+        assertThat(registry.getSessions()).extracting(SessionSnapshot::sessionId)
+                .containsExactlyInAnyOrder("session-1", "session-2");
+        assertThat(gauge("stomp.sessions.active")).isEqualTo(2.0);
+
+        registry.unregister("session-1");
+
+        assertThat(registry.getSessions()).extracting(SessionSnapshot::sessionId).containsExactly("session-2");
+        assertThat(gauge("stomp.sessions.active")).isEqualTo(1.0);
+    }
+
+    @Test
+    void attemptsFromEventsAndSubscriptionsAreCountedOnce() {
+        registry.register(session("session-1"));
+        registry.register(session("session-2"));
+
+        registry.recordEvents("session-1", "attempt_a", 3);
+        registry.recordSubscribe("session-1", "/topic/mission/attempt_a/ack");
+        registry.recordSubscribe("session-1", "/topic/mission/attempt_b");
+        registry.recordSubscribe("session-2", "/topic/mission/attempt_b/error");
+        registry.recordSubscribe("session-2", "/topic/notice");
+
+        SessionSnapshot first = snapshot("session-1");
+        assertThat(first.attemptIds()).containsExactlyInAnyOrder("attempt_a", "attempt_b");
+        assertThat(first.eventsReceived()).isEqualTo(3);
+        assertThat(first.subscriptions()).isEqualTo(2);
+        assertThat(snapshot("session-2").attemptIds()).containsExactly("attempt_b");
+
+        // 세션 두 개가 같은 시도를 보고 있어도 시도는 한 번만 셈
+        assertThat(gauge("stomp.sessions.attempts")).isEqualTo(2.0);
+        assertThat(gauge("stomp.sessions.subscriptions")).isEqualTo(4.0);
+
+        registry.unregister("session-1");
+        assertThat(gauge("stomp.sessions.attempts")).isEqualTo(1.0);
+    }
+
+    @Test
+    void unknownSessionIsIgnoredButCountedGlobally() {
+        registry.recordEvents("session-unknown", "attempt_a", 2);
+        registry.recordEvents(null, "attempt_a", 1);
+        registry.recordSubscribe("session-unknown", "/topic/mission/attempt_a/ack");
+        registry.recordUnsubscribe("session-unknown");
+
+        assertThat(registry.getSessions()).isEmpty();
+        assertThat(meterRegistry.get("stomp.inbound.events").functionCounter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void unsubscribeDoesNotGoBelowZero() {
+        registry.register(session("session-1"));
+        registry.recordSubscribe("session-1", "/topic/mission/attempt_a/ack");
+
+        registry.recordUnsubscribe("session-1");
+        registry.recordUnsubscribe("session-1");
+
+        assertThat(snapshot("session-1").subscriptions()).isZero();
+        // 구독을 해제해도 세션이 다룬 시도 기록은 유지
+        assertThat(snapshot("session-1").attemptIds()).containsExactly("attempt_a");
+    }
+
+    @Test
+    void idleSessionIsClosed() throws Exception {
+        WebSocketSession idle = session("session-idle");
+        registry.register(idle);
+        ReflectionTestUtils.setField(registry, "idleTimeoutMs", 10L);
+        Thread.sleep(50);
+        WebSocketSession active = session("session-active");
+        registry.register(active);
+
+        registry.closeIdleSessions();
+
+        verify(idle).close(any(CloseStatus.class));
+        verify(active, never()).close(any(CloseStatus.class));
+        assertThat(meterRegistry.get("stomp.sessions.idle.closed").counter().count()).isEqualTo(1.0);
+    }
+
+    private SessionSnapshot snapshot(String sessionId) {
+        List<SessionSnapshot> sessions = registry.getSessions();
+        return sessions.stream().filter(s -> s.sessionId().equals(sessionId)).findFirst().orElseThrow();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static WebSocketSession session(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        return session;
+    }
+}
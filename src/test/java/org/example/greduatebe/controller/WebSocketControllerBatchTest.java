@@ -0,0 +1,173 @@
+package org.example.greduatebe.controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.greduatebe.config.MissionAckDispatcher;
+import org.example.greduatebe.config.StompPayloadEncoding;
+import org.example.greduatebe.config.StompSessionRegistry;
+import org.example.greduatebe.dto.request.WebSocketEventBatch;
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.dto.response.EventBatchAck;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.exception.EventQueueFullException;
+import org.example.greduatebe.exception.InvalidEventException;
+import org.example.greduatebe.service.EventIngestionPipeline;
+import org.example.greduatebe.service.EventIngestionResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * STOMP 배치 ACK 테스트
+ * 파이프라인은 mock으로 대체하고, clientEventId 접두사로 이벤트별 결과를 정합니다
+ * (ok: 저장, dup: 중복, bad: 최종 실패, full: 재전송 필요)
+ */
+class WebSocketControllerBatchTest {
+
+    private static final String ATTEMPT_ID = "attempt_stomp";
+    private static final String ACK_DESTINATION = "/topic/mission/" + ATTEMPT_ID + "/ack";
+    private static final String ERROR_DESTINATION = "/topic/mission/" + ATTEMPT_ID + "/error";
+
+    private EventIngestionPipeline ingestionPipeline;
+    private MissionAckDispatcher ackDispatcher;
+    private WebSocketController controller;
+
+    @BeforeEach
+    void setUp() {
+        ingestionPipeline = mock(EventIngestionPipeline.class);
+        when(ingestionPipeline.getMaxBatchEvents()).thenReturn(1000);
+        when(ingestionPipeline.submitAll(anyList())).thenAnswer(invocation -> {
+            List<WebSocketMessage> messages = invocation.getArgument(0);
+            return messages.stream().map(WebSocketControllerBatchTest::complete).toList();
+        });
+        ackDispatcher = mock(MissionAckDispatcher.class);
+
+        controller = new WebSocketController(ingestionPipeline, ackDispatcher, mock(StompSessionRegistry.class),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(controller, "maxBatchEvents", 200);
+        controller.registerMetrics();
+    }
+
+    @Test
+    void allResolvedEventsMoveHighWatermarkToLastSequence() {
+        EventBatchAck ack = sendBatch(10L, event("ok-0"), event("dup-1"), event("ok-2"));
+
+        assertThat(ack.getHighWatermark()).isEqualTo(12L);
+        assertThat(ack.getDuplicates()).isEqualTo(1);
+        assertThat(ack.getAcceptedEventIds()).containsExactly("event_ok-0", "event_dup-1", "event_ok-2");
+        assertThat(ack.getErrors()).isNull();
+    }
+
+    @Test
+    void retryableErrorEndsResolvedPrefix() {
+        EventBatchAck ack = sendBatch(10L, event("ok-0"), event("bad-1"), event("full-2"), event("ok-3"));
+
+        // bad-1은 다시 보내도 결과가 같으므로 처리 완료, full-2부터 재전송
+        assertThat(ack.getHighWatermark()).isEqualTo(11L);
+        assertThat(ack.getAcceptedEventIds()).containsExactly("event_ok-0", null, null, "event_ok-3");
+        assertThat(ack.getErrors()).extracting(EventBatchAck.EventError::getIndex).containsExactly(1, 2);
+        assertThat(ack.getErrors()).extracting(EventBatchAck.EventError::getCode)
+                .containsExactly("INVALID_EVENT", "EVENT_QUEUE_FULL");
+    }
+
+    @Test
+    void retryableFirstEventGivesNoHighWatermark() {
+        EventBatchAck ack = sendBatch(0L, event("full-0"), event("ok-1"));
+
+        assertThat(ack.getHighWatermark()).isNull();
+        assertThat(ack.getErrors()).extracting(EventBatchAck.EventError::getIndex).containsExactly(0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void eventOfAnotherAttemptIsRejectedAndNotSubmitted() {
+        WebSocketMessage other = event("ok-1");
+        other.setAttemptId("attempt_other");
+
+        EventBatchAck ack = sendBatch(5L, event("ok-0"), other, event("ok-2"));
+
+        assertThat(ack.getHighWatermark()).isEqualTo(7L);
+        assertThat(ack.getAcceptedEventIds()).containsExactly("event_ok-0", null, "event_ok-2");
+        assertThat(ack.getErrors()).extracting(EventBatchAck.EventError::getCode).containsExactly("INVALID_EVENT");
+        assertThat(ack.getErrors().get(0).getError()).contains("attempt_other");
+
+        ArgumentCaptor<List<WebSocketMessage>> submitted = ArgumentCaptor.forClass(List.class);
+        verify(ingestionPipeline).submitAll(submitted.capture());
+        assertThat(submitted.getValue()).extracting(WebSocketMessage::getClientEventId).containsExactly("ok-0", "ok-2");
+    }
+
+    @Test
+    void batchWithoutBaseSeqIsRejected() {
+        controller.handleMissionEventBatch(batch(null, event("ok-0")), null, "stomp-session");
+
+        verify(ackDispatcher).send(eq(ERROR_DESTINATION), any(), eq(StompPayloadEncoding.JSON));
+        verify(ackDispatcher, never()).send(eq(ACK_DESTINATION), any(), any());
+        verify(ingestionPipeline, never()).submitAll(anyList());
+    }
+
+    @Test
+    void fullQueueSendsOneErrorForWholeBatch() {
+        when(ingestionPipeline.submitAll(anyList()))
+                .thenThrow(new EventQueueFullException("Event queue is full, please retry the whole batch later"));
+
+        controller.handleMissionEventBatch(batch(0L, event("ok-0"), event("ok-1")), null, "stomp-session");
+
+        verify(ackDispatcher).send(eq(ERROR_DESTINATION), any(), eq(StompPayloadEncoding.JSON));
+        verify(ackDispatcher, never()).send(eq(ACK_DESTINATION), any(), any());
+    }
+
+    private EventBatchAck sendBatch(Long baseSeq, WebSocketMessage... events) {
+        controller.handleMissionEventBatch(batch(baseSeq, events), null, "stomp-session");
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(ackDispatcher).send(eq(ACK_DESTINATION), payload.capture(), eq(StompPayloadEncoding.JSON));
+        return (EventBatchAck) payload.getValue();
+    }
+
+    private static WebSocketEventBatch batch(Long baseSeq, WebSocketMessage... events) {
+        return WebSocketEventBatch.builder()
+                .attemptId(ATTEMPT_ID)
+                .sessionId("test-session")
+                .baseSeq(baseSeq)
+                .events(Arrays.asList(events))
+                .build();
+    }
+
+    private static WebSocketMessage event(String clientEventId) {
+        return WebSocketMessage.builder()
+                .eventType("click")
+                .clientEventId(clientEventId)
+                .build();
+    }
+
+    private static CompletableFuture<EventIngestionResult> complete(WebSocketMessage message) {
+        String clientEventId = message.getClientEventId();
+        if (clientEventId.startsWith("bad")) {
+            return CompletableFuture.failedFuture(new InvalidEventException("invalid data: " + clientEventId));
+        }
+        if (clientEventId.startsWith("full")) {
+            return CompletableFuture.failedFuture(new EventQueueFullException("Event queue is full, please retry later"));
+        }
+        MissionEvent event = MissionEvent.builder()
+                .eventId("event_" + clientEventId)
+                .attemptId(message.getAttemptId())
+                .eventType(message.getEventType())
+                .build();
+        return CompletableFuture.completedFuture(clientEventId.startsWith("dup")
+                ? EventIngestionResult.duplicate(message, event)
+                : EventIngestionResult.success(message, event));
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.greduatebe.repository;
+
+import org.example.greduatebe.repository.MissionAttemptListRepository.Cursor;
+import org.example.greduatebe.repository.MissionAttemptListRepository.ListRow;
+import org.example.greduatebe.support.MissionTestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미션 시도 목록 keyset 페이징 테스트
+ * start_time이 같은 시도는 id로 순서가 정해져, 페이지 경계에서 빠지거나 겹치지 않는지 확인합니다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.example.greduatebe=WARN"
+})
+class MissionAttemptListRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MissionAttemptRepository missionAttemptRepository;
+
+    @Autowired
+    private MissionAttemptListRepository missionAttemptListRepository;
+
+    @Test
+    void startTimeTieIsBrokenById() {
+        LocalDateTime startTime = LocalDateTime.of(2001, 1, 1, 12, 0);
+        List<String> created = IntStream.range(0, 5)
+                .mapToObj(i -> MissionTestFixtures.createAttempt(missionAttemptRepository, startTime))
+                .toList();
+
+        List<String> seen = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        Cursor after = null;
+        for (int page = 0; page < 5; page++) {
+            List<ListRow> rows = missionAttemptListRepository.findPage(null, null, startTime, startTime, after, 2);
+            if (rows.isEmpty()) {
+                break;
+            }
+            rows.forEach(row -> {
+                seen.add(row.response().getAttemptId());
+                ids.add(row.cursor().id());
+            });
+            after = rows.get(rows.size() - 1).cursor();
+        }
+
+        // 같은 start_time 5건이 2건씩 3페이지에 한 번씩만, id 내림차순으로 조회됨
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(created);
+        assertThat(ids).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(ids).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void limitAboveRemainingRowsReturnsOnlyRemaining() {
+        LocalDateTime startTime = LocalDateTime.of(2001, 2, 1, 12, 0);
+        for (int i = 0; i < 3; i++) {
+            MissionTestFixtures.createAttempt(missionAttemptRepository, startTime.plusMinutes(i));
+        }
+        LocalDateTime endTime = startTime.plusMinutes(2);
+
+        // 서비스는 size + 1건을 요청하므로, 남은 건수가 정확히 size(3)면 다음 페이지가 없음
+        List<ListRow> rows = missionAttemptListRepository.findPage(null, null, startTime, endTime, null, 4);
+        List<ListRow> afterLast = missionAttemptListRepository.findPage(null, null, startTime, endTime,
+                rows.get(rows.size() - 1).cursor(), 4);
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows).extracting(row -> row.response().getStartTime())
+                .containsExactly(endTime, startTime.plusMinutes(1), startTime);
+        assertThat(afterLast).isEmpty();
+    }
+}
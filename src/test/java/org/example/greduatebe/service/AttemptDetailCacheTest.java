@@ -0,0 +1,102 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.greduatebe.dto.response.dashboard.AttemptDetailDto;
+import org.example.greduatebe.entity.MissionStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AttemptDetailCache 무효화 시점 테스트
+ * 트랜잭션 동기화를 직접 열고 닫아, 스냅샷이 커밋 이후에만 무효화되는지 확인합니다
+ */
+class AttemptDetailCacheTest {
+
+    private static final String ATTEMPT_ID = "attempt_cache";
+
+    private MissionAnalysisService analysisService;
+    private AttemptDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        analysisService = mock(MissionAnalysisService.class);
+        when(analysisService.getAttemptDetail(ATTEMPT_ID)).thenReturn(AttemptDetailDto.builder()
+                .attemptId(ATTEMPT_ID)
+                .status(MissionStatus.COMPLETED)
+                .build());
+
+        cache = new AttemptDetailCache(analysisService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "liveTtlMs", 60_000L);
+        cache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void snapshotIsInvalidatedOnlyAfterCommit() {
+        cache.get(ATTEMPT_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateAfterCommit(List.of(ATTEMPT_ID));
+
+        // 커밋 전에는 이전 스냅샷을 그대로 사용
+        cache.get(ATTEMPT_ID);
+        verify(analysisService, times(1)).getAttemptDetail(ATTEMPT_ID);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.get(ATTEMPT_ID);
+        verify(analysisService, times(2)).getAttemptDetail(ATTEMPT_ID);
+    }
+
+    @Test
+    void rolledBackTransactionKeepsSnapshot() {
+        cache.get(ATTEMPT_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateAfterCommit(List.of(ATTEMPT_ID));
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.get(ATTEMPT_ID);
+        verify(analysisService, times(1)).getAttemptDetail(ATTEMPT_ID);
+    }
+
+    @Test
+    void invalidationOutsideTransactionIsImmediate() {
+        cache.get(ATTEMPT_ID);
+
+        cache.invalidateAfterCommit(List.of(ATTEMPT_ID));
+        cache.get(ATTEMPT_ID);
+
+        verify(analysisService, times(2)).getAttemptDetail(ATTEMPT_ID);
+    }
+
+    @Test
+    void missingAttemptIsNotCached() {
+        assertThat(cache.get("attempt_missing")).isNull();
+        assertThat(cache.get("attempt_missing")).isNull();
+
+        verify(analysisService, times(2)).getAttemptDetail("attempt_missing");
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.greduatebe.service;
+
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.MissionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * DashboardAggregates 재계산 중 증분 반영 테스트
+ * DB 조회는 mock으로 대체하고, 조회 중과 교체 전후에 계속 들어오는 증분이 빠지지 않는지 확인합니다
+ */
+class DashboardAggregatesRebuildTest {
+
+    private static final long DB_ATTEMPTS = 10;
+    private static final int WRITERS = 4;
+    private static final int INCREMENTS_PER_WRITER = 5_000;
+
+    @Test
+    void incrementsDuringRebuildAreReplayedOntoNewCounters() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        DashboardAggregates aggregates = new DashboardAggregates(jdbcTemplate);
+        LocalDateTime startTime = LocalDateTime.now();
+
+        List<Thread> writers = new ArrayList<>();
+        CountDownLatch started = new CountDownLatch(WRITERS);
+        doAnswer(invocation -> {
+            // 조회 중에 증분 시작 (교체 이후까지 계속 반영)
+            for (int i = 0; i < WRITERS; i++) {
+                Thread writer = new Thread(() -> {
+                    for (int n = 0; n < INCREMENTS_PER_WRITER; n++) {
+                        aggregates.onAttemptStarted(MissionType.PORTFOLIO, startTime);
+                        if (n == INCREMENTS_PER_WRITER / 10) {
+                            started.countDown();
+                        }
+                    }
+                });
+                writer.start();
+                writers.add(writer);
+            }
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(attemptRow(startTime));
+            return null;
+        }).when(jdbcTemplate).query(contains("FROM mission_attempts"), any(RowCallbackHandler.class));
+
+        aggregates.rebuild();
+        for (Thread writer : writers) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertThat(aggregates.countAttempts(MissionType.PORTFOLIO, MissionStatus.IN_PROGRESS))
+                .isEqualTo(DB_ATTEMPTS + (long) WRITERS * INCREMENTS_PER_WRITER);
+        assertThat(aggregates.hourlyAttempts(startTime.getHour() / 3))
+                .isEqualTo(DB_ATTEMPTS + (long) WRITERS * INCREMENTS_PER_WRITER);
+    }
+
+    private static ResultSet attemptRow(LocalDateTime startTime) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("mission_type")).thenReturn(MissionType.PORTFOLIO.name());
+        when(rs.getString("status")).thenReturn(MissionStatus.IN_PROGRESS.name());
+        when(rs.getInt("hour_bucket")).thenReturn(startTime.getHour() / 3);
+        when(rs.getLong("attempt_count")).thenReturn(DB_ATTEMPTS);
+        when(rs.getLong("duration_count")).thenReturn(0L);
+        when(rs.getBigDecimal("duration_sum")).thenReturn(BigDecimal.ZERO);
+        return rs;
+    }
+}
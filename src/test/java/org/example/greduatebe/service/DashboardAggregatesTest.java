@@ -0,0 +1,118 @@
+package org.example.greduatebe.service;
+
+import org.example.greduatebe.dto.request.MissionStartRequest;
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.MissionType;
+import org.example.greduatebe.support.MissionTestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DashboardAggregates 증분 갱신 테스트
+ * 시작/종료/만료/리뷰를 서비스 경로로 반영한 집계가 DB에서 다시 계산한 집계(rebuild)와 같은지 확인합니다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.example.greduatebe=WARN"
+})
+class DashboardAggregatesTest {
+
+    private static final Duration FINALIZATION_TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private DashboardAggregates dashboardAggregates;
+
+    @Autowired
+    private MissionService missionService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private MissionExpirySweeper sweeper;
+
+    @Test
+    void incrementalCountersMatchRebuild() {
+        dashboardAggregates.rebuild();
+
+        String completed = start(MissionType.PORTFOLIO, LocalDateTime.now().minusMinutes(3));
+        start(MissionType.PORTFOLIO, LocalDateTime.now().minusHours(2));
+        start(MissionType.PORTFOLIO, LocalDateTime.now());
+
+        // 종료 + 평가 (후처리 스레드에서 상태/리뷰 반영)
+        eventService.processEventBatch(List.of(
+                ReceivedMessage.now(message(completed, "mission_completed", Map.of())),
+                ReceivedMessage.now(message(completed, "mission_rating_submitted", Map.of(
+                        "rating", 4, "ratingText", "좋아요", "feedback", "설명이 친절해요", "hasFeedback", true)))));
+        MissionTestFixtures.await("completion and review of " + completed, FINALIZATION_TIMEOUT, () ->
+                dashboardAggregates.countAttempts(null, MissionStatus.COMPLETED) == 1
+                        && dashboardAggregates.countReviews(null) == 1);
+
+        // 기한이 지난 시도 만료 (예약된 sweep이 먼저 처리했을 수도 있음)
+        sweeper.catchUp();
+        MissionTestFixtures.await("expiry of the overdue attempt", FINALIZATION_TIMEOUT, () ->
+                dashboardAggregates.countAttempts(null, MissionStatus.EXPIRED) == 1);
+
+        List<Object> incremental = snapshot();
+        assertThat(dashboardAggregates.countAttempts(null, MissionStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(dashboardAggregates.averageDuration(null, MissionStatus.COMPLETED)).isNotNull();
+
+        dashboardAggregates.rebuild();
+
+        assertThat(snapshot()).isEqualTo(incremental);
+    }
+
+    private String start(MissionType missionType, LocalDateTime startTime) {
+        return missionService.startMission(new MissionStartRequest("test-session", missionType, startTime))
+                .getAttemptId();
+    }
+
+    private List<Object> snapshot() {
+        List<Object> values = new ArrayList<>();
+        for (MissionType missionType : MissionType.values()) {
+            for (MissionStatus status : MissionStatus.values()) {
+                values.add(missionType + "/" + status + " count=" + dashboardAggregates.countAttempts(missionType, status));
+                values.add(missionType + "/" + status + " avgDuration=" + dashboardAggregates.averageDuration(missionType, status));
+            }
+            values.add(missionType + " reviews=" + dashboardAggregates.countReviews(missionType));
+            values.add(missionType + " avgRating=" + dashboardAggregates.averageRating(missionType));
+        }
+        for (int bucket = 0; bucket < DashboardAggregates.HOUR_BUCKETS; bucket++) {
+            values.add("hour" + bucket + " attempts=" + dashboardAggregates.hourlyAttempts(bucket)
+                    + " completed=" + dashboardAggregates.hourlyCompleted(bucket));
+        }
+        for (int rating = 1; rating <= 5; rating++) {
+            values.add("rating" + rating + "=" + dashboardAggregates.countRating(rating));
+        }
+        values.add("withFeedback=" + dashboardAggregates.countReviewsWithFeedback());
+        return values;
+    }
+
+    private static WebSocketMessage message(String attemptId, String eventType, Map<String, Object> data) {
+        return WebSocketMessage.builder()
+                .eventType(eventType)
+                .sessionId("test-session")
+                .attemptId(attemptId)
+                .data(data)
+                .build();
+    }
+}
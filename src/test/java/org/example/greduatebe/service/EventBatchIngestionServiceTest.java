@@ -0,0 +1,180 @@
+package org.example.greduatebe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.dto.response.EventBatchResponse;
+import org.example.greduatebe.dto.response.EventBatchResponse.EventResult;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.exception.EventQueueFullException;
+import org.example.greduatebe.exception.InvalidRequestException;
+import org.example.greduatebe.exception.MissionNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * HTTP 이벤트 일괄 수집 테스트
+ * 파이프라인은 mock으로 대체하고 본문 형식, 크기 제한, 이벤트별 결과 순서를 확인합니다
+ * clientEventId가 "missing"으로 시작하는 이벤트는 파이프라인에서 MissionNotFoundException으로 실패합니다
+ */
+class EventBatchIngestionServiceTest {
+
+    private static final String ATTEMPT_ID = "attempt_http";
+
+    private EventIngestionPipeline ingestionPipeline;
+    private EventBatchIngestionService service;
+
+    @BeforeEach
+    void setUp() {
+        ingestionPipeline = mock(EventIngestionPipeline.class);
+        when(ingestionPipeline.getMaxBatchEvents()).thenReturn(1000);
+        when(ingestionPipeline.submitAll(anyList())).thenAnswer(invocation -> {
+            List<WebSocketMessage> messages = invocation.getArgument(0);
+            return messages.stream().map(EventBatchIngestionServiceTest::complete).toList();
+        });
+
+        service = new EventBatchIngestionService(ingestionPipeline, new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxEvents", 3);
+        ReflectionTestUtils.setField(service, "maxBodyBytes", 1024L);
+        ReflectionTestUtils.setField(service, "timeoutMs", 1000L);
+        service.init();
+    }
+
+    @Test
+    void jsonArrayAndNdjsonGiveSameResults() throws Exception {
+        EventBatchResponse array = ingest("[" + event("c-0") + ", " + event("c-1") + "]", false);
+        EventBatchResponse ndjson = ingest(event("c-0") + "\n" + event("c-1") + "\n", false);
+
+        assertThat(array.getAccepted()).isEqualTo(2);
+        assertThat(array.getResults()).extracting(EventResult::getEventId).containsExactly("event_c-0", "event_c-1");
+        assertThat(ndjson.getResults()).isEqualTo(array.getResults());
+    }
+
+    @Test
+    void gzipBodyIsDecompressed() throws Exception {
+        EventBatchResponse response = ingest(gzip(event("c-0") + "\n" + event("c-1")), true);
+
+        assertThat(response.getReceived()).isEqualTo(2);
+        assertThat(response.getAccepted()).isEqualTo(2);
+    }
+
+    @Test
+    void oversizedBatchIsRejectedBeforeSubmitting() {
+        String fourEvents = "[" + String.join(",", event("c-0"), event("c-1"), event("c-2"), event("c-3")) + "]";
+        // 압축 해제 후 크기로 제한 (gzip bomb)
+        byte[] padded = gzip("[" + event("c-0") + " ".repeat(4096) + "]");
+
+        assertThatThrownBy(() -> ingest(fourEvents, false))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("max 3");
+        assertThatThrownBy(() -> ingest(padded, true))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("exceeds 1024 bytes");
+        verify(ingestionPipeline, never()).submitAll(anyList());
+    }
+
+    @Test
+    void batchLimitIsCappedByLaneCapacity() {
+        when(ingestionPipeline.getMaxBatchEvents()).thenReturn(1);
+
+        assertThatThrownBy(() -> ingest("[" + event("c-0") + "," + event("c-1") + "]", false))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("max 1");
+    }
+
+    @Test
+    void malformedOrEmptyBodyIsRejected() {
+        assertThatThrownBy(() -> ingest("[" + event("c-0") + ",", false)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> ingest("[]", false)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void perEventErrorsKeepRequestOrder() throws Exception {
+        String otherAttempt = "{\"eventType\": \"click\", \"sessionId\": \"s-1\", \"attemptId\": \"attempt_other\", \"clientEventId\": \"c-1\"}";
+        String noSession = "{\"eventType\": \"click\", \"clientEventId\": \"c-2\"}";
+        ReflectionTestUtils.setField(service, "maxEvents", 10);
+
+        EventBatchResponse response = ingest(String.join("\n",
+                event("c-0"), otherAttempt, noSession, event("missing-3"), event("c-4")), false);
+
+        assertThat(response.getResults()).extracting(EventResult::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(response.getResults()).extracting(EventResult::getStatus)
+                .containsExactly("success", "error", "error", "error", "success");
+        assertThat(response.getResults()).extracting(EventResult::getCode)
+                .containsExactly(null, "INVALID_EVENT", "INVALID_EVENT", "MISSION_NOT_FOUND", null);
+        assertThat(response.getResults()).extracting(EventResult::getClientEventId)
+                .containsExactly("c-0", "c-1", "c-2", "missing-3", "c-4");
+        assertThat(response.getFailed()).isEqualTo(3);
+
+        // 검증에 실패한 이벤트는 파이프라인에 넣지 않음
+        ArgumentCaptor<List<WebSocketMessage>> submitted = ArgumentCaptor.forClass(List.class);
+        verify(ingestionPipeline).submitAll(submitted.capture());
+        assertThat(submitted.getValue()).extracting(WebSocketMessage::getClientEventId)
+                .containsExactly("c-0", "missing-3", "c-4");
+    }
+
+    @Test
+    void fullQueueRejectsWholeBatch() {
+        when(ingestionPipeline.submitAll(anyList()))
+                .thenThrow(new EventQueueFullException("Event queue is full, please retry the whole batch later"));
+
+        assertThatThrownBy(() -> ingest(event("c-0"), false)).isInstanceOf(EventQueueFullException.class);
+    }
+
+    private EventBatchResponse ingest(String body, boolean gzip) throws Exception {
+        return ingest(body.getBytes(StandardCharsets.UTF_8), gzip);
+    }
+
+    private EventBatchResponse ingest(byte[] body, boolean gzip) throws Exception {
+        InputStream in = new ByteArrayInputStream(body);
+        return service.ingest(ATTEMPT_ID, in, gzip).get(5, TimeUnit.SECONDS);
+    }
+
+    private static String event(String clientEventId) {
+        return "{\"eventType\": \"click\", \"sessionId\": \"s-1\", \"clientEventId\": \"" + clientEventId + "\"}";
+    }
+
+    private static CompletableFuture<EventIngestionResult> complete(WebSocketMessage message) {
+        if (message.getClientEventId().startsWith("missing")) {
+            return CompletableFuture.failedFuture(new MissionNotFoundException("Mission not found: " + ATTEMPT_ID));
+        }
+        return CompletableFuture.completedFuture(EventIngestionResult.success(message, MissionEvent.builder()
+                .eventId("event_" + message.getClientEventId())
+                .attemptId(message.getAttemptId())
+                .eventType(message.getEventType())
+                .build()));
+    }
+
+    private static byte[] gzip(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
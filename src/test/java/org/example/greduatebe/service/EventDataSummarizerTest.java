@@ -0,0 +1,80 @@
+package org.example.greduatebe.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.greduatebe.service.EventDataSummarizer.EventDataSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EventDataSummarizer 요약/미리보기 테스트
+ * 미리보기는 Map으로 읽은 뒤 "key: value"를 이어 붙이던 기존 형식과 같아야 합니다
+ */
+class EventDataSummarizerTest {
+
+    private final EventDataSummarizer summarizer = new EventDataSummarizer(new ObjectMapper());
+
+    @Test
+    void extractsTopLevelFieldsAndSkipsPageInPreview() {
+        EventDataSummary summary = summarizer.summarize("event_1", """
+                {"page": "/portfolio", "referrer": "/home", "duration": 3200, "scrollDepth": 75, "isMissionRelevant": true}
+                """);
+
+        assertThat(summary.page()).isEqualTo("/portfolio");
+        assertThat(summary.referrer()).isEqualTo("/home");
+        assertThat(summary.duration()).isEqualTo(3200L);
+        assertThat(summary.scrollDepth()).isEqualTo(75);
+        assertThat(summary.isMissionRelevant()).isTrue();
+        assertThat(summary.preview()).isEqualTo("referrer: /home, duration: 3200, scrollDepth: 75, isMissionRelevant: true");
+    }
+
+    @Test
+    void nestedObjectsAndArraysUseCollectionToString() {
+        EventDataSummary summary = summarizer.summarize("event_1", """
+                {"page": "/p", "filter": {"sector": "IT", "range": [1, 2.5]}, "tags": ["a", "b"], "note": null}
+                """);
+
+        assertThat(summary.page()).isEqualTo("/p");
+        assertThat(summary.preview()).isEqualTo("filter: {sector=IT, range=[1, 2.5]}, tags: [a, b]");
+    }
+
+    @Test
+    void escapedStringsAreUnescaped() {
+        EventDataSummary summary = summarizer.summarize("event_1", """
+                {"referrer": "/a\\"b", "label": "say \\"hi\\"", "path": "C:\\\\temp"}
+                """);
+
+        assertThat(summary.referrer()).isEqualTo("/a\"b");
+        assertThat(summary.preview()).isEqualTo("referrer: /a\"b, label: say \"hi\", path: C:\\temp");
+    }
+
+    @Test
+    void previewIsTruncatedButFieldsAfterLimitAreStillExtracted() {
+        String longText = "x".repeat(120);
+        EventDataSummary summary = summarizer.summarize("event_1",
+                "{\"label\": \"" + longText + "\", \"detail\": {\"deep\": [1, 2, 3]}, \"duration\": 500}");
+
+        assertThat(summary.preview()).isEqualTo(("label: " + longText).substring(0, 100) + "...");
+        assertThat(summary.duration()).isEqualTo(500L);
+    }
+
+    @Test
+    void previewIsTruncatedInsideNestedArray() {
+        List<Integer> items = IntStream.range(0, 50).boxed().toList();
+        EventDataSummary summary = summarizer.summarize("event_1", "{\"items\": " + items + "}");
+
+        assertThat(summary.preview()).isEqualTo(("items: " + items).substring(0, 100) + "...");
+    }
+
+    @Test
+    void malformedOrNonObjectDataGivesEmptySummary() {
+        assertThat(summarizer.summarize("event_1", "{\"page\": \"/a\", ")).isEqualTo(EventDataSummary.EMPTY);
+        assertThat(summarizer.summarize("event_1", "{\"page\": }")).isEqualTo(EventDataSummary.EMPTY);
+        assertThat(summarizer.summarize("event_1", "[1, 2]")).isEqualTo(EventDataSummary.EMPTY);
+        assertThat(summarizer.summarize("event_1", null)).isEqualTo(EventDataSummary.EMPTY);
+        assertThat(summarizer.summarize("event_1", "{}").preview()).isNull();
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.exception.EventQueueFullException;
+import org.example.greduatebe.support.MissionTestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * EventIngestionPipeline lane 순서/용량 테스트
+ * EventService는 stub으로 대체하고, 처리된 순서를 시도별로 기록해 제출 순서와 비교합니다
+ */
+class EventIngestionPipelineTest {
+
+    private static final int LANES = 4;
+    private static final int ATTEMPTS = 16;
+    private static final int EVENTS_PER_ATTEMPT = 200;
+
+    private final Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+    private final Set<String> laneThreads = ConcurrentHashMap.newKeySet();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EventIngestionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        EventService eventService = mock(EventService.class);
+        when(eventService.processEventBatch(anyList())).thenAnswer(invocation -> process(invocation.getArgument(0)));
+
+        pipeline = new EventIngestionPipeline(eventService, meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", ATTEMPTS * EVENTS_PER_ATTEMPT);
+        ReflectionTestUtils.setField(pipeline, "batchSize", 7);
+        ReflectionTestUtils.setField(pipeline, "lingerMs", 1L);
+        ReflectionTestUtils.setField(pipeline, "offerTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(pipeline, "laneCount", LANES);
+        ReflectionTestUtils.setField(pipeline, "metricEventTypes", new String[]{"click"});
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    @Test
+    void eventsOfEachAttemptAreProcessedInSubmissionOrderAcrossLanes() throws Exception {
+        List<String> attemptIds = IntStream.range(0, ATTEMPTS).mapToObj(i -> "attempt_" + i).toList();
+
+        // 여러 생산자 스레드가 시도별로 번갈아 제출 (시도 하나는 항상 같은 스레드에서 순서대로 제출)
+        List<CompletableFuture<Void>> producers = new ArrayList<>();
+        for (int producer = 0; producer < LANES; producer++) {
+            List<String> owned = attemptIds.subList(producer * ATTEMPTS / LANES, (producer + 1) * ATTEMPTS / LANES);
+            producers.add(CompletableFuture.runAsync(() -> {
+                List<CompletableFuture<EventIngestionResult>> futures = new ArrayList<>();
+                for (int sequence = 0; sequence < EVENTS_PER_ATTEMPT; sequence++) {
+                    for (String attemptId : owned) {
+                        futures.add(pipeline.submit(message(attemptId, sequence)));
+                    }
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            }));
+        }
+        CompletableFuture.allOf(producers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        List<Integer> expected = IntStream.range(0, EVENTS_PER_ATTEMPT).boxed().toList();
+        assertThat(processed).hasSize(ATTEMPTS);
+        processed.forEach((attemptId, sequences) ->
+                assertThat(sequences).as("processing order of %s", attemptId).isEqualTo(expected));
+        assertThat(laneThreads).as("attempts should be spread over several lanes").hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void submitAllKeepsRequestOrderForOneAttempt() throws Exception {
+        List<WebSocketMessage> messages = IntStream.range(0, EVENTS_PER_ATTEMPT)
+                .mapToObj(sequence -> message("attempt_batch", sequence))
+                .toList();
+
+        List<CompletableFuture<EventIngestionResult>> futures = pipeline.submitAll(messages);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertThat(processed.get("attempt_batch"))
+                .isEqualTo(IntStream.range(0, EVENTS_PER_ATTEMPT).boxed().toList());
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).join().getEvent().getEventId()).isEqualTo("event_" + i);
+        }
+    }
+
+    @Test
+    void submitAllRejectsWholeBatchWhenLaneCannotFitIt() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        EventService blocked = mock(EventService.class);
+        when(blocked.processEventBatch(anyList())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return process(invocation.getArgument(0));
+        });
+        EventIngestionPipeline small = new EventIngestionPipeline(blocked, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(small, "queueCapacity", 4);
+        ReflectionTestUtils.setField(small, "batchSize", 1);
+        ReflectionTestUtils.setField(small, "lingerMs", 1L);
+        ReflectionTestUtils.setField(small, "offerTimeoutMs", 20L);
+        ReflectionTestUtils.setField(small, "laneCount", 1);
+        ReflectionTestUtils.setField(small, "metricEventTypes", new String[0]);
+        small.start();
+
+        try {
+            // lane 스레드가 첫 이벤트를 저장하는 중에 멈춘 상태에서 용량 4 중 3을 채움
+            CompletableFuture<EventIngestionResult> first = small.submit(message("attempt_full", 0));
+            MissionTestFixtures.await("lane thread picks up the first event", Duration.ofSeconds(5),
+                    () -> small.getQueueSize() == 0);
+            List<CompletableFuture<EventIngestionResult>> accepted = small.submitAll(
+                    IntStream.rangeClosed(1, 3).mapToObj(sequence -> message("attempt_full", sequence)).toList());
+
+            // 남은 자리(1)보다 큰 배치는 앞쪽 일부만 들어가지 않고 한 건도 등록되지 않음
+            assertThatThrownBy(() -> small.submitAll(
+                    IntStream.rangeClosed(4, 5).mapToObj(sequence -> message("attempt_full", sequence)).toList()))
+                    .isInstanceOf(EventQueueFullException.class);
+            assertThat(small.getQueueSize()).isEqualTo(3);
+            // lane 용량보다 큰 배치는 자리가 나도 등록할 수 없음
+            assertThat(small.getMaxBatchEvents()).isEqualTo(4);
+
+            release.countDown();
+            CompletableFuture.allOf(accepted.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            first.get(10, TimeUnit.SECONDS);
+            assertThat(processed.get("attempt_full")).containsExactly(0, 1, 2, 3);
+        } finally {
+            release.countDown();
+            small.stop();
+        }
+    }
+
+    @Test
+    void processedCountersTagConfiguredEventTypesOnly() throws Exception {
+        WebSocketMessage unknown = message("attempt_metrics", 1);
+        unknown.setEventType("custom_" + System.nanoTime());
+
+        CompletableFuture.allOf(pipeline.submit(message("attempt_metrics", 0)), pipeline.submit(unknown))
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(meterRegistry.get("mission.event.processed")
+                .tags("eventType", "click", "outcome", "success").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("mission.event.processed")
+                .tags("eventType", "other", "outcome", "success").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("mission.event.processed")
+                .tag("eventType", unknown.getEventType()).counter()).isNull();
+    }
+
+    /**
+     * EventService stub: 처리 순서를 시도별로 기록하고 clientEventId로 eventId를 만듦
+     */
+    private List<EventIngestionResult> process(List<ReceivedMessage> batch) {
+        laneThreads.add(Thread.currentThread().getName());
+        List<EventIngestionResult> results = new ArrayList<>(batch.size());
+        for (ReceivedMessage received : batch) {
+            WebSocketMessage message = received.message();
+            processed.computeIfAbsent(message.getAttemptId(), key -> new ArrayList<>())
+                    .add(Integer.parseInt(message.getClientEventId()));
+            results.add(EventIngestionResult.success(message, MissionEvent.builder()
+                    .eventId("event_" + message.getClientEventId())
+                    .attemptId(message.getAttemptId())
+                    .eventType(message.getEventType())
+                    .build()));
+        }
+        return results;
+    }
+
+    private static WebSocketMessage message(String attemptId, int sequence) {
+        return WebSocketMessage.builder()
+                .eventType("click")
+                .sessionId("session-" + attemptId)
+                .attemptId(attemptId)
+                .clientEventId(String.valueOf(sequence))
+                .data(Map.of("sequence", sequence))
+                .build();
+    }
+}
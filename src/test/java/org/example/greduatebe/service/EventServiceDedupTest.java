@@ -0,0 +1,116 @@
+package org.example.greduatebe.service;
+
+import org.example.greduatebe.dto.request.WebSocketMessage;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.example.greduatebe.repository.MissionEventBatchRepository;
+import org.example.greduatebe.repository.MissionEventRepository;
+import org.example.greduatebe.support.MissionTestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * clientEventId 재전송 중복 제거 테스트
+ * 클라이언트 timestamp 없이 재전송된 이벤트(서버 수신 시각으로 timestamp가 채워짐)도
+ * 같은 eventId의 duplicate로 처리되고 한 번만 저장되는지 확인합니다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.example.greduatebe=WARN"
+})
+class EventServiceDedupTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private MissionAttemptRepository missionAttemptRepository;
+
+    @Autowired
+    private MissionEventRepository missionEventRepository;
+
+    @Autowired
+    private MissionEventBatchRepository missionEventBatchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void retriedClientEventReturnsDuplicateWithOriginalEventId() {
+        String attemptId = MissionTestFixtures.createAttempt(missionAttemptRepository);
+
+        EventIngestionResult first = process(clientMessage(attemptId, "c-1"));
+        EventIngestionResult retry = process(clientMessage(attemptId, "c-1"));
+
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(first.isDuplicate()).isFalse();
+        assertThat(retry.isSuccess()).isTrue();
+        assertThat(retry.isDuplicate()).isTrue();
+        assertThat(retry.getEvent().getEventId()).isEqualTo(first.getEvent().getEventId());
+        assertThat(missionEventRepository.countByAttemptId(attemptId)).isEqualTo(1L);
+    }
+
+    @Test
+    void retryInsideOneBatchIsStoredOnce() {
+        String attemptId = MissionTestFixtures.createAttempt(missionAttemptRepository);
+
+        List<EventIngestionResult> results = eventService.processEventBatch(List.of(
+                ReceivedMessage.now(clientMessage(attemptId, "c-1")),
+                ReceivedMessage.now(clientMessage(attemptId, "c-2")),
+                ReceivedMessage.now(clientMessage(attemptId, "c-1"))));
+
+        assertThat(results).extracting(EventIngestionResult::isDuplicate).containsExactly(false, false, true);
+        assertThat(results.get(2).getEvent().getEventId()).isEqualTo(results.get(0).getEvent().getEventId());
+        assertThat(missionEventRepository.countByAttemptId(attemptId)).isEqualTo(2L);
+    }
+
+    @Test
+    void clientKeyRejectsRetryWithDifferentTimestampAfterWindowMiss() {
+        String attemptId = MissionTestFixtures.createAttempt(missionAttemptRepository);
+        MissionEvent original = process(clientMessage(attemptId, "c-1")).getEvent();
+
+        // 중복 제거 윈도우를 거치지 않고 DB 단계만 확인 (같은 eventId, 다른 timestamp)
+        MissionEvent retry = MissionTestFixtures.newEvent(attemptId, original.getEventType(), Map.of());
+        retry.setEventId(original.getEventId());
+        retry.setTimestamp(original.getTimestamp().plusSeconds(3));
+        Set<String> inserted = transactionTemplate.execute(status ->
+                missionEventBatchRepository.insertAllReturningInserted(List.of(retry)));
+
+        assertThat(inserted).isEmpty();
+        assertThat(missionEventRepository.countByAttemptId(attemptId)).isEqualTo(1L);
+    }
+
+    private EventIngestionResult process(WebSocketMessage message) {
+        return eventService.processEventBatch(List.of(ReceivedMessage.now(message))).get(0);
+    }
+
+    /**
+     * timestamp 없이 보낸 클라이언트 이벤트 (서버가 수신 시각으로 채움)
+     */
+    private static WebSocketMessage clientMessage(String attemptId, String clientEventId) {
+        return WebSocketMessage.builder()
+                .eventType("click")
+                .sessionId("test-session")
+                .attemptId(attemptId)
+                .clientEventId(clientEventId)
+                .data(Map.of("elementId", "btn-next"))
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.greduatebe.entity.MissionAttempt;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.MissionType;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MissionAttemptRegistry 만료 테스트
+ * 만료는 레지스트리에 들어온 시각이 아니라 시도의 시작 시간 기준인지 확인합니다
+ */
+class MissionAttemptRegistryTest {
+
+    private static final long EXPIRES_IN = 3_600_000L;
+
+    private MissionAttemptRepository missionAttemptRepository;
+    private MissionAttemptRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        missionAttemptRepository = mock(MissionAttemptRepository.class);
+        registry = new MissionAttemptRegistry(missionAttemptRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(registry, "missionExpiresIn", EXPIRES_IN);
+        ReflectionTestUtils.setField(registry, "maxSize", 100);
+        registry.registerMetrics();
+    }
+
+    @Test
+    void overdueAttemptLoadedOnMissIsNotCached() {
+        MissionAttempt overdue = attempt("attempt_overdue", LocalDateTime.now().minusHours(2));
+        when(missionAttemptRepository.findByAttemptId("attempt_overdue")).thenReturn(Optional.of(overdue));
+
+        assertThat(registry.find("attempt_overdue")).isPresent();
+        assertThat(registry.find("attempt_overdue")).isPresent();
+
+        assertThat(registry.size()).isZero();
+        verify(missionAttemptRepository, times(2)).findByAttemptId("attempt_overdue");
+    }
+
+    @Test
+    void liveAttemptLoadedOnMissIsCached() {
+        MissionAttempt live = attempt("attempt_live", LocalDateTime.now().minusMinutes(10));
+        when(missionAttemptRepository.findByAttemptId("attempt_live")).thenReturn(Optional.of(live));
+
+        registry.find("attempt_live");
+        registry.find("attempt_live");
+
+        assertThat(registry.size()).isEqualTo(1);
+        verify(missionAttemptRepository, times(1)).findByAttemptId("attempt_live");
+    }
+
+    @Test
+    void registeredAttemptExpiresByStartTime() {
+        registry.register(attempt("attempt_old", LocalDateTime.now().minusHours(2)));
+        registry.register(attempt("attempt_new", LocalDateTime.now()));
+
+        registry.evictExpired();
+
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.find("attempt_new")).isPresent();
+    }
+
+    private static MissionAttempt attempt(String attemptId, LocalDateTime startTime) {
+        return MissionAttempt.builder()
+                .attemptId(attemptId)
+                .sessionId("test-session")
+                .missionType(MissionType.PORTFOLIO)
+                .missionName("Portfolio Mission")
+                .startTime(startTime)
+                .status(MissionStatus.IN_PROGRESS)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.greduatebe.service;
+
+import org.example.greduatebe.entity.MissionAttempt;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.example.greduatebe.repository.MissionEventBatchRepository;
+import org.example.greduatebe.support.MissionTestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MissionExpirySweeper 만료 조건 테스트
+ * 기한이 지났어도 종료 이벤트가 저장된 시도는 만료시키지 않고 (후처리 대기 중), 종료 이벤트가 없는 시도만
+ * 소요 시간과 함께 EXPIRED로 바뀌는지 확인합니다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.example.greduatebe=WARN",
+        "mission.expiry.batch-size=" + MissionExpirySweeperTest.BATCH_SIZE
+})
+class MissionExpirySweeperTest {
+
+    static final int BATCH_SIZE = 5;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MissionExpirySweeper sweeper;
+
+    @Autowired
+    private MissionAttemptRepository missionAttemptRepository;
+
+    @Autowired
+    private MissionEventBatchRepository missionEventBatchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void overdueAttemptWithStoredEndEventIsNotExpired() {
+        String attemptId = MissionTestFixtures.createAttempt(missionAttemptRepository, LocalDateTime.now().minusHours(2));
+        // 종료 이벤트는 저장되었지만 후처리(상태 반영)는 아직 끝나지 않은 상태
+        transactionTemplate.executeWithoutResult(status -> missionEventBatchRepository.insertAllReturningInserted(
+                List.of(MissionTestFixtures.newEvent(attemptId, "mission_completed", Map.of()))));
+
+        sweeper.catchUp();
+
+        assertThat(attempt(attemptId).getStatus()).isEqualTo(MissionStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void overdueAttemptWithoutEndEventIsExpiredWithDuration() {
+        String attemptId = MissionTestFixtures.createAttempt(missionAttemptRepository, LocalDateTime.now().minusHours(2));
+
+        sweeper.catchUp();
+
+        MissionAttempt expired = attempt(attemptId);
+        assertThat(expired.getStatus()).isEqualTo(MissionStatus.EXPIRED);
+        assertThat(expired.getEndTime()).isNotNull();
+        assertThat(expired.getTotalDuration()).isGreaterThanOrEqualTo(BigDecimal.valueOf(7200));
+    }
+
+    @Test
+    void attemptsWaitingForFinalizationDoNotBlockCatchUp() {
+        // 배치 크기보다 많은, 더 오래된 종료 이벤트 보유 시도 (ORDER BY start_time에서 먼저 나옴)
+        List<String> finalizing = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE * 2 + 1; i++) {
+            finalizing.add(MissionTestFixtures.createAttempt(missionAttemptRepository,
+                    LocalDateTime.now().minusHours(5).plusMinutes(i)));
+        }
+        transactionTemplate.executeWithoutResult(status -> missionEventBatchRepository.insertAllReturningInserted(
+                finalizing.stream()
+                        .map(attemptId -> MissionTestFixtures.newEvent(attemptId, "mission_quitted", Map.of()))
+                        .toList()));
+        String abandoned = MissionTestFixtures.createAttempt(missionAttemptRepository, LocalDateTime.now().minusHours(2));
+
+        sweeper.catchUp();
+
+        assertThat(attempt(abandoned).getStatus()).isEqualTo(MissionStatus.EXPIRED);
+        assertThat(finalizing).allSatisfy(attemptId ->
+                assertThat(attempt(attemptId).getStatus()).isEqualTo(MissionStatus.IN_PROGRESS));
+    }
+
+    private MissionAttempt attempt(String attemptId) {
+        return missionAttemptRepository.findByAttemptId(attemptId).orElseThrow();
+    }
+}
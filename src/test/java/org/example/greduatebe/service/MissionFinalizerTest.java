@@ -0,0 +1,138 @@
+package org.example.greduatebe.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.MissionType;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.example.greduatebe.repository.MissionEventRepository;
+import org.example.greduatebe.service.MissionAttemptRegistry.AttemptInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * MissionFinalizer 재시도/복구 테스트
+ * 저장소와 집계는 mock으로 대체하고, 후처리 스레드에서 호출되는 순서와 횟수를 확인합니다
+ */
+class MissionFinalizerTest {
+
+    private static final String ATTEMPT_ID = "attempt_finalizer";
+
+    private final LocalDateTime startTime = LocalDateTime.now().minusMinutes(5);
+
+    private MissionAttemptRepository missionAttemptRepository;
+    private MissionEventRepository missionEventRepository;
+    private DashboardAggregates dashboardAggregates;
+    private MissionFinalizer finalizer;
+
+    @BeforeEach
+    void setUp() {
+        missionAttemptRepository = mock(MissionAttemptRepository.class);
+        missionEventRepository = mock(MissionEventRepository.class);
+        dashboardAggregates = mock(DashboardAggregates.class);
+        MissionAttemptRegistry attemptRegistry = mock(MissionAttemptRegistry.class);
+        when(attemptRegistry.get(ATTEMPT_ID)).thenReturn(new AttemptInfo(ATTEMPT_ID, MissionType.PORTFOLIO,
+                startTime, MissionStatus.IN_PROGRESS));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        finalizer = new MissionFinalizer(missionAttemptRepository, missionEventRepository, attemptRegistry,
+                mock(ReviewService.class), dashboardAggregates, mock(AttemptDetailCache.class),
+                transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(finalizer, "maxRetries", 3);
+        ReflectionTestUtils.setField(finalizer, "retryBackoffMs", 10L);
+        ReflectionTestUtils.setField(finalizer, "maxBackoffMs", 20L);
+        ReflectionTestUtils.setField(finalizer, "recoveryWindowMs", 86_400_000L);
+        finalizer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        finalizer.stop();
+    }
+
+    @Test
+    void missionEndIsRetriedAfterDatabaseFailure() {
+        when(missionAttemptRepository.updateEndStateIfInProgress(eq(ATTEMPT_ID), any(), any(), eq(MissionStatus.COMPLETED)))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenReturn(1);
+
+        finalizer.submit(endEvent("mission_completed"));
+
+        verify(missionAttemptRepository, timeout(2000).times(2))
+                .updateEndStateIfInProgress(eq(ATTEMPT_ID), any(), any(), eq(MissionStatus.COMPLETED));
+        verify(dashboardAggregates, timeout(2000).times(1)).onAttemptEnded(eq(MissionType.PORTFOLIO),
+                eq(startTime), eq(MissionStatus.IN_PROGRESS), eq(MissionStatus.COMPLETED), any());
+    }
+
+    @Test
+    void missionEndKeepsRetryingAfterMaxRetries() {
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("database down");
+        when(missionAttemptRepository.updateEndStateIfInProgress(eq(ATTEMPT_ID), any(), any(), eq(MissionStatus.COMPLETED)))
+                .thenThrow(failure, failure, failure, failure, failure)
+                .thenReturn(1);
+
+        finalizer.submit(endEvent("mission_completed"));
+
+        // max-retries(3)를 넘어도 버리지 않고 max-backoff-ms 간격으로 계속 재시도
+        verify(missionAttemptRepository, timeout(2000).times(6))
+                .updateEndStateIfInProgress(eq(ATTEMPT_ID), any(), any(), eq(MissionStatus.COMPLETED));
+        verify(dashboardAggregates, timeout(2000).times(1)).onAttemptEnded(eq(MissionType.PORTFOLIO),
+                eq(startTime), eq(MissionStatus.IN_PROGRESS), eq(MissionStatus.COMPLETED), any());
+    }
+
+    @Test
+    void alreadyEndedAttemptDoesNotTouchAggregates() {
+        when(missionAttemptRepository.updateEndStateIfInProgress(eq(ATTEMPT_ID), any(), any(), any()))
+                .thenReturn(0);
+
+        finalizer.submit(endEvent("mission_quitted"));
+
+        verify(missionAttemptRepository, timeout(2000))
+                .updateEndStateIfInProgress(eq(ATTEMPT_ID), any(), any(), eq(MissionStatus.QUITTED));
+        verify(dashboardAggregates, after(200).never()).onAttemptEnded(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void recoverResubmitsUnfinalizedEvents() {
+        when(missionEventRepository.findUnfinalizedEvents(any())).thenReturn(List.of(endEvent("mission_completed")));
+        when(missionAttemptRepository.updateEndStateIfInProgress(eq(ATTEMPT_ID), any(), any(), any()))
+                .thenReturn(1);
+
+        finalizer.recover();
+
+        verify(missionAttemptRepository, timeout(2000))
+                .updateEndStateIfInProgress(eq(ATTEMPT_ID), any(), any(), eq(MissionStatus.COMPLETED));
+        verify(dashboardAggregates, timeout(2000)).onAttemptEnded(any(), any(),
+                eq(MissionStatus.IN_PROGRESS), eq(MissionStatus.COMPLETED), any());
+        verify(missionAttemptRepository, after(200).times(1)).updateEndStateIfInProgress(any(), any(), any(), any());
+    }
+
+    private MissionEvent endEvent(String eventType) {
+        return MissionEvent.builder()
+                .eventId("event_" + eventType)
+                .attemptId(ATTEMPT_ID)
+                .eventType(eventType)
+                .timestamp(startTime.plusMinutes(3))
+                .data(Map.of())
+                .build();
+    }
+}
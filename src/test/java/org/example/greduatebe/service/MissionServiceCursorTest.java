@@ -0,0 +1,107 @@
+package org.example.greduatebe.service;
+
+import org.example.greduatebe.dto.response.CursorPageResponse;
+import org.example.greduatebe.dto.response.MissionDetailResponse;
+import org.example.greduatebe.exception.InvalidRequestException;
+import org.example.greduatebe.repository.MissionAttemptListRepository;
+import org.example.greduatebe.repository.MissionAttemptListRepository.Cursor;
+import org.example.greduatebe.repository.MissionAttemptListRepository.ListRow;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 미션 시도 목록 커서 인코딩/디코딩 테스트
+ * 저장소는 mock으로 대체하고, nextCursor가 다음 조회의 페이징 키로 그대로 돌아오는지 확인합니다
+ */
+class MissionServiceCursorTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000);
+
+    private MissionAttemptListRepository missionAttemptListRepository;
+    private MissionService missionService;
+
+    @BeforeEach
+    void setUp() {
+        missionAttemptListRepository = mock(MissionAttemptListRepository.class);
+        missionService = new MissionService(mock(MissionAttemptRepository.class), missionAttemptListRepository,
+                mock(MissionAttemptRegistry.class), mock(DashboardAggregates.class),
+                mock(MissionExpirySweeper.class), mock(AttemptDetailCache.class));
+    }
+
+    @Test
+    void nextCursorRoundTripsToLastRowKey() {
+        when(missionAttemptListRepository.findPage(any(), any(), any(), any(), isNull(), eq(3)))
+                .thenReturn(rows(3));
+
+        CursorPageResponse<MissionDetailResponse> page = missionService.listMissionAttempts(
+                null, null, null, null, null, 2);
+
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        missionService.listMissionAttempts(null, null, null, null, page.getNextCursor(), 2);
+
+        // 두 번째 행(id 99)의 키가 다음 조회의 after로 전달됨
+        verify(missionAttemptListRepository).findPage(null, null, null, null,
+                new Cursor(START_TIME, 99L), 3);
+    }
+
+    @Test
+    void exactlyPageSizeRowsHasNoNextPage() {
+        when(missionAttemptListRepository.findPage(any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(rows(2));
+
+        CursorPageResponse<MissionDetailResponse> page = missionService.listMissionAttempts(
+                null, null, null, null, null, 2);
+
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getContent()).hasSize(2);
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        String notBase64 = "not a cursor!";
+        String noSeparator = encode("2025-03-01T10:15:30");
+        String badId = encode("2025-03-01T10:15:30|abc");
+        String badTime = encode("yesterday|42");
+
+        for (String cursor : List.of(notBase64, noSeparator, badId, badTime)) {
+            assertThatThrownBy(() -> missionService.listMissionAttempts(null, null, null, null, cursor, 20))
+                    .as(cursor)
+                    .isInstanceOf(InvalidRequestException.class);
+        }
+    }
+
+    /**
+     * 같은 start_time, id 내림차순 (100, 99, 98, ...)
+     */
+    private static List<ListRow> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ListRow(new Cursor(START_TIME, 100L - i),
+                        MissionDetailResponse.builder().attemptId("attempt_" + (100 - i)).startTime(START_TIME).build()))
+                .toList();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.greduatebe.service;
+
+import org.example.greduatebe.service.StepTimeStatistics.StepBaseline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * StepTimeStatistics 히스토그램/백분위 테스트
+ * 버킷 폭은 0.5초이고 백분위는 해당 샘플이 속한 버킷의 상한으로 근사합니다
+ */
+class StepTimeStatisticsTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private StepTimeStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        statistics = new StepTimeStatistics(jdbcTemplate);
+        ReflectionTestUtils.setField(statistics, "slowPercentile", 0);
+        ReflectionTestUtils.setField(statistics, "minSamples", 5L);
+    }
+
+    @Test
+    void baselineUsesBucketUpperBounds() {
+        for (int seconds = 1; seconds <= 10; seconds++) {
+            statistics.record(1, seconds);
+        }
+
+        StepBaseline baseline = statistics.getBaseline(1).orElseThrow();
+
+        assertThat(baseline.sampleCount()).isEqualTo(10);
+        assertThat(baseline.average()).isEqualByComparingTo("5.5");
+        // 5번째 샘플(5.0초)은 [5.0, 5.5) 버킷, 9번째 샘플(9.0초)은 [9.0, 9.5) 버킷
+        assertThat(baseline.p50()).isEqualByComparingTo("5.5");
+        assertThat(baseline.p90()).isEqualByComparingTo("9.5");
+        assertThat(statistics.getBaseline(2)).isEmpty();
+    }
+
+    @Test
+    void samplesBeyondLastBucketAreClamped() {
+        statistics.record(1, 1.0);
+        statistics.record(1, 7_200.0);
+
+        StepBaseline baseline = statistics.getBaseline(1).orElseThrow();
+
+        assertThat(baseline.p90()).isEqualByComparingTo("600");
+        assertThat(baseline.average()).isEqualByComparingTo("3600.5");
+    }
+
+    @Test
+    void slowStepUsesPercentileOnlyWithEnoughSamples() {
+        ReflectionTestUtils.setField(statistics, "slowPercentile", 90);
+        for (int seconds = 1; seconds <= 4; seconds++) {
+            statistics.record(1, seconds);
+        }
+
+        // 샘플 4개 < min-samples 5: 평균(2.5초)의 2배 기준
+        assertThat(statistics.isSlow(1, new BigDecimal("5.1"))).isTrue();
+        assertThat(statistics.isSlow(1, new BigDecimal("4.9"))).isFalse();
+
+        for (int seconds = 5; seconds <= 10; seconds++) {
+            statistics.record(1, seconds);
+        }
+
+        // p90 = 9.5초
+        assertThat(statistics.isSlow(1, new BigDecimal("9.6"))).isTrue();
+        assertThat(statistics.isSlow(1, new BigDecimal("9.4"))).isFalse();
+        assertThat(statistics.isSlow(2, new BigDecimal("100"))).isFalse();
+    }
+
+    @Test
+    void samplesRecordedDuringReconcileAreKept() {
+        doAnswer(invocation -> {
+            // DB 조회 중에 기록된 샘플 (조회 결과에는 없음)
+            statistics.record(1, 3.0);
+            statistics.record(2, 1.0);
+
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(bucketRow(1, 2, 4, new BigDecimal("4.4")));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(), any());
+
+        statistics.record(1, 100.0);  // 조회 전 기록은 DB 결과로 대체됨
+        statistics.reconcile();
+
+        assertThat(statistics.getBaseline(1).orElseThrow().sampleCount()).isEqualTo(5);
+        assertThat(statistics.getBaseline(1).orElseThrow().average()).isEqualByComparingTo("1.48");
+        assertThat(statistics.getBaseline(2).orElseThrow().sampleCount()).isEqualTo(1);
+    }
+
+    private static ResultSet bucketRow(int step, int bucket, long count, BigDecimal total) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getInt("step")).thenReturn(step);
+        when(rs.getInt("bucket")).thenReturn(bucket);
+        when(rs.getLong("sample_count")).thenReturn(count);
+        when(rs.getBigDecimal("total_time")).thenReturn(total);
+        return rs;
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.greduatebe.support;
+
+import org.example.greduatebe.entity.MissionAttempt;
+import org.example.greduatebe.entity.MissionEvent;
+import org.example.greduatebe.entity.MissionStatus;
+import org.example.greduatebe.entity.MissionType;
+import org.example.greduatebe.repository.MissionAttemptRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 통합 테스트/벤치마크 공용 fixture
+ * 서비스 경로(레지스트리, 집계, 만료 큐)를 거치지 않고 DB에 직접 시도/이벤트를 만듭니다
+ */
+public final class MissionTestFixtures {
+
+    private MissionTestFixtures() {
+    }
+
+    /**
+     * 진행 중인 PORTFOLIO 시도 저장 (지금 시작)
+     * @return attemptId
+     */
+    public static String createAttempt(MissionAttemptRepository repository) {
+        return createAttempt(repository, LocalDateTime.now());
+    }
+
+    /**
+     * 진행 중인 PORTFOLIO 시도 저장
+     * @param startTime 시작 시간
+     * @return attemptId
+     */
+    public static String createAttempt(MissionAttemptRepository repository, LocalDateTime startTime) {
+        String attemptId = "attempt_" + UUID.randomUUID().toString().replace("-", "");
+        repository.save(MissionAttempt.builder()
+                .attemptId(attemptId)
+                .sessionId(UUID.randomUUID().toString())
+                .missionType(MissionType.PORTFOLIO)
+                .missionName("Portfolio Mission")
+                .startTime(startTime)
+                .status(MissionStatus.IN_PROGRESS)
+                .build());
+        return attemptId;
+    }
+
+    /**
+     * 서버 생성 eventId를 가진 MissionEvent (저장 전)
+     */
+    public static MissionEvent newEvent(String attemptId, String eventType, Map<String, Object> data) {
+        return MissionEvent.builder()
+                .eventId("event_" + UUID.randomUUID().toString().replace("-", ""))
+                .attemptId(attemptId)
+                .sessionId("test-session")
+                .eventType(eventType)
+                .timestamp(LocalDateTime.now())
+                .data(data)
+                .receivedAt(LocalDateTime.now())
+                .processingTime(0L)
+                .build();
+    }
+
+    /**
+     * 조건이 참이 될 때까지 대기 (비동기 후처리 확인용)
+     * @throws AssertionError timeout 안에 참이 되지 않은 경우
+     */
+    public static void await(String description, Duration timeout, BooleanSupplier condition) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Timed out after " + timeout.toMillis() + "ms waiting for " + description);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted while waiting for " + description, e);
+            }
+        }
+    }
+}